@@ -0,0 +1,99 @@
+package lipam.board.benchmarks;
+
+import lipam.board.common.event.Event;
+import lipam.board.common.event.EventPayload;
+import lipam.board.common.event.EventType;
+import lipam.board.common.event.payload.*;
+
+import java.time.LocalDateTime;
+
+// 벤치마크에서 공통으로 사용하는 이벤트 샘플
+// 실제 서비스에서 발행하는 값과 비슷한 크기가 되도록 ID 는 Snowflake 범위, 본문은 수백 자로 채운다.
+public final class EventFixtures {
+
+    private static final long EVENT_ID = 190129483204198403L;
+    private static final long ARTICLE_ID = 190129483204198400L;
+    private static final String TITLE = "게시글 제목입니다";
+    private static final String CONTENT = "게시글 본문입니다. ".repeat(50);
+
+    private EventFixtures() {
+    }
+
+    public static Event<EventPayload> createEvent(EventType type) {
+        return Event.of(EVENT_ID, type, createPayload(type));
+    }
+
+    public static EventPayload createPayload(EventType type) {
+        LocalDateTime now = LocalDateTime.now();
+        return switch (type) {
+            case ARTICLE_CREATED -> ArticleCreatedEventPayload.builder()
+                    .articleId(ARTICLE_ID)
+                    .title(TITLE)
+                    .content(CONTENT)
+                    .boardId(1L)
+                    .writerId(1L)
+                    .createdAt(now)
+                    .modifiedAt(now)
+                    .boardArticleCount(1200000L)
+                    .build();
+            case ARTICLE_UPDATED -> ArticleUpdatedEventPayload.builder()
+                    .articleId(ARTICLE_ID)
+                    .title(TITLE)
+                    .content(CONTENT)
+                    .boardId(1L)
+                    .writerId(1L)
+                    .createdAt(now)
+                    .modifiedAt(now)
+                    .build();
+            case ARTICLE_DELETED -> ArticleDeletedEventPayload.builder()
+                    .articleId(ARTICLE_ID)
+                    .title(TITLE)
+                    .content(CONTENT)
+                    .boardId(1L)
+                    .writerId(1L)
+                    .createdAt(now)
+                    .modifiedAt(now)
+                    .boardArticleCount(1199999L)
+                    .build();
+            case COMMENT_CREATED -> CommentCreatedEventPayload.builder()
+                    .commentId(190129483204198401L)
+                    .content("댓글 내용입니다")
+                    .path(null)
+                    .articleId(ARTICLE_ID)
+                    .writerId(1L)
+                    .deleted(false)
+                    .createdAt(now)
+                    .articleCommentCount(10L)
+                    .build();
+            case COMMENT_DELETED -> CommentDeletedEventPayload.builder()
+                    .commentId(190129483204198401L)
+                    .content("댓글 내용입니다")
+                    .path(null)
+                    .articleId(ARTICLE_ID)
+                    .writerId(1L)
+                    .deleted(true)
+                    .createdAt(now)
+                    .articleCommentCount(9L)
+                    .build();
+            case ARTICLE_LIKED -> ArticleLikedEventPayload.builder()
+                    .articleLikeId(190129483204198402L)
+                    .articleId(ARTICLE_ID)
+                    .userId(1L)
+                    .createdAt(now)
+                    .articleLikeCount(10L)
+                    .build();
+            case ARTICLE_UNLIKED -> ArticleUnlikedEventPayload.builder()
+                    .articleLikeId(190129483204198402L)
+                    .articleId(ARTICLE_ID)
+                    .userId(1L)
+                    .createdAt(now)
+                    .articleLikeCount(9L)
+                    .build();
+            case ARTICLE_VIEWED -> ArticleViewedEventPayload.builder()
+                    .articleId(ARTICLE_ID)
+                    .articleViewCount(100L)
+                    .build();
+        };
+    }
+
+}
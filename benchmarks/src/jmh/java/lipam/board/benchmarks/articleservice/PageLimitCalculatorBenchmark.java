@@ -0,0 +1,34 @@
+package lipam.board.benchmarks.articleservice;
+
+import lipam.board.article.service.PageLimitCalculator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 게시글 목록 조회(count 쿼리의 limit 계산)마다 호출되는 PageLimitCalculator.calculatePageLimit() 를 측정한다.
+// Long 박싱/언박싱 비용이 포함되도록 서비스와 같은 Long 인자로 호출한다. (comment 서비스의 PageLimitCalculator 도 같은 구현이다.)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PageLimitCalculatorBenchmark {
+
+    @Param({"1", "5000", "50000"})
+    private long page;
+
+    private Long pageValue;
+    private Long pageSize;
+    private Long movablePageCount;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pageValue = page;
+        pageSize = 30L;
+        movablePageCount = 10L;
+    }
+
+    @Benchmark
+    public Long calculatePageLimit() {
+        return PageLimitCalculator.calculatePageLimit(pageValue, pageSize, movablePageCount);
+    }
+
+}
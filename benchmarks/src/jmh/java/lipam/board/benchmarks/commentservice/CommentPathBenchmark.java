@@ -0,0 +1,41 @@
+package lipam.board.benchmarks.commentservice;
+
+import lipam.board.comment.entity.CommentPath;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 댓글 작성 시 호출되는 CommentPath.createChileCommentPath() 를 부모 댓글의 뎁스별로 측정한다.
+// - firstChild: 자식 댓글이 아직 없는 경우 (descendantsTopPath = null)
+// - nextChild : 이미 자식 댓글이 있어서 가장 큰 자식 경로를 62진수로 +1 하는 경우
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CommentPathBenchmark {
+
+    private static final String CHUNK = "0a1B2";
+
+    @Param({"1", "2", "4"})
+    private int parentDepth;
+
+    private CommentPath parentPath;
+    private String descendantsTopPath;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        parentPath = CommentPath.create(CHUNK.repeat(parentDepth));
+        // 부모 바로 아래 자식의 마지막 청크가 "zzzzy" 이고, 그 아래 손자까지 있는 경우 (carry 가 가장 많이 발생한다.)
+        descendantsTopPath = parentPath.getPath() + "zzzzy" + (parentDepth < 4 ? CHUNK : "");
+    }
+
+    @Benchmark
+    public CommentPath firstChild() {
+        return parentPath.createChileCommentPath(null);
+    }
+
+    @Benchmark
+    public CommentPath nextChild() {
+        return parentPath.createChileCommentPath(descendantsTopPath);
+    }
+
+}
@@ -0,0 +1,74 @@
+package lipam.board.benchmarks.dataserializer;
+
+import lipam.board.benchmarks.EventFixtures;
+import lipam.board.common.dataserializer.DataCodec;
+import lipam.board.common.dataserializer.DataCodecs;
+import lipam.board.common.dataserializer.DataSerializer;
+import lipam.board.common.event.Event;
+import lipam.board.common.event.EventPayload;
+import lipam.board.common.event.EventType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 코덱(JSON/CBOR/Smile)별로 common:event 의 실제 이벤트를 인코딩/디코딩하는 비용과 인코딩 크기를 비교한다.
+// - 처리량: encode / decode 벤치마크 결과
+// - 할당량: gc 프로파일러의 gc.alloc.rate.norm
+// - 크기  : 보조 카운터 encodedBytes / jsonBytes (포맷 마커 1바이트 포함, results.json 의 secondaryMetrics 에 기록)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DataCodecBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    private String codecName;
+
+    @Param({"ARTICLE_CREATED", "COMMENT_CREATED", "ARTICLE_LIKED", "ARTICLE_VIEWED"})
+    private String eventType;
+
+    private DataCodec codec;
+    private Event<EventPayload> event;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        codec = DataCodecs.of(codecName);
+        event = EventFixtures.createEvent(EventType.valueOf(eventType));
+        encoded = DataSerializer.serializeToBytes(event, codec);
+    }
+
+    @Benchmark
+    public byte[] encode(EncodedSize encodedSize) {
+        return DataSerializer.serializeToBytes(event, codec);
+    }
+
+    @Benchmark
+    public Event<?> decode(EncodedSize encodedSize) {
+        return DataSerializer.deserialize(encoded, Event.class);
+    }
+
+    // 인코딩 크기를 JMH 보조 카운터로 기록한다. (EVENTS 타입이라 시간으로 나누지 않고 값 그대로 기록)
+    // public 필드는 iteration 시작 시 JMH 가 0 으로 초기화하므로, 크기는 private 필드에 두고 public 메서드로 읽게 한다.
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+
+        private long encodedBytes; // 현재 코덱의 인코딩 크기
+        private long jsonBytes; // 같은 이벤트의 JSON 인코딩 크기 (비교 기준)
+
+        @Setup(Level.Trial)
+        public void setUp(DataCodecBenchmark benchmark) {
+            encodedBytes = benchmark.encoded.length;
+            jsonBytes = DataSerializer.serializeToBytes(benchmark.event, DataCodecs.JSON).length;
+        }
+
+        public long encodedBytes() {
+            return encodedBytes;
+        }
+
+        public long jsonBytes() {
+            return jsonBytes;
+        }
+    }
+
+}
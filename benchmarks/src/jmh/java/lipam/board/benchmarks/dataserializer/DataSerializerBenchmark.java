@@ -0,0 +1,47 @@
+package lipam.board.benchmarks.dataserializer;
+
+import lipam.board.benchmarks.EventFixtures;
+import lipam.board.common.dataserializer.DataSerializer;
+import lipam.board.common.event.EventPayload;
+import lipam.board.common.event.EventType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 모든 EventPayload 타입에 대해 DataSerializer 의 직렬화 -> 역직렬화 왕복(round trip) 비용을 측정한다.
+// - String: 기존 경로 (serialize / deserialize(String))
+// - bytes : String 을 거치지 않는 경로 (serializeToBytes / deserialize(byte[]))
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DataSerializerBenchmark {
+
+    @Param({
+            "ARTICLE_CREATED", "ARTICLE_UPDATED", "ARTICLE_DELETED",
+            "COMMENT_CREATED", "COMMENT_DELETED",
+            "ARTICLE_LIKED", "ARTICLE_UNLIKED",
+            "ARTICLE_VIEWED"
+    })
+    private String eventType;
+
+    private Class<? extends EventPayload> payloadClass;
+    private EventPayload payload;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        EventType type = EventType.valueOf(eventType);
+        payloadClass = type.getPayloadClass();
+        payload = EventFixtures.createPayload(type);
+    }
+
+    @Benchmark
+    public EventPayload roundTripString() {
+        return DataSerializer.deserialize(DataSerializer.serialize(payload), payloadClass);
+    }
+
+    @Benchmark
+    public EventPayload roundTripBytes() {
+        return DataSerializer.deserialize(DataSerializer.serializeToBytes(payload), payloadClass);
+    }
+
+}
@@ -0,0 +1,68 @@
+package lipam.board.benchmarks.event;
+
+import lipam.board.common.dataserializer.DataSerializer;
+import lipam.board.common.event.Event;
+import lipam.board.common.event.EventPayload;
+import lipam.board.common.event.EventType;
+import lipam.board.common.event.payload.ArticleCreatedEventPayload;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+// Event.fromJson 역직렬화 비교 (Kafka 메시지 1건 = 연산 1회)
+// - legacy: EventRow(Object payload)로 한 번 파싱해서 LinkedHashMap 트리를 만든 뒤, convertValue 로 다시 타입 변환 (기존 방식)
+// - singlePass: EventDeserializer 로 type 을 먼저 읽고 payload 를 바로 타입에 바인딩 (현재 방식)
+// 연산 1회당 할당량은 gc 프로파일러의 gc.alloc.rate.norm 으로 확인한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EventDeserializationBenchmark {
+
+    private String typeFirstJson;
+    private String payloadFirstJson;
+
+    @Setup
+    public void setUp() {
+        ArticleCreatedEventPayload payload = ArticleCreatedEventPayload.builder()
+                .articleId(1L)
+                .title("title")
+                .content("content".repeat(100))
+                .boardId(1L)
+                .writerId(1L)
+                .createdAt(LocalDateTime.now())
+                .modifiedAt(LocalDateTime.now())
+                .boardArticleCount(23L)
+                .build();
+
+        typeFirstJson = Event.of(1234L, EventType.ARTICLE_CREATED, payload).toJson();
+        payloadFirstJson = "{\"payload\":%s,\"eventId\":1234,\"type\":\"ARTICLE_CREATED\"}"
+                .formatted(DataSerializer.serialize(payload));
+    }
+
+    @Benchmark
+    public EventPayload legacy() {
+        LegacyEventRow eventRow = DataSerializer.deserialize(typeFirstJson, LegacyEventRow.class);
+        EventType type = EventType.from(eventRow.type);
+        return DataSerializer.deserialize(eventRow.payload, type.getPayloadClass());
+    }
+
+    @Benchmark
+    public Event<EventPayload> singlePass() {
+        return Event.fromJson(typeFirstJson);
+    }
+
+    // payload 가 type 보다 먼저 나오면 payload 를 TokenBuffer 에 담았다가 바인딩한다.
+    @Benchmark
+    public Event<EventPayload> singlePassPayloadFirst() {
+        return Event.fromJson(payloadFirstJson);
+    }
+
+    // 기존 Event.EventRow 와 동일한 구조
+    public static class LegacyEventRow {
+        public Long eventId;
+        public String type;
+        public Object payload;
+    }
+
+}
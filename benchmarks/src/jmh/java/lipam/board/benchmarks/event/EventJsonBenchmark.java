@@ -0,0 +1,44 @@
+package lipam.board.benchmarks.event;
+
+import lipam.board.benchmarks.EventFixtures;
+import lipam.board.common.event.Event;
+import lipam.board.common.event.EventPayload;
+import lipam.board.common.event.EventType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Outbox 에 저장되는 Event.toJson() 과 Consumer 에서 호출하는 Event.fromJson() 을 이벤트 타입별로 측정한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EventJsonBenchmark {
+
+    @Param({
+            "ARTICLE_CREATED", "ARTICLE_UPDATED", "ARTICLE_DELETED",
+            "COMMENT_CREATED", "COMMENT_DELETED",
+            "ARTICLE_LIKED", "ARTICLE_UNLIKED",
+            "ARTICLE_VIEWED"
+    })
+    private String eventType;
+
+    private Event<EventPayload> event;
+    private String json;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        event = EventFixtures.createEvent(EventType.valueOf(eventType));
+        json = event.toJson();
+    }
+
+    @Benchmark
+    public String toJson() {
+        return event.toJson();
+    }
+
+    @Benchmark
+    public Event<EventPayload> fromJson() {
+        return Event.fromJson(json);
+    }
+
+}
@@ -0,0 +1,46 @@
+package lipam.board.benchmarks.outboxmessagerelay;
+
+import lipam.board.common.outboxmessagerelay.AssignedShard;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// MessageRelay 가 미전송 이벤트를 polling 할 때마다 호출하는 AssignedShard.of() / ofRendezvous() 를 애플리케이션 수별로 측정한다.
+// 현재 애플리케이션이 정렬된 목록의 마지막에 있는 경우(appId 탐색이 가장 오래 걸리는 경우)를 기준으로 한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AssignedShardBenchmark {
+
+    @Param({"4", "100", "10000"})
+    private int appCount;
+
+    @Param({"4", "256", "1024"})
+    private long shardCount;
+
+    private List<String> appIds;
+    private String appId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        appIds = IntStream.range(0, appCount)
+                .mapToObj("app-%05d"::formatted)
+                .sorted()
+                .toList();
+        appId = appIds.get(appIds.size() - 1);
+    }
+
+    @Benchmark
+    public AssignedShard of() {
+        return AssignedShard.of(appId, appIds, shardCount);
+    }
+
+    // 샤드마다 모든 애플리케이션의 가중치를 계산하므로 O(샤드 수 x 애플리케이션 수)
+    @Benchmark
+    public AssignedShard ofRendezvous() {
+        return AssignedShard.ofRendezvous(appId, appIds, shardCount);
+    }
+
+}
@@ -0,0 +1,92 @@
+package lipam.board.benchmarks.snowflake;
+
+import lipam.board.common.snowflake.LockFreeSnowflake;
+import lipam.board.common.snowflake.Snowflake;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 하나의 Snowflake 인스턴스를 여러 스레드가 공유할 때(서비스 빈, OutboxEventPublisher 와 같은 상황)
+// synchronized 기반 Snowflake 와 CAS 기반 LockFreeSnowflake 의 처리량을 스레드 수(1/4/16/64)별로 비교한다.
+// 1ms 당 시퀀스가 4096 개이므로, 두 구현 모두 이론상 최대 처리량은 약 4,096,000 ops/s 이다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SnowflakeBenchmark {
+
+    private static final int BATCH_SIZE = 64;
+
+    private Snowflake snowflake;
+    private LockFreeSnowflake lockFreeSnowflake;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        snowflake = new Snowflake();
+        lockFreeSnowflake = new LockFreeSnowflake();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long synchronized_1() {
+        return snowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long synchronized_4() {
+        return snowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public long synchronized_16() {
+        return snowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public long synchronized_64() {
+        return snowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long lockFree_1() {
+        return lockFreeSnowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long lockFree_4() {
+        return lockFreeSnowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public long lockFree_16() {
+        return lockFreeSnowflake.nextId();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public long lockFree_64() {
+        return lockFreeSnowflake.nextId();
+    }
+
+    // nextIds(n) 로 한 번에 예약하면 CAS 경합이 1/n 로 줄어든다.
+    // @OperationsPerInvocation 으로 인해 결과 ops/s 는 초당 발급된 ID 수로 환산되어 출력된다.
+    @Benchmark
+    @Threads(16)
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long[] lockFreeBatch_16() {
+        return lockFreeSnowflake.nextIds(BATCH_SIZE);
+    }
+
+    @Benchmark
+    @Threads(64)
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long[] lockFreeBatch_64() {
+        return lockFreeSnowflake.nextIds(BATCH_SIZE);
+    }
+
+}
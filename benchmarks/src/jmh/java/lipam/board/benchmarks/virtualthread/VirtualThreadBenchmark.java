@@ -0,0 +1,81 @@
+package lipam.board.benchmarks.virtualthread;
+
+import lipam.board.common.snowflake.LockFreeSnowflake;
+import lipam.board.common.snowflake.Snowflake;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+// 블로킹 I/O 가 섞인 요청을 높은 동시성으로 처리할 때 플랫폼 스레드 풀과 가상 스레드의 처리량을 비교한다.
+// 요청 1건 = ID 발급(Snowflake) + I/O 대기(RestClient/Redis/JDBC 왕복을 sleep 으로 흉내)
+// - platform: Tomcat 기본 최대 요청 스레드 수(200)와 같은 크기의 고정 스레드 풀
+// - virtual : 요청마다 가상 스레드
+// 연산 1회 = concurrency 개의 요청을 동시에 제출하고 모두 끝날 때까지 대기 (초당 처리 요청 수 = 점수 x concurrency)
+// 가상 스레드의 pinning 여부는 -Djdk.tracePinnedThreads=short 로 확인할 수 있다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class VirtualThreadBenchmark {
+
+    private static final int PLATFORM_THREADS = 200;
+    private static final long IO_MILLIS = 10;
+
+    @Param({"200", "2000"})
+    private int concurrency;
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    @Param({"snowflake", "lockFree"})
+    private String idGenerator;
+
+    private ExecutorService executorService;
+    private LongSupplier nextId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executorService = "virtual".equals(mode)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_THREADS);
+
+        if ("lockFree".equals(idGenerator)) {
+            LockFreeSnowflake lockFreeSnowflake = new LockFreeSnowflake();
+            nextId = lockFreeSnowflake::nextId;
+        } else {
+            Snowflake snowflake = new Snowflake();
+            nextId = snowflake::nextId;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Benchmark
+    public long handleRequests() throws Exception {
+        List<Future<Long>> futures = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(executorService.submit(() -> {
+                long id = nextId.getAsLong();
+                Thread.sleep(IO_MILLIS);
+                return id;
+            }));
+        }
+
+        long sum = 0;
+        for (Future<Long> future : futures) {
+            sum += future.get();
+        }
+        return sum;
+    }
+
+}
@@ -0,0 +1,25 @@
+package lipam.board.common.dataserializer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+// Redis 값, Kafka 메시지 등에 저장되는 데이터 포맷(코덱) SPI
+// 저장되는 값은 [포맷 마커 1바이트][본문] 형태이고, 읽는 쪽은 마커만 보고 코덱을 고르기 때문에
+// 롤링 배포 중에 이전 포맷(JSON)과 새 포맷이 섞여 있어도 모두 읽을 수 있다.
+// 새 코덱은 DataCodecs.register() 로 등록해야 읽는 쪽에서 마커로 찾을 수 있다.
+public interface DataCodec {
+
+    // 설정 값으로 코덱을 고를 때 사용하는 이름 (예: json, cbor, smile)
+    String name();
+
+    // 값 앞에 붙는 1바이트 포맷 마커
+    // JSON 문서는 첫 바이트가 항상 '{', '[', '"', 숫자 등이므로 제어 문자(0x01 ~ 0x08)를 마커로 쓰면 기존 JSON 과 겹치지 않는다.
+    byte marker();
+
+    // 마커를 제외한 본문을 out 에 쓴다. (out 은 닫지 않는다.)
+    void encode(Object value, OutputStream out) throws IOException;
+
+    // 마커를 제외한 본문(data[offset, offset + length))을 읽는다.
+    <T> T decode(byte[] data, int offset, int length, Class<T> clazz) throws IOException;
+
+}
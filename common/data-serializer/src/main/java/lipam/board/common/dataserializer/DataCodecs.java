@@ -0,0 +1,59 @@
+package lipam.board.common.dataserializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 기본 제공 코덱 모음
+// - JSON  : 마커 없이 기존과 동일한 UTF-8 JSON (기본값, 이전 버전 애플리케이션도 읽을 수 있다.)
+// - CBOR  : 마커 0x01, 바이너리 JSON (RFC 8949)
+// - SMILE : 마커 0x02, Jackson 바이너리 JSON (반복되는 필드 이름을 back-reference 로 줄인다.)
+// 바이너리 코덱으로 전환할 때는, 읽는 쪽(마커를 아는 버전)을 먼저 배포한 뒤 쓰는 쪽의 코덱 설정을 바꿔야 한다.
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DataCodecs {
+
+    // JSON 코덱의 marker(): 별도 마커 없이 JSON 문서의 첫 바이트로 구분한다.
+    public static final byte NO_MARKER = 0x00;
+
+    public static final DataCodec JSON = new JacksonDataCodec("json", NO_MARKER, DataSerializer.configure(new ObjectMapper()));
+    public static final DataCodec CBOR = new JacksonDataCodec("cbor", (byte) 0x01, DataSerializer.configure(new CBORMapper()));
+    public static final DataCodec SMILE = new JacksonDataCodec("smile", (byte) 0x02, DataSerializer.configure(new SmileMapper()));
+
+    private static final Map<String, DataCodec> codecsByName = new ConcurrentHashMap<>();
+    private static final Map<Byte, DataCodec> codecsByMarker = new ConcurrentHashMap<>();
+
+    static {
+        register(JSON);
+        register(CBOR);
+        register(SMILE);
+    }
+
+    // 직접 구현한 코덱을 등록한다. 이미 사용 중인 이름/마커로는 등록할 수 없다.
+    public static synchronized void register(DataCodec codec) {
+        if (codecsByName.containsKey(codec.name()) || codecsByMarker.containsKey(codec.marker())) {
+            throw new IllegalArgumentException("codec already registered: name=%s, marker=%s".formatted(codec.name(), codec.marker()));
+        }
+        codecsByName.put(codec.name(), codec);
+        codecsByMarker.put(codec.marker(), codec);
+    }
+
+    // 설정 값(json, cbor, smile)으로 코덱을 찾는다.
+    public static DataCodec of(String name) {
+        DataCodec codec = codecsByName.get(name);
+        if (codec == null) {
+            throw new IllegalArgumentException("unknown codec: " + name);
+        }
+        return codec;
+    }
+
+    // 저장된 값의 첫 바이트로 바이너리 코덱을 찾는다. 마커가 아니면(= JSON) null 을 반환한다.
+    static DataCodec fromMarker(byte marker) {
+        return marker == NO_MARKER ? null : codecsByMarker.get(marker);
+    }
+
+}
@@ -0,0 +1,28 @@
+package lipam.board.common.dataserializer;
+
+import org.apache.kafka.common.serialization.Deserializer;
+
+// DataSerializer 를 사용하는 Kafka Deserializer (byte[] -> 객체)
+// 포맷 마커를 보고 JSON/CBOR/Smile 중 맞는 코덱으로 읽는다.
+// 역직렬화에 실패하면 null 을 반환한다. (DataSerializer 와 동일)
+public class DataKafkaDeserializer<T> implements Deserializer<T> {
+
+    private final Class<T> type;
+
+    private DataKafkaDeserializer(Class<T> type) {
+        this.type = type;
+    }
+
+    public static <T> DataKafkaDeserializer<T> of(Class<T> type) {
+        return new DataKafkaDeserializer<>(type);
+    }
+
+    @Override
+    public T deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        return DataSerializer.deserialize(data, type);
+    }
+
+}
@@ -0,0 +1,33 @@
+package lipam.board.common.dataserializer;
+
+import org.apache.kafka.common.serialization.Serializer;
+
+// DataSerializer 를 사용하는 Kafka Serializer (객체 -> byte[])
+// 기본(JSON) 코덱은 StringSerializer 로 보낸 JSON 과 같은 바이트이므로 Consumer 는 StringDeserializer 로도 그대로 읽을 수 있다.
+// 바이너리 코덱을 쓰려면 Consumer 가 DataKafkaDeserializer 또는 DataSerializer.deserialize(byte[], Class) 로 읽어야 한다.
+public class DataKafkaSerializer<T> implements Serializer<T> {
+
+    private final DataCodec codec;
+
+    // Kafka 설정(value.serializer)에 클래스 이름으로 지정했을 때 사용되는 생성자 (JSON)
+    public DataKafkaSerializer() {
+        this(DataCodecs.JSON);
+    }
+
+    private DataKafkaSerializer(DataCodec codec) {
+        this.codec = codec;
+    }
+
+    public static <T> DataKafkaSerializer<T> of(DataCodec codec) {
+        return new DataKafkaSerializer<>(codec);
+    }
+
+    @Override
+    public byte[] serialize(String topic, T data) {
+        if (data == null) {
+            return null;
+        }
+        return DataSerializer.serializeToBytes(data, codec);
+    }
+
+}
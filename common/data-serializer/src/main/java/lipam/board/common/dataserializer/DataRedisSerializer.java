@@ -0,0 +1,49 @@
+package lipam.board.common.dataserializer;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+// DataSerializer 를 사용하는 RedisSerializer
+// 객체 -> String -> byte[] 를 거치지 않고 객체 <-> UTF-8 JSON byte[] 로 바로 변환한다.
+// 기본(JSON) 코덱으로 저장되는 값은 기존 StringRedisTemplate + DataSerializer.serialize() 로 저장한 값과 동일한 JSON 이므로 섞어서 읽을 수 있다.
+// 읽을 때는 코덱 설정과 관계없이 포맷 마커를 보고 읽으므로, JSON 과 바이너리(CBOR/Smile) 값이 섞여 있어도 된다.
+public class DataRedisSerializer<T> implements RedisSerializer<T> {
+
+    private final Class<T> type;
+    private final DataCodec codec; // 쓸 때 사용하는 코덱
+
+    private DataRedisSerializer(Class<T> type, DataCodec codec) {
+        this.type = type;
+        this.codec = codec;
+    }
+
+    public static <T> DataRedisSerializer<T> of(Class<T> type) {
+        return of(type, DataCodecs.JSON);
+    }
+
+    public static <T> DataRedisSerializer<T> of(Class<T> type, DataCodec codec) {
+        return new DataRedisSerializer<>(type, codec);
+    }
+
+    @Override
+    public byte[] serialize(T value) {
+        if (value == null) {
+            return null;
+        }
+        return DataSerializer.serializeToBytes(value, codec);
+    }
+
+    // 역직렬화에 실패하면 null 을 반환한다. (DataSerializer 와 동일)
+    @Override
+    public T deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        return DataSerializer.deserialize(bytes, type);
+    }
+
+    @Override
+    public Class<?> getTargetType() {
+        return type;
+    }
+
+}
@@ -1,28 +1,48 @@
 package lipam.board.common.dataserializer;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
 @Slf4j
 @NoArgsConstructor(access = AccessLevel.PRIVATE) // 유틸 클래스: AccessLevel.PRIVATE 해서 기본 생성자(public)가 자동 생성되는 걸 막아서 new 불가능하게 함
 public final class DataSerializer { // 유틸 클래스: 상속/확장 의도 없으니 final 붙혀서 extends 방지
 
-    private static final ObjectMapper objectMapper = initialize();
+    private static final ObjectMapper objectMapper = configure(new ObjectMapper());
+
+    // serializeToByteBuffer(), serializeToBytes(Object, DataCodec) 에서 스레드마다 재사용하는 버퍼
+    // 너무 큰 값을 한 번 직렬화한 버퍼를 계속 붙잡고 있지 않도록, 일정 크기를 넘으면 새 버퍼로 교체한다.
+    private static final int MAX_REUSABLE_BUFFER_SIZE = 64 * 1024;
+    private static final ThreadLocal<ReusableByteArrayOutputStream> reusableBuffer =
+            ThreadLocal.withInitial(ReusableByteArrayOutputStream::new);
 
     // ObjectMapper 초기화
-    private static ObjectMapper initialize() {
-        return new ObjectMapper()
+    // 바이너리 포맷(CBOR/Smile) 코덱도 JSON 과 같은 규칙으로 직렬화되도록 이 설정을 함께 사용한다. (DataCodecs 참고)
+    static <M extends ObjectMapper> M configure(M objectMapper) {
+        objectMapper
                 .registerModule(new JavaTimeModule()) // LocalDate/LocalDateTime 같은 java.time 날짜/시간 타입 직렬화/역직렬화 지원
                 // 역직렬화(JSON -> 객체) 할 때 없는 필드가 있으면 에러가 날 수 있는데, false 로 하면 에러가 나타나지 않음
                 // 예시)
                 // { "name": "kim", "age": 20, "extra": "??? " }
                 // class User { String name; int age; } // extra 없음. 이 때, FAIL_ON_UNKNOWN_PROPERTIES = false 이면 extra 는 무시하고 name/age 만 채움
-                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                // InputStream/OutputStream 을 받는 메서드에서 호출한 쪽의 stream 을 닫지 않도록 한다.
+                .configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false)
+                .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+        return objectMapper;
     }
 
     // String 타입의 data 를 받아서, Class<T> 타입으로 역직렬화 하는 메서드
@@ -35,6 +55,52 @@ public final class DataSerializer { // 유틸 클래스: 상속/확장 의도 
         }
     }
 
+    // byte[] 타입의 data 를 받아서, Class<T> 타입으로 역직렬화 하는 메서드
+    // String 을 거치지 않으므로 Redis/Kafka 에서 받은 byte[] 를 그대로 넘기면 디코딩/복사 비용이 줄어든다.
+    // 첫 바이트가 바이너리 코덱의 포맷 마커이면 해당 코덱으로, 아니면 UTF-8 JSON 으로 읽는다. (DataCodecs 참고)
+    public static <T> T deserialize(byte[] data, Class<T> clazz) {
+        try {
+            DataCodec codec = data.length == 0 ? null : DataCodecs.fromMarker(data[0]);
+            if (codec != null) {
+                return codec.decode(data, 1, data.length - 1, clazz);
+            }
+            return objectMapper.readValue(data, clazz);
+        } catch (IOException e) {
+            log.error("[DataSerializer.deserialize] data.length={}, clazz={}", data.length, clazz, e);
+            return null;
+        }
+    }
+
+    // ByteBuffer 의 position ~ limit 구간을 역직렬화 하는 메서드 (ByteBuffer 의 position 은 바뀌지 않는다.)
+    // byte[] 와 마찬가지로 포맷 마커가 있으면 해당 코덱으로 읽는다.
+    public static <T> T deserialize(ByteBuffer data, Class<T> clazz) {
+        try {
+            DataCodec codec = data.hasRemaining() ? DataCodecs.fromMarker(data.get(data.position())) : null;
+            if (codec != null) {
+                byte[] body = new byte[data.remaining() - 1];
+                data.duplicate().position(data.position() + 1).get(body);
+                return codec.decode(body, 0, body.length, clazz);
+            }
+            if (data.hasArray()) {
+                return objectMapper.readValue(data.array(), data.arrayOffset() + data.position(), data.remaining(), clazz);
+            }
+            return objectMapper.readValue(new ByteBufferBackedInputStream(data.duplicate()), clazz);
+        } catch (IOException e) {
+            log.error("[DataSerializer.deserialize] data.remaining={}, clazz={}", data.remaining(), clazz, e);
+            return null;
+        }
+    }
+
+    // InputStream 을 끝까지 읽어서 역직렬화 하는 메서드 (stream 은 닫지 않는다.)
+    public static <T> T deserialize(InputStream data, Class<T> clazz) {
+        try {
+            return objectMapper.readValue(data, clazz);
+        } catch (IOException e) {
+            log.error("[DataSerializer.deserialize] clazz={}", clazz, e);
+            return null;
+        }
+    }
+
     // Object 타입의 data(Map/객체 등)를 받아서, Class<T> 타입으로 역직렬화 하는 메서드
     public static <T> T deserialize(Object data, Class<T> clazz) {
         return objectMapper.convertValue(data, clazz);
@@ -50,4 +116,87 @@ public final class DataSerializer { // 유틸 클래스: 상속/확장 의도 
         }
     }
 
+    // Object 타입의 object 를 받아서, UTF-8 JSON byte[] 로 직렬화 하는 메서드
+    // String 을 만든 뒤 다시 getBytes() 하는 과정이 없다. (Jackson 내부 버퍼는 스레드별로 재사용된다.)
+    public static byte[] serializeToBytes(Object object) {
+        try {
+            return objectMapper.writeValueAsBytes(object);
+        } catch (JsonProcessingException e) {
+            log.error("[DataSerializer.serializeToBytes] object={}", object, e);
+            return null;
+        }
+    }
+
+    // Object 타입의 object 를 받아서, 주어진 코덱으로 직렬화 하는 메서드
+    // 바이너리 코덱은 [포맷 마커 1바이트][본문] 형태로, JSON 코덱은 기존과 같이 마커 없는 UTF-8 JSON 으로 만든다.
+    // 어떤 코덱으로 만든 값이든 deserialize(byte[], Class) 로 읽을 수 있다.
+    public static byte[] serializeToBytes(Object object, DataCodec codec) {
+        if (codec.marker() == DataCodecs.NO_MARKER) {
+            return serializeToBytes(object);
+        }
+
+        ReusableByteArrayOutputStream buffer = reusableBuffer();
+        try {
+            buffer.write(codec.marker());
+            codec.encode(object, buffer);
+            return buffer.toByteArray();
+        } catch (IOException e) {
+            log.error("[DataSerializer.serializeToBytes] object={}, codec={}", object, codec.name(), e);
+            return null;
+        }
+    }
+
+    // Object 타입의 object 를 받아서, 스레드별로 재사용하는 버퍼에 직렬화하고 읽기 전용 ByteBuffer 로 반환하는 메서드
+    // 반환된 ByteBuffer 는 같은 스레드에서 serializeToByteBuffer() 를 다시 호출하기 전까지만 유효하다.
+    // (바로 전송/복사하고 버리는 용도로만 사용해야 한다.)
+    public static ByteBuffer serializeToByteBuffer(Object object) {
+        ReusableByteArrayOutputStream buffer = reusableBuffer();
+        try {
+            objectMapper.writeValue(buffer, object);
+            return buffer.toByteBuffer();
+        } catch (IOException e) {
+            log.error("[DataSerializer.serializeToByteBuffer] object={}", object, e);
+            return null;
+        }
+    }
+
+    // Object 타입의 object 를 받아서, OutputStream 에 바로 직렬화 하는 메서드 (stream 은 닫지 않는다.)
+    public static boolean serialize(Object object, OutputStream out) {
+        try {
+            objectMapper.writeValue(out, object);
+            return true;
+        } catch (IOException e) {
+            log.error("[DataSerializer.serialize] object={}", object, e);
+            return false;
+        }
+    }
+
+    // 현재 스레드의 재사용 버퍼를 비워서 반환한다.
+    private static ReusableByteArrayOutputStream reusableBuffer() {
+        ReusableByteArrayOutputStream buffer = reusableBuffer.get();
+        if (buffer.capacity() > MAX_REUSABLE_BUFFER_SIZE) {
+            buffer = new ReusableByteArrayOutputStream();
+            reusableBuffer.set(buffer);
+        }
+        buffer.reset();
+        return buffer;
+    }
+
+    // 내부 버퍼(buf)를 복사 없이 ByteBuffer 로 감싸기 위한 ByteArrayOutputStream
+    private static class ReusableByteArrayOutputStream extends ByteArrayOutputStream {
+
+        private ReusableByteArrayOutputStream() {
+            super(1024);
+        }
+
+        private int capacity() {
+            return buf.length;
+        }
+
+        private ByteBuffer toByteBuffer() {
+            return ByteBuffer.wrap(buf, 0, count).asReadOnlyBuffer();
+        }
+
+    }
+
 }
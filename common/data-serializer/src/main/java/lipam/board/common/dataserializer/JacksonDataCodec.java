@@ -0,0 +1,46 @@
+package lipam.board.common.dataserializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+// Jackson ObjectMapper(JSON/CBOR/Smile)를 사용하는 코덱
+class JacksonDataCodec implements DataCodec {
+
+    private final String name;
+    private final byte marker;
+    private final ObjectMapper objectMapper;
+
+    JacksonDataCodec(String name, byte marker, ObjectMapper objectMapper) {
+        this.name = name;
+        this.marker = marker;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public byte marker() {
+        return marker;
+    }
+
+    @Override
+    public void encode(Object value, OutputStream out) throws IOException {
+        objectMapper.writeValue(out, value);
+    }
+
+    @Override
+    public <T> T decode(byte[] data, int offset, int length, Class<T> clazz) throws IOException {
+        return objectMapper.readValue(data, offset, length, clazz);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+}
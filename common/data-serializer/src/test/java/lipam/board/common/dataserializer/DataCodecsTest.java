@@ -0,0 +1,82 @@
+package lipam.board.common.dataserializer;
+
+import lombok.Getter;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DataCodecsTest {
+
+    @Test
+    void serdeTest() {
+        // given
+        TestData data = TestData.create(1L, "title", LocalDateTime.now());
+
+        for (DataCodec codec : new DataCodec[]{DataCodecs.JSON, DataCodecs.CBOR, DataCodecs.SMILE}) {
+            // when
+            byte[] bytes = DataSerializer.serializeToBytes(data, codec);
+            TestData result = DataSerializer.deserialize(bytes, TestData.class);
+
+            // then
+            assertThat(result.getId()).isEqualTo(data.getId());
+            assertThat(result.getTitle()).isEqualTo(data.getTitle());
+            assertThat(result.getCreatedAt()).isEqualTo(data.getCreatedAt());
+        }
+    }
+
+    @Test
+    void markerTest() {
+        // given
+        TestData data = TestData.create(1L, "title", LocalDateTime.now());
+
+        // when
+        byte[] json = DataSerializer.serializeToBytes(data, DataCodecs.JSON);
+        byte[] cbor = DataSerializer.serializeToBytes(data, DataCodecs.CBOR);
+        byte[] smile = DataSerializer.serializeToBytes(data, DataCodecs.SMILE);
+
+        // then
+        assertThat(new String(json, StandardCharsets.UTF_8)).isEqualTo(DataSerializer.serialize(data)); // JSON 은 기존과 동일하게 마커 없이 저장된다.
+        assertThat(cbor[0]).isEqualTo(DataCodecs.CBOR.marker());
+        assertThat(smile[0]).isEqualTo(DataCodecs.SMILE.marker());
+    }
+
+    @Test
+    void readLegacyJsonTest() {
+        // given
+        // 코덱 도입 전에 저장된(마커 없는) JSON 값
+        byte[] legacy = DataSerializer.serialize(TestData.create(1L, "title", null)).getBytes(StandardCharsets.UTF_8);
+
+        // when
+        TestData result = DataSerializer.deserialize(legacy, TestData.class);
+
+        // then
+        assertThat(result.getTitle()).isEqualTo("title");
+    }
+
+    @Test
+    void ofTest() {
+        assertThat(DataCodecs.of("cbor")).isSameAs(DataCodecs.CBOR);
+        assertThatThrownBy(() -> DataCodecs.of("unknown")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> DataCodecs.register(DataCodecs.SMILE)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Getter
+    static class TestData {
+        private Long id;
+        private String title;
+        private LocalDateTime createdAt;
+
+        static TestData create(Long id, String title, LocalDateTime createdAt) {
+            TestData data = new TestData();
+            data.id = id;
+            data.title = title;
+            data.createdAt = createdAt;
+            return data;
+        }
+    }
+
+}
@@ -1,9 +1,11 @@
 package lipam.board.common.event;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import lipam.board.common.dataserializer.DataSerializer;
 import lombok.Getter;
 
 @Getter
+@JsonDeserialize(using = EventDeserializer.class) // type 에 맞는 payload 클래스로 한 번에 역직렬화 (EventDeserializer 참고)
 public class Event<T extends EventPayload> {
 
     private Long eventId; // 이벤트에 대한 고유한 아이디
@@ -24,25 +26,22 @@ public class Event<T extends EventPayload> {
         return DataSerializer.serialize(this); // this (현재 객체) 전달
     }
 
+    // json 문자열을 Event 객체로 변경 (파싱 실패 시 null)
+    @SuppressWarnings("unchecked")
     public static Event<EventPayload> fromJson(String json) {
-        EventRow eventRow = DataSerializer.deserialize(json, EventRow.class);
-        if (eventRow == null) {
-            return null;
-        }
-
-        Event<EventPayload> event = new Event<>();
-        event.eventId = eventRow.getEventId();
-        event.type = EventType.from(eventRow.getType());
-        event.payload = DataSerializer.deserialize(eventRow.getPayload(), event.type.getPayloadClass());
+        return DataSerializer.deserialize(json, Event.class);
+    }
 
-        return event;
+    // UTF-8 json byte[] 를 Event 객체로 변경 (파싱 실패 시 null)
+    // Kafka 레코드 값을 String 으로 디코딩하지 않고 바로 역직렬화할 때 사용한다.
+    @SuppressWarnings("unchecked")
+    public static Event<EventPayload> fromJson(byte[] json) {
+        return DataSerializer.deserialize(json, Event.class);
     }
 
-    @Getter
-    private static class EventRow {
-        private Long eventId;
-        private String type;
-        private Object payload;
+    // json 문자열에서 eventId 만 읽는다. (파싱 실패 시 null)
+    public static Long readEventId(String json) {
+        return EventDeserializer.readEventId(json);
     }
 
 }
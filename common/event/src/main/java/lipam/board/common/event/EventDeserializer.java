@@ -0,0 +1,97 @@
+package lipam.board.common.event;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+
+// Event JSON 을 한 번의 스트리밍 파싱으로 역직렬화한다.
+// 기존 방식은 payload 를 Object(LinkedHashMap 트리)로 먼저 읽고, convertValue 로 다시 타입 변환을 해서 파싱이 두 번 일어났다.
+// 여기서는 type 을 먼저 읽었으면 payload 를 바로 EventType.getPayloadClass() 로 바인딩하고,
+// payload 가 type 보다 먼저 나오면 payload 토큰만 TokenBuffer 에 잠시 담아두었다가 type 을 읽은 뒤에 바인딩한다.
+@Slf4j
+class EventDeserializer extends StdDeserializer<Event<EventPayload>> {
+
+    private static final String EVENT_ID = "eventId";
+    private static final String TYPE = "type";
+    private static final String PAYLOAD = "payload";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    EventDeserializer() {
+        super(Event.class);
+    }
+
+    @Override
+    public Event<EventPayload> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.currentToken() != JsonToken.START_OBJECT) {
+            return ctxt.reportInputMismatch(this, "Event must be a JSON object");
+        }
+
+        Long eventId = null;
+        EventType type = null;
+        EventPayload payload = null;
+        TokenBuffer bufferedPayload = null; // type 보다 먼저 나온 payload
+
+        String fieldName;
+        while ((fieldName = p.nextFieldName()) != null) {
+            JsonToken token = p.nextToken();
+            switch (fieldName) {
+                case EVENT_ID -> eventId = token == JsonToken.VALUE_NULL ? null : p.getValueAsLong();
+                case TYPE -> type = token == JsonToken.VALUE_NULL ? null : EventType.from(p.getText());
+                case PAYLOAD -> {
+                    if (type != null) {
+                        payload = readPayload(p, ctxt, type);
+                    } else {
+                        bufferedPayload = ctxt.bufferAsCopyOfValue(p);
+                    }
+                }
+                default -> p.skipChildren(); // 알 수 없는 필드는 무시한다. (FAIL_ON_UNKNOWN_PROPERTIES = false 와 동일)
+            }
+        }
+
+        if (bufferedPayload != null && type != null) {
+            try (JsonParser bufferedParser = bufferedPayload.asParser(p.getCodec())) {
+                bufferedParser.nextToken();
+                payload = readPayload(bufferedParser, ctxt, type);
+            }
+        }
+
+        return Event.of(eventId, type, payload);
+    }
+
+    private EventPayload readPayload(JsonParser p, DeserializationContext ctxt, EventType type) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return ctxt.readValue(p, type.getPayloadClass());
+    }
+
+    // 본문 전체를 역직렬화하지 않고 eventId 만 읽는다. (Event 는 eventId 를 가장 먼저 직렬화하므로 첫 필드에서 끝난다.)
+    static Long readEventId(String json) {
+        try (JsonParser p = JSON_FACTORY.createParser(json)) {
+            if (p.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+
+            String fieldName;
+            while ((fieldName = p.nextFieldName()) != null) {
+                JsonToken token = p.nextToken();
+                if (EVENT_ID.equals(fieldName)) {
+                    return token == JsonToken.VALUE_NULL ? null : p.getValueAsLong();
+                }
+                p.skipChildren();
+            }
+            return null;
+        } catch (IOException e) {
+            log.error("[EventDeserializer.readEventId] json={}", json, e);
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,19 @@
+package lipam.board.common.event;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+// MessageRelay 가 Kafka 레코드에 함께 싣는 헤더 이름
+// Consumer 는 본문(JSON)을 파싱하기 전에 헤더만 보고 처리할 이벤트인지 판단할 수 있다. (EventTypeRecordFilterStrategy 참고)
+// 헤더 값은 모두 UTF-8 문자열이다.
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class EventHeaders {
+
+    public static final String EVENT_TYPE = "lipam-event-type"; // EventType.name()
+    public static final String EVENT_ID = "lipam-event-id";
+    public static final String SCHEMA_VERSION = "lipam-event-schema-version";
+
+    // Event JSON 구조(eventId, type, payload)가 바뀌면 올린다.
+    public static final String CURRENT_SCHEMA_VERSION = "1";
+
+}
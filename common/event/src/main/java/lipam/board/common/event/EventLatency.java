@@ -0,0 +1,28 @@
+package lipam.board.common.event;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lipam.board.common.snowflake.SnowflakeId;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+
+// 이벤트를 소비하는 서비스들이 공통으로 쓰는 end-to-end 지연 지표
+// - lipam.event.latency : 이벤트 생성 시각(eventId 의 Snowflake 타임스탬프)부터 Consumer 가 처리를 마칠 때까지 걸린 시간 (eventType 태그)
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class EventLatency {
+
+    public static void record(MeterRegistry meterRegistry, Event<? extends EventPayload> event) {
+        if (event.getEventId() == null || event.getType() == null) {
+            return;
+        }
+        Timer.builder("lipam.event.latency")
+                .tag("eventType", event.getType().name())
+                .publishPercentiles(0.5, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - SnowflakeId.timestampMillis(event.getEventId()))));
+    }
+
+}
@@ -5,6 +5,8 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.concurrent.atomic.LongAdder;
+
 @Slf4j
 @Getter
 @RequiredArgsConstructor
@@ -23,15 +25,24 @@ public enum EventType {
     private final Class<? extends EventPayload> payloadClass;
     private final String topic;
 
+    private static final LongAdder UNKNOWN_COUNT = new LongAdder();
+
+    // 모르는 타입(다른 서비스가 새로 추가한 이벤트 등)은 레코드마다 나올 수 있으므로, 에러로 남기지 않고 건수만 센다.
     public static EventType from(String type) {
         try {
             return valueOf(type);
         } catch (Exception e) {
-            log.error("[EventType.from] type={}", type, e);
+            UNKNOWN_COUNT.increment();
+            log.debug("[EventType.from] unknown type={}", type);
             return null;
         }
     }
 
+    // from 에서 알 수 없는 타입으로 처리한 건수
+    public static long getUnknownCount() {
+        return UNKNOWN_COUNT.sum();
+    }
+
     public static class Topic {
         public static final String LIPAM_BOARD_ARTICLE = "lipam-board-article";
         public static final String LIPAM_BOARD_COMMENT = "lipam-board-comment";
@@ -0,0 +1,79 @@
+package lipam.board.common.event;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.kafka.listener.adapter.RecordFilterStrategy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+// Kafka 레코드의 이벤트 타입 헤더(EventHeaders.EVENT_TYPE)만 보고, 처리하지 않는 타입이면 본문을 파싱하기 전에 버린다.
+// 헤더가 없는 레코드(헤더를 쓰기 전에 발행된 이벤트)는 걸러내지 않고 기존처럼 본문을 파싱해서 처리하도록 넘긴다.
+// 레코드 값(V)은 보지 않으므로 값이 String 이든 byte[] 이든 그대로 사용할 수 있다.
+// MANUAL ack 모드에서는 버린 레코드도 커밋되도록 컨테이너 팩토리에 setAckDiscarded(true) 를 함께 설정해야 한다.
+// 빈으로 등록하면 MeterBinder 로 아래 지표가 /actuator/metrics 에 등록된다.
+// - lipam.event.filter.filtered : 헤더만 보고 버린 레코드 수
+// - lipam.event.filter.accepted : 본문 파싱(리스너 호출)으로 넘긴 레코드 수
+// - lipam.event.type.unknown    : 알 수 없는 이벤트 타입 건수 (EventType.from)
+@Slf4j
+public class EventTypeRecordFilterStrategy<V> implements RecordFilterStrategy<String, V>, MeterBinder {
+
+    private final Set<EventType> supportedTypes;
+
+    private final LongAdder filteredCount = new LongAdder();
+    private final LongAdder acceptedCount = new LongAdder();
+
+    private EventTypeRecordFilterStrategy(Set<EventType> supportedTypes) {
+        this.supportedTypes = supportedTypes;
+    }
+
+    public static <V> EventTypeRecordFilterStrategy<V> of(Set<EventType> supportedTypes) {
+        EnumSet<EventType> types = EnumSet.noneOf(EventType.class);
+        types.addAll(supportedTypes);
+        return new EventTypeRecordFilterStrategy<>(types);
+    }
+
+    // true 를 반환하면 레코드를 버린다.
+    @Override
+    public boolean filter(ConsumerRecord<String, V> consumerRecord) {
+        Header header = consumerRecord.headers().lastHeader(EventHeaders.EVENT_TYPE);
+        if (header == null || supportedTypes.contains(EventType.from(new String(header.value(), StandardCharsets.UTF_8)))) {
+            acceptedCount.increment();
+            return false;
+        }
+
+        filteredCount.increment();
+        log.debug("[EventTypeRecordFilterStrategy.filter] topic={}, offset={}", consumerRecord.topic(), consumerRecord.offset());
+        return true;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        FunctionCounter.builder("lipam.event.filter.filtered", this, EventTypeRecordFilterStrategy::getFilteredCount)
+                .description("records dropped by the event type header before parsing")
+                .register(meterRegistry);
+        FunctionCounter.builder("lipam.event.filter.accepted", this, EventTypeRecordFilterStrategy::getAcceptedCount)
+                .description("records passed to the listener for parsing")
+                .register(meterRegistry);
+        FunctionCounter.builder("lipam.event.type.unknown", EventType.class, type -> EventType.getUnknownCount())
+                .description("event type names that did not match any EventType")
+                .register(meterRegistry);
+    }
+
+    // 헤더만 보고 버린 레코드 수
+    public long getFilteredCount() {
+        return filteredCount.sum();
+    }
+
+    // 본문 파싱(리스너 호출)으로 넘긴 레코드 수
+    public long getAcceptedCount() {
+        return acceptedCount.sum();
+    }
+
+}
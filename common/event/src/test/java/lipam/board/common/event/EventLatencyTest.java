@@ -0,0 +1,27 @@
+package lipam.board.common.event;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lipam.board.common.snowflake.Snowflake;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventLatencyTest {
+
+    @Test
+    void recordTest() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        // when
+        EventLatency.record(meterRegistry, Event.of(new Snowflake().nextId(), EventType.ARTICLE_CREATED, null));
+        EventLatency.record(meterRegistry, Event.of(null, EventType.ARTICLE_CREATED, null)); // eventId 가 없으면 기록하지 않는다.
+
+        // then
+        Timer timer = meterRegistry.find("lipam.event.latency").tag("eventType", EventType.ARTICLE_CREATED.name()).timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+}
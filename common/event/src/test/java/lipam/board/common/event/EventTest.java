@@ -46,4 +46,32 @@ class EventTest {
         assertThat(resultPayload.getCreatedAt()).isEqualTo(payload.getCreatedAt());
     }
 
+    @Test
+    void deserializePayloadBeforeType() {
+        // given
+        // payload 가 type 보다 먼저 나오는 경우에도 type 에 맞는 payload 클래스로 역직렬화 되어야 한다.
+        String json = """
+                {"payload":{"articleId":1,"title":"title","createdAt":"2026-01-01T10:00:00","unknown":{"a":[1,2]}},"eventId":1234,"type":"ARTICLE_CREATED"}
+                """;
+
+        // when
+        Event<EventPayload> result = Event.fromJson(json);
+
+        // then
+        assertThat(result.getEventId()).isEqualTo(1234L);
+        assertThat(result.getType()).isEqualTo(EventType.ARTICLE_CREATED);
+        assertThat(result.getPayload()).isInstanceOf(ArticleCreatedEventPayload.class);
+
+        ArticleCreatedEventPayload resultPayload = (ArticleCreatedEventPayload) result.getPayload();
+        assertThat(resultPayload.getArticleId()).isEqualTo(1L);
+        assertThat(resultPayload.getTitle()).isEqualTo("title");
+        assertThat(resultPayload.getCreatedAt()).isEqualTo(LocalDateTime.of(2026, 1, 1, 10, 0));
+    }
+
+    @Test
+    void deserializeInvalidJson() {
+        assertThat(Event.fromJson("[]")).isNull();
+        assertThat(Event.fromJson("{invalid")).isNull();
+    }
+
 }
\ No newline at end of file
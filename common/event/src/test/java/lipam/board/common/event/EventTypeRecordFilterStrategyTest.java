@@ -0,0 +1,66 @@
+package lipam.board.common.event;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventTypeRecordFilterStrategyTest {
+
+    EventTypeRecordFilterStrategy<String> filterStrategy = EventTypeRecordFilterStrategy.of(Set.of(EventType.ARTICLE_CREATED));
+
+    @Test
+    void filterTest() {
+        // given
+        ConsumerRecord<String, String> supported = createRecord(EventType.ARTICLE_CREATED.name());
+        ConsumerRecord<String, String> unsupported = createRecord(EventType.ARTICLE_VIEWED.name());
+        ConsumerRecord<String, String> unknown = createRecord("UNKNOWN");
+        ConsumerRecord<String, String> withoutHeader = new ConsumerRecord<>("topic", 0, 0L, "key", "{}");
+        long unknownCount = EventType.getUnknownCount();
+
+        // when, then
+        assertThat(filterStrategy.filter(supported)).isFalse();
+        assertThat(filterStrategy.filter(unsupported)).isTrue();
+        assertThat(filterStrategy.filter(unknown)).isTrue();
+        assertThat(filterStrategy.filter(withoutHeader)).isFalse(); // 헤더가 없으면 본문을 파싱해서 처리하도록 넘긴다.
+
+        assertThat(filterStrategy.getAcceptedCount()).isEqualTo(2);
+        assertThat(filterStrategy.getFilteredCount()).isEqualTo(2);
+        assertThat(EventType.getUnknownCount()).isEqualTo(unknownCount + 1);
+    }
+
+    @Test
+    void bindToTest() {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        filterStrategy.bindTo(meterRegistry);
+
+        // when
+        filterStrategy.filter(createRecord(EventType.ARTICLE_CREATED.name()));
+        filterStrategy.filter(createRecord(EventType.ARTICLE_VIEWED.name()));
+        filterStrategy.filter(createRecord(EventType.ARTICLE_VIEWED.name()));
+
+        // then
+        assertThat(meterRegistry.get("lipam.event.filter.accepted").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("lipam.event.filter.filtered").functionCounter().count()).isEqualTo(2);
+        assertThat(meterRegistry.find("lipam.event.type.unknown").functionCounter()).isNotNull();
+    }
+
+    @Test
+    void readEventIdTest() {
+        assertThat(Event.readEventId(Event.of(1234L, EventType.ARTICLE_CREATED, null).toJson())).isEqualTo(1234L);
+        assertThat(Event.readEventId("{\"type\":\"ARTICLE_CREATED\",\"payload\":{\"eventId\":1},\"eventId\":5678}")).isEqualTo(5678L);
+        assertThat(Event.readEventId("{invalid")).isNull();
+    }
+
+    ConsumerRecord<String, String> createRecord(String eventType) {
+        ConsumerRecord<String, String> consumerRecord = new ConsumerRecord<>("topic", 0, 0L, "key", "{}");
+        consumerRecord.headers().add(EventHeaders.EVENT_TYPE, eventType.getBytes(StandardCharsets.UTF_8));
+        return consumerRecord;
+    }
+
+}
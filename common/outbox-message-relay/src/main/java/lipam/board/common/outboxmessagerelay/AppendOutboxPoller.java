@@ -0,0 +1,72 @@
+package lipam.board.common.outboxmessagerelay;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+// append 모드 (message-relay.storage.mode=append)
+// 전송이 끝난 outbox 도 테이블에 남아있으므로, 처음부터 스캔하지 않고 샤드의 watermark 이후부터 조회한다.
+// watermark 는 전송이 확인된 outboxId 까지만 올린다. (다른 스레드가 전송 중인 outbox 앞에서 멈춘다.)
+// watermark 이후에 AFTER_COMMIT 으로 이미 전송된 outbox 는 조회하지 않는다. (페이지에서 빠져도 전송이 끝난 것이므로 watermark 를 올리는 데 문제가 없다.)
+// 샤드의 watermark 는 한 인스턴스만 올려야 하므로, 샤드 할당대로 처리한다. (claim 모드 설정은 무시된다.)
+@Slf4j
+@RequiredArgsConstructor
+class AppendOutboxPoller implements OutboxPoller, OutboxPageReader {
+
+    private final OutboxRepository outboxRepository;
+    private final OutboxWatermarkRepository outboxWatermarkRepository;
+    private final OutboxDrainer outboxDrainer;
+    private final MessageRelaySender messageRelaySender;
+    private final long lateCommitWindowSeconds; // watermark 가 지나간 뒤에 늦게 커밋된 outbox 를 다시 찾아볼 기간 (생성 시각 기준)
+
+    @Override
+    public void poll(AssignedShard assignedShard, Executor dataSource) {
+        outboxDrainer.drain(assignedShard.getShards(), 1, this, dataSource);
+        assignedShard.getShards().forEach(this::sweepLateCommits);
+    }
+
+    @Override
+    public List<Outbox> read(Long shard, LocalDateTime from, long afterOutboxId, int pageSize) {
+        return outboxRepository.findUnpublished(shard, from, afterOutboxId, pageSize);
+    }
+
+    @Override
+    public long countPending(Long shard, LocalDateTime from, int limit) {
+        return outboxRepository.countPendingAfter(shard, from, startAfter(shard), limit);
+    }
+
+    @Override
+    public long startAfter(Long shard) {
+        return outboxWatermarkRepository.findById(shard)
+                .map(OutboxWatermark::getOutboxId)
+                .orElse(0L);
+    }
+
+    @Override
+    public void completed(Long shard, long lastOutboxId) {
+        outboxWatermarkRepository.advance(shard, lastOutboxId);
+    }
+
+    // watermark 가 이미 지나간 뒤에 커밋된 outbox 를 찾아서 전송한다.
+    // outboxId(Snowflake)는 커밋 전에 발급되므로, 커밋이 늦은 트랜잭션의 outbox 는 watermark 보다 작은 ID 로 나중에 나타날 수 있다.
+    // 생성된지 lateCommitWindowSeconds 이내의 outbox 만 확인한다. 전송이 끝나면 published_at 이 기록되므로 다음 주기에는 조회되지 않는다.
+    private void sweepLateCommits(Long shard) {
+        try {
+            LocalDateTime to = LocalDateTime.now().minusSeconds(MessageRelayConstants.PENDING_EVENT_DELAY_SECONDS);
+            long watermark = startAfter(shard);
+            List<Outbox> outboxes = outboxRepository.findLateCommitted(
+                    shard, to.minusSeconds(lateCommitWindowSeconds), to, watermark, MessageRelayConstants.PENDING_EVENT_PAGE_SIZE
+            );
+            if (!outboxes.isEmpty()) {
+                log.info("[AppendOutboxPoller.sweepLateCommits] shard={}, watermark={}, size={}", shard, watermark, outboxes.size());
+                messageRelaySender.publishEvents(outboxes);
+            }
+        } catch (Exception e) {
+            log.warn("[AppendOutboxPoller.sweepLateCommits] shard={}", shard, e);
+        }
+    }
+
+}
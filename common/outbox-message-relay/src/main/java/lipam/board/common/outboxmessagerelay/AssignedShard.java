@@ -2,6 +2,8 @@ package lipam.board.common.outboxmessagerelay;
 
 import lombok.Getter;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.LongStream;
 
@@ -24,6 +26,73 @@ public class AssignedShard {
         return assignedShard;
     }
 
+    /**
+     * Rendezvous(HRW, Highest Random Weight) 해싱으로 샤드를 할당한다.
+     * 샤드마다 모든 애플리케이션에 대해 hash(appId, shard) 를 계산하고, 가장 큰 값을 가진 애플리케이션이 그 샤드를 담당한다.
+     * - 샤드 수를 크게(예: 256개) 잡아두면 애플리케이션 수가 샤드 수보다 적은 동안은 인스턴스를 늘리는 만큼 처리량이 늘어난다.
+     * - 애플리케이션이 빠지면 그 애플리케이션이 담당하던 샤드만, 새로 들어오면 새 애플리케이션이 가져가는 샤드만 이동한다. (약 1/N)
+     *   (of() 의 범위 분배는 인덱스가 바뀌면 대부분의 샤드가 다시 섞인다.)
+     * - 각 애플리케이션이 정렬 순서와 상관없이 같은 결과를 계산하므로, 별도의 조율 없이 샤드가 중복/누락 없이 나뉜다.
+     */
+    public static AssignedShard ofRendezvous(String appId, List<String> appIds, long shardCount) {
+        AssignedShard assignedShard = new AssignedShard();
+        assignedShard.shards = assignRendezvous(appId, appIds, shardCount);
+
+        return assignedShard;
+    }
+
+    private static List<Long> assignRendezvous(String appId, List<String> appIds, long shardCount) {
+        int appIndex = findAppIndex(appId, appIds);
+        if (appIndex == -1) {
+            return List.of();
+        }
+
+        // appId 해시는 샤드마다 다시 계산하지 않도록 미리 구해둔다.
+        long[] appHashes = new long[appIds.size()];
+        for (int i = 0; i < appIds.size(); i++) {
+            appHashes[i] = hash(appIds.get(i));
+        }
+
+        List<Long> shards = new ArrayList<>();
+        for (long shard = 0; shard < shardCount; shard++) {
+            if (findOwnerIndex(appHashes, shard) == appIndex) {
+                shards.add(shard);
+            }
+        }
+        return shards;
+    }
+
+    // 샤드에 대해 가장 큰 가중치를 가진 애플리케이션의 인덱스
+    private static int findOwnerIndex(long[] appHashes, long shard) {
+        int ownerIndex = 0;
+        long maxWeight = Long.MIN_VALUE;
+        for (int i = 0; i < appHashes.length; i++) {
+            long weight = mix(appHashes[i] ^ mix(shard));
+            if (weight > maxWeight) {
+                maxWeight = weight;
+                ownerIndex = i;
+            }
+        }
+        return ownerIndex;
+    }
+
+    // appId 의 64비트 해시 (FNV-1a). String.hashCode() 는 32비트라서 충돌/편향이 커서 사용하지 않는다.
+    private static long hash(String appId) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : appId.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // 비트를 고르게 섞기 위한 함수 (SplitMix64 finalizer)
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+
     // 전체 샤드를 애플리케이션 수에 맞게 균등 분배하여, 현재 애플리케이션이 담당할 샤드 목록을 계산하는 메서드
     private static List<Long> assign(String appId, List<String> appIds, long shardCount) {
         // 현재 애플리케이션이 전체 목록에서 몇 번째 인덱스인지 찾는다.
@@ -0,0 +1,38 @@
+package lipam.board.common.outboxmessagerelay;
+
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.LongStream;
+
+// claim 모드 (message-relay.claim.enabled=true)
+// 샤드 할당과 상관없이 모든 인스턴스가 모든 샤드를 인스턴스당 workersPerShard 개의 worker 로 함께 처리한다.
+// 각 worker 는 outbox 를 선점(claimed_by, claimed_until)한 뒤 전송하므로, 같은 outbox 를 여러 worker 가 동시에 보내지 않는다. (OutboxClaimer 참고)
+@RequiredArgsConstructor
+class ClaimOutboxPoller implements OutboxPoller, OutboxPageReader {
+
+    private final OutboxRepository outboxRepository;
+    private final OutboxClaimer outboxClaimer;
+    private final OutboxDrainer outboxDrainer;
+    private final MessageRelayCoordinator messageRelayCoordinator;
+    private final int workersPerShard;
+
+    @Override
+    public void poll(AssignedShard assignedShard, Executor dataSource) {
+        List<Long> allShards = LongStream.range(0, messageRelayCoordinator.getShardCount()).boxed().toList();
+        outboxDrainer.drain(allShards, workersPerShard, this, dataSource);
+    }
+
+    @Override
+    public List<Outbox> read(Long shard, LocalDateTime from, long afterOutboxId, int pageSize) {
+        return outboxClaimer.claim(shard, from, afterOutboxId, pageSize);
+    }
+
+    @Override
+    public long countPending(Long shard, LocalDateTime from, int limit) {
+        return outboxRepository.countPending(shard, from, limit);
+    }
+
+}
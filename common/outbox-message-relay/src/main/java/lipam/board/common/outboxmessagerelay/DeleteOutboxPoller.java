@@ -0,0 +1,40 @@
+package lipam.board.common.outboxmessagerelay;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+// delete 모드 (기본값)
+// 담당 샤드마다 미전송 이벤트를 한 페이지씩만 조회해서 전송하고, 나머지는 다음 주기에 보낸다.
+@RequiredArgsConstructor
+class DeleteOutboxPoller implements OutboxPoller {
+
+    private final OutboxRepository outboxRepository;
+    private final MessageRelaySender messageRelaySender;
+    private final MessageRelayShardStats messageRelayShardStats;
+
+    @Override
+    public void poll(AssignedShard assignedShard, Executor dataSource) {
+        // 현재 애플리케이션이 담당하는 샤드에 대해서만 polling 수행해서 Kafka 에 전송한다. (샤드 분산 처리)
+        for (Long shard : assignedShard.getShards()) {
+            // 생성된지 10초 이상 지난(outbox 에 계속 남아있는) 이벤트만 조회
+            LocalDateTime from = LocalDateTime.now().minusSeconds(MessageRelayConstants.PENDING_EVENT_DELAY_SECONDS);
+            messageRelayShardStats.refreshBacklog(
+                    messageRelayShardStats.get(shard),
+                    limit -> outboxRepository.countPending(shard, from, limit)
+            ); // 샤드별 backlog 지표
+            List<Outbox> outboxes = outboxRepository.findAllByShardKeyAndCreatedAtLessThanEqualOrderByCreatedAtDesc(
+                    shard,
+                    from,
+                    Pageable.ofSize(MessageRelayConstants.PENDING_EVENT_PAGE_SIZE) // 한번 조회시 100개 만 조회
+            );
+
+            // 조회된 outbox 들을 순차적으로 Kafka 로 전송 시도
+            messageRelaySender.publishEvents(outboxes);
+        }
+    }
+
+}
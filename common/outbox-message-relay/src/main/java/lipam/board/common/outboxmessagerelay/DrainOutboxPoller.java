@@ -0,0 +1,36 @@
+package lipam.board.common.outboxmessagerelay;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+// drain 모드 (message-relay.drain.enabled=true)
+// 담당 샤드들을 병렬로, 가득 찬 페이지가 조회되는 동안 쉬지 않고 연속으로 처리한다. (Kafka 장애 후 쌓인 backlog 복구용)
+// 담당 샤드는 한 인스턴스만 처리하므로 선점 없이 조회한다.
+@RequiredArgsConstructor
+class DrainOutboxPoller implements OutboxPoller, OutboxPageReader {
+
+    private final OutboxRepository outboxRepository;
+    private final OutboxDrainer outboxDrainer;
+
+    @Override
+    public void poll(AssignedShard assignedShard, Executor dataSource) {
+        outboxDrainer.drain(assignedShard.getShards(), 1, this, dataSource);
+    }
+
+    @Override
+    public List<Outbox> read(Long shard, LocalDateTime from, long afterOutboxId, int pageSize) {
+        return outboxRepository.findAllByShardKeyAndCreatedAtLessThanEqualAndOutboxIdGreaterThanOrderByOutboxIdAsc(
+                shard, from, afterOutboxId, Pageable.ofSize(pageSize)
+        );
+    }
+
+    @Override
+    public long countPending(Long shard, LocalDateTime from, int limit) {
+        return outboxRepository.countPending(shard, from, limit);
+    }
+
+}
@@ -1,31 +1,35 @@
 package lipam.board.common.outboxmessagerelay;
 
+import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * Outbox Pattern + Kafka 유실 방지 설정을 구현
  * 흐름
  * 1. DB 트랜잭션 커밋
- * 2. Outbox 테이블에 저장된 이벤트를 비동기로 Kafka 전송
+ * 2. Outbox 테이블에 저장된 이벤트를 MessageRelayDispatcher 의 샤드별 큐에서 Kafka 전송
  * 3. 실패하면 → 스케줄러가 미전송 이벤트를 재전송
  * 4. acks=all 로 브로커 복제 완료 후 성공 처리
  */
-@EnableAsync // 트랜잭션이 끝나면 Kafka 이벤트 전송을 비동기로 처리하기 위해 사용
+@Slf4j
 @Configuration
 // 각 서비스 모듈은 @SpringBootApplication이 있는 메인 패키지 하위만 기본적으로 컴포넌트 스캔한다.
 // 그래서 common 모듈의 lipam.board.common.outboxmessagerelay 패키지는 자동 스캔 대상에서 빠질 수 있어서,
@@ -37,6 +41,11 @@ public class MessageRelayConfig {
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
+    // 가상 스레드 모드 (spring.threads.virtual.enabled=true)
+    // Tomcat 요청 스레드와 함께 relay 의 스케줄러/스레드 풀도 가상 스레드로 실행해서, DB/Kafka I/O 를 기다리는 동안 플랫폼 스레드를 붙잡지 않는다.
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     // Kafka 로 이벤트를 전송할 Producer(KafkaTemplate)를 생성
     @Bean
     public KafkaTemplate<String, String> messageRelayKafkaTemplate() {
@@ -58,33 +67,91 @@ public class MessageRelayConfig {
         configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
         // 이벤트 유실을 방지하기 위해 ACK 를 all 로 설정
         configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        // 전송 결과를 기다리지 않고 연속으로 send() 하므로, 5ms 동안 모인 레코드를 하나의 요청으로 묶어서 보낸다.
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, 5);
 
         // 위에서 설정한 Producer 설정을 기반으로 KafkaTemplate 객체를 생성해서 반환
         // (이 Bean 이 실제 Kafka 로 이벤트를 전송하는 역할을 한다.)
         return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(configProps));
     }
 
-    // 트랜잭션이 끝난 후 이벤트를 비동기로 전송하기 위한 스레드 풀
-    @Bean
-    public Executor messageRelayPublishEventExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(20);   // 기본 스레드 개수
-        executor.setMaxPoolSize(50);    // 최대 스레드 개수
-        executor.setQueueCapacity(100); // 작업 대기 큐 크기
-        executor.setThreadNamePrefix("mr-pub-event-"); // 스레드 이름 prefix
-
-        // 설정이 완료된 ThreadPoolTaskExecutor 를 Bean 으로 반환
-        // (트랜잭션 종료 후 이벤트를 비동기로 전송할 때 사용된다.)
-        return executor;
-    }
-
     // 아직 Kafka 로 전송되지 않은 미전송 이벤트들을 일정 주기(예: 10초 이후)로 polling 해서 전송하기 위한 스레드 풀
     @Bean
     public Executor messageRelayPublishPendingEventExecutor() {
         // 각 애플리케이션 마다 샤드가 조금씩 분할되어 할당되기 때문에, 미전송 이벤트 처리는 싱글 스레드로 순차 처리
         // 단일 스레드 기반의 스케줄러 Executor 를 반환
         // (미전송 이벤트를 주기적으로 polling 해서 재전송할 때 사용된다.)
-        return Executors.newSingleThreadScheduledExecutor();
+        return Executors.newSingleThreadScheduledExecutor(threadFactory("mr-pub-pending-event-"));
+    }
+
+    // Kafka 전송에 성공한 outbox 를 모아서 삭제하기 위한 스레드 (OutboxBatchDeleter)
+    @Bean
+    public ScheduledExecutorService messageRelayDeleteOutboxExecutor() {
+        // 삭제는 한 스레드에서 순차적으로 처리해서, 같은 outbox 를 동시에 삭제하지 않도록 한다.
+        return Executors.newSingleThreadScheduledExecutor(threadFactory("mr-delete-outbox-"));
+    }
+
+    // drain 모드(message-relay.drain.enabled=true)에서 샤드별 미전송 이벤트를 병렬로 처리하기 위한 스레드 풀
+    @Bean
+    public Executor messageRelayDrainExecutor(@Value("${message-relay.drain.parallelism:4}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism); // 동시에 처리할 샤드 수
+        executor.setMaxPoolSize(parallelism);
+        executor.setThreadFactory(threadFactory("mr-drain-"));
+        return executor;
+    }
+
+    // 미전송 이벤트 polling 방식을 설정에 따라 한 번만 고른다.
+    // - append : message-relay.storage.mode=append (claim/drain 설정은 무시)
+    // - claim  : message-relay.claim.enabled=true
+    // - drain  : message-relay.drain.enabled=true
+    // - delete : 그 외 (기본값)
+    @Bean
+    public OutboxPoller outboxPoller(
+            @Value("${message-relay.storage.mode:delete}") OutboxStorageMode storageMode,
+            @Value("${message-relay.claim.enabled:false}") boolean claimEnabled,
+            @Value("${message-relay.drain.enabled:false}") boolean drainEnabled,
+            @Value("${message-relay.claim.workers-per-shard:2}") int claimWorkersPerShard, // claim 모드에서 인스턴스마다 한 샤드를 동시에 처리할 worker 수
+            @Value("${message-relay.storage.late-commit-window-seconds:300}") long lateCommitWindowSeconds,
+            OutboxRepository outboxRepository,
+            OutboxWatermarkRepository outboxWatermarkRepository,
+            OutboxClaimer outboxClaimer,
+            OutboxDrainer outboxDrainer,
+            MessageRelaySender messageRelaySender,
+            MessageRelayShardStats messageRelayShardStats,
+            MessageRelayCoordinator messageRelayCoordinator
+    ) {
+        OutboxPoller outboxPoller;
+        if (storageMode == OutboxStorageMode.APPEND) {
+            outboxPoller = new AppendOutboxPoller(outboxRepository, outboxWatermarkRepository, outboxDrainer, messageRelaySender, lateCommitWindowSeconds);
+        } else if (claimEnabled) {
+            outboxPoller = new ClaimOutboxPoller(outboxRepository, outboxClaimer, outboxDrainer, messageRelayCoordinator, claimWorkersPerShard);
+        } else if (drainEnabled) {
+            outboxPoller = new DrainOutboxPoller(outboxRepository, outboxDrainer);
+        } else {
+            outboxPoller = new DeleteOutboxPoller(outboxRepository, messageRelaySender, messageRelayShardStats);
+        }
+        log.info("[MessageRelayConfig.outboxPoller] {}", outboxPoller.getClass().getSimpleName());
+        return outboxPoller;
+    }
+
+    private ThreadFactory threadFactory(String threadNamePrefix) {
+        return virtualThreads
+                ? Thread.ofVirtual().name(threadNamePrefix, 0).factory()
+                : new CustomizableThreadFactory(threadNamePrefix);
+    }
+
+    // 서비스의 JPA 쓰기도 JDBC 배치로 묶어서 보내도록 Hibernate 배치 설정을 추가한다.
+    // (반복문에서 여러 엔티티를 저장/수정할 때 건마다 왕복하지 않고, 같은 테이블의 insert/update 를 정렬해서 batch-size 건씩 전송)
+    @Bean
+    public HibernatePropertiesCustomizer messageRelayHibernatePropertiesCustomizer(
+            @Value("${message-relay.hibernate.batch-size:100}") int batchSize
+    ) {
+        return hibernateProperties -> {
+            hibernateProperties.putIfAbsent("hibernate.jdbc.batch_size", batchSize);
+            hibernateProperties.putIfAbsent("hibernate.order_inserts", true);
+            hibernateProperties.putIfAbsent("hibernate.order_updates", true);
+        };
     }
 
-}
\ No newline at end of file
+}
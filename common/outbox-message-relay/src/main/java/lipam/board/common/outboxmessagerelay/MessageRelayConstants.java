@@ -6,6 +6,17 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PRIVATE) // 인스턴스 생성을 막기 위한 private 생성자
 public final class MessageRelayConstants { // 상수 클래스(또는 유틸성 클래스)는 상속을 방지하기 위해 final 을 붙인다.
     // 애플리케이션마다 샤드를 적절하게 분산시켜 이벤트 전송을 나눠서 처리하도록 하기 위한 상수 값 (임의로 4개의 샤드가 있다고 가정한다.)
+    // message-relay.shard-count 로 변경할 수 있다. (기본값)
     public static final int SHARD_COUNT = 4;
 
+    // 샤드 수 설정 (설정이 없으면 SHARD_COUNT)
+    // 이미 outbox 에 저장된 shard_key 가 담당자 없이 남지 않도록, 샤드 수는 늘리기만 한다.
+    public static final String SHARD_COUNT_PROPERTY = "${message-relay.shard-count:" + SHARD_COUNT + "}";
+
+    // 미전송 이벤트 polling 한 번에 조회하는 개수 (drain 모드에서는 시작 페이지 크기)
+    public static final int PENDING_EVENT_PAGE_SIZE = 100;
+
+    // 생성된지 이 시간(초)이 지난 outbox 만 미전송 이벤트로 본다. (너무 최근 건은 AFTER_COMMIT 비동기 전송이 처리 중일 수 있으니 제외)
+    public static final long PENDING_EVENT_DELAY_SECONDS = 10;
+
 }
\ No newline at end of file
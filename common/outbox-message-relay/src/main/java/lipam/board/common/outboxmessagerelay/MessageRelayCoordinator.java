@@ -24,14 +24,36 @@ public class MessageRelayCoordinator {
     @Value("${spring.application.name}")
     private String applicationName;
 
+    // 전체 샤드 수 (예: 4, 가상 샤드로 사용할 때는 256)
+    @Value(MessageRelayConstants.SHARD_COUNT_PROPERTY)
+    private long shardCount = MessageRelayConstants.SHARD_COUNT;
+
+    // 샤드 분배 방식
+    // - range      : 정렬된 애플리케이션 목록의 인덱스로 연속된 범위를 나눈다. (기본값)
+    // - rendezvous : 애플리케이션 아이디와 샤드 번호의 해시로 나눈다. 인스턴스가 들어오고 나갈 때 약 1/N 의 샤드만 이동한다.
+    @Value("${message-relay.shard-assignment:range}")
+    private String shardAssignment = "range";
+
     private final String APP_ID = UUID.randomUUID().toString(); // 현재 실행된 애플리케이션 인스턴스를 구분하기 위한 고유 ID
 
     private final int PING_INTERVAL_SECONDS = 3; // ping 주기 (3초마다)
     private final int PING_FAILURE_THRESHOLD = 3; // ping이 끊긴 것으로 판단할 기준(3번 누락)
 
+    // 현재 실행된 애플리케이션 인스턴스의 고유 ID
+    public String getAppId() {
+        return APP_ID;
+    }
+
     // 현재 인스턴스(APP_ID)가 담당할 샤드 목록을 계산해서 반환
     public AssignedShard assignedShard() {
-        return AssignedShard.of(APP_ID, findAppIds(), MessageRelayConstants.SHARD_COUNT);
+        if ("rendezvous".equals(shardAssignment)) {
+            return AssignedShard.ofRendezvous(APP_ID, findAppIds(), shardCount);
+        }
+        return AssignedShard.of(APP_ID, findAppIds(), shardCount);
+    }
+
+    public long getShardCount() {
+        return shardCount;
     }
 
     // Redis 에 등록된 "현재 실행 중인 애플리케이션(appId) 목록"을 가져온다.
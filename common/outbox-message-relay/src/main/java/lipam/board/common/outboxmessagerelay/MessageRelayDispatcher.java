@@ -0,0 +1,113 @@
+package lipam.board.common.outboxmessagerelay;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+// 트랜잭션 커밋 이후(AFTER_COMMIT) Kafka 전송 작업을 넘겨받아 실행하는 전용 큐
+// - 샤드별로 나뉜(striped) 단일 스레드 + 크기가 제한된 큐로 구성되어, 한 샤드의 전송이 느려져도(브로커 메타데이터 조회 대기 등) 다른 샤드의 전송은 막히지 않는다.
+// - 큐가 가득 차면 예외를 던지지 않고 작업을 버린다. (shed)
+//   outbox 레코드는 이미 커밋되어 있으므로, 버려진 이벤트는 미전송 이벤트 polling(MessageRelay.publishPendingEvent)이 전송한다.
+//   요청 스레드(커밋한 스레드)는 큐 상태와 상관없이 바로 반환된다.
+@Slf4j
+@Component
+public class MessageRelayDispatcher {
+
+    private final List<ThreadPoolExecutor> stripes;
+
+    private final LongAdder dispatchedCount = new LongAdder(); // 큐에 넣은 누적 건수
+    private final LongAdder rejectedCount = new LongAdder(); // 큐가 가득 차서 polling 으로 넘긴 누적 건수
+    private final LongAdder handoffCount = new LongAdder(); // 실행이 시작된 누적 건수
+    private final LongAdder handoffNanos = new LongAdder(); // 큐에 넣은 뒤 실행이 시작되기까지 걸린 시간의 합
+    private final AtomicLong maxHandoffNanos = new AtomicLong();
+
+    public MessageRelayDispatcher(
+            @Value("${message-relay.dispatch.stripes:4}") int stripeCount, // 큐(= 전송 스레드) 개수
+            @Value("${message-relay.dispatch.queue-capacity:1000}") int queueCapacity, // 큐 하나에 쌓아둘 수 있는 작업 수
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads // 가상 스레드 모드
+    ) {
+        // 가상 스레드 모드에서도 큐마다 스레드는 하나이고 큐 크기 제한도 그대로이므로, 전송 순서와 backpressure 는 동일하다.
+        ThreadFactory threadFactory = virtualThreads
+                ? Thread.ofVirtual().name("mr-pub-event-", 0).factory()
+                : new CustomizableThreadFactory("mr-pub-event-");
+        this.stripes = IntStream.range(0, stripeCount)
+                .mapToObj(i -> new ThreadPoolExecutor(
+                        1, 1, 0, TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(queueCapacity),
+                        threadFactory,
+                        new ThreadPoolExecutor.AbortPolicy()
+                ))
+                .toList();
+    }
+
+    // 샤드에 해당하는 큐에 작업을 넣는다. 큐가 가득 찼으면 false 를 반환한다.
+    public boolean dispatch(Long shardKey, Runnable task) {
+        long enqueuedNanos = System.nanoTime();
+        try {
+            stripe(shardKey).execute(() -> {
+                recordHandoff(System.nanoTime() - enqueuedNanos);
+                task.run();
+            });
+            dispatchedCount.increment();
+            return true;
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            return false;
+        }
+    }
+
+    private ThreadPoolExecutor stripe(Long shardKey) {
+        return stripes.get((int) Math.floorMod(shardKey == null ? 0 : shardKey, (long) stripes.size()));
+    }
+
+    private void recordHandoff(long nanos) {
+        handoffCount.increment();
+        handoffNanos.add(nanos);
+        maxHandoffNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    // 모든 큐에 쌓여있는 작업 수
+    public int getQueueDepth() {
+        return stripes.stream().mapToInt(stripe -> stripe.getQueue().size()).sum();
+    }
+
+    public int getStripeCount() {
+        return stripes.size();
+    }
+
+    public long getDispatchedCount() {
+        return dispatchedCount.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    // 큐에 넣은 뒤 실행이 시작되기까지 걸린 평균 시간
+    public double getAverageHandoffMillis() {
+        long count = handoffCount.sum();
+        return count == 0 ? 0 : handoffNanos.sum() / 1_000_000.0 / count;
+    }
+
+    public double getMaxHandoffMillis() {
+        return maxHandoffNanos.get() / 1_000_000.0;
+    }
+
+    // 종료 시 큐에 남은 작업은 잠시 기다려서 처리한다. (남은 이벤트는 재시작 후 polling 으로 전송된다.)
+    @PreDestroy
+    public void close() throws InterruptedException {
+        stripes.forEach(ThreadPoolExecutor::shutdown);
+        for (ThreadPoolExecutor stripe : stripes) {
+            stripe.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+}
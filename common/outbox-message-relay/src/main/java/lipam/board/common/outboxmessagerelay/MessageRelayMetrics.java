@@ -0,0 +1,84 @@
+package lipam.board.common.outboxmessagerelay;
+
+import io.micrometer.core.instrument.*;
+import lipam.board.common.event.EventType;
+import lipam.board.common.snowflake.SnowflakeId;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// MessageRelay 의 Micrometer 지표 (/actuator/metrics 로 조회)
+// - message.relay.send          : send() 부터 브로커 응답(acks=all)까지 걸린 시간 (eventType, result 태그)
+// - message.relay.send.failures : 전송 실패 건수 (eventType 태그)
+// - message.relay.event.latency : 이벤트 생성 시각(eventId 의 Snowflake 타임스탬프)부터 브로커 응답까지 걸린 시간 (eventType 태그)
+// - message.relay.backlog       : 샤드별 미전송 이벤트 수 (shard 태그, message-relay.backlog.count-limit 에서 멈춘다.)
+// - message.relay.assigned.shards : 현재 인스턴스에 할당된 샤드 수
+// - message.relay.dispatch.*    : 커밋 이후 전송 큐(MessageRelayDispatcher)의 깊이, 버린 건수, 대기 시간
+@Component
+public class MessageRelayMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger assignedShardCount = new AtomicInteger();
+
+    public MessageRelayMetrics(MeterRegistry meterRegistry, MessageRelayDispatcher messageRelayDispatcher) {
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("message.relay.assigned.shards", assignedShardCount, AtomicInteger::get)
+                .description("number of outbox shards assigned to this instance")
+                .register(meterRegistry);
+        Gauge.builder("message.relay.dispatch.queue.depth", messageRelayDispatcher, MessageRelayDispatcher::getQueueDepth)
+                .description("after-commit send tasks waiting in the dispatch queues")
+                .register(meterRegistry);
+        FunctionCounter.builder("message.relay.dispatch.rejected", messageRelayDispatcher, MessageRelayDispatcher::getRejectedCount)
+                .description("after-commit send tasks shed to the pending poller because the queue was full")
+                .register(meterRegistry);
+        TimeGauge.builder("message.relay.dispatch.handoff.avg", messageRelayDispatcher, TimeUnit.MILLISECONDS, MessageRelayDispatcher::getAverageHandoffMillis)
+                .register(meterRegistry);
+        TimeGauge.builder("message.relay.dispatch.handoff.max", messageRelayDispatcher, TimeUnit.MILLISECONDS, MessageRelayDispatcher::getMaxHandoffMillis)
+                .register(meterRegistry);
+    }
+
+    // Kafka 전송 결과를 기록한다.
+    void recordSend(EventType eventType, Long eventId, long elapsedNanos, Throwable e) {
+        String type = eventType.name();
+        Timer.builder("message.relay.send")
+                .tag("eventType", type)
+                .tag("result", e == null ? "success" : "failure")
+                .publishPercentiles(0.5, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        if (e != null) {
+            meterRegistry.counter("message.relay.send.failures", "eventType", type).increment();
+            return;
+        }
+
+        if (eventId != null) {
+            Timer.builder("message.relay.event.latency")
+                    .tag("eventType", type)
+                    .publishPercentiles(0.5, 0.99)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - SnowflakeId.timestampMillis(eventId))));
+        }
+    }
+
+    // 샤드별 처리 현황이 처음 만들어질 때 backlog 지표를 등록한다.
+    void registerShard(OutboxShardStats stats) {
+        Gauge.builder("message.relay.backlog", stats, OutboxShardStats::getBacklog)
+                .tag("shard", String.valueOf(stats.getShard()))
+                .description("pending outbox rows of the shard, capped at message-relay.backlog.count-limit")
+                .register(meterRegistry);
+        FunctionCounter.builder("message.relay.drained", stats, OutboxShardStats::getDrainedCount)
+                .tag("shard", String.valueOf(stats.getShard()))
+                .register(meterRegistry);
+    }
+
+    void updateAssignedShardCount(int count) {
+        assignedShardCount.set(count);
+    }
+
+}
@@ -0,0 +1,137 @@
+package lipam.board.common.outboxmessagerelay;
+
+import lipam.board.common.event.Event;
+import lipam.board.common.event.EventHeaders;
+import lipam.board.common.event.EventType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+// outbox 를 Kafka 로 전송하고, 전송에 성공하면 OutboxBatchDeleter 에 넘긴다.
+// 커밋 이후 전송(MessageRelay.publishEvent)과 미전송 이벤트 polling(OutboxPoller)이 함께 사용한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MessageRelaySender {
+
+    private final KafkaTemplate<String, String> messageRelayKafkaTemplate; // Kafka 로 이벤트를 전송하기 위한 템플릿
+    private final OutboxBatchDeleter outboxBatchDeleter; // 전송에 성공한 outbox 를 모아서 삭제
+    private final MessageRelayMetrics messageRelayMetrics; // 전송 지연/실패 지표
+
+    private final Set<Long> sendingOutboxIds = ConcurrentHashMap.newKeySet(); // 전송 결과를 기다리는 중인 outbox
+
+    // 미전송 이벤트를 재전송할 때, 같은 게시글의 카운터 이벤트는 한 페이지 안에서 가장 최신 이벤트만 보낸다. (OutboxCoalescer 참고)
+    @Value("${message-relay.coalesce.enabled:false}")
+    private boolean coalesceEnabled;
+
+    // 합칠 카운터 이벤트 타입
+    @Value("${message-relay.coalesce.event-types:ARTICLE_LIKED,ARTICLE_UNLIKED,ARTICLE_VIEWED,COMMENT_CREATED,COMMENT_DELETED}")
+    private Set<EventType> coalesceEventTypes = EnumSet.of(
+            EventType.ARTICLE_LIKED, EventType.ARTICLE_UNLIKED, EventType.ARTICLE_VIEWED,
+            EventType.COMMENT_CREATED, EventType.COMMENT_DELETED
+    );
+
+    // Kafka 로 전송하고 성공하면 outbox 테이블에서 해당 레코드를 삭제한다.
+    // 실패하면 outbox 에 남겨두고, 스케줄러가 나중에 재전송한다.
+    // 전송 결과를 기다리지 않고 콜백으로 처리하므로, 호출한 스레드는 브로커 응답/DB 삭제를 기다리며 붙잡혀 있지 않는다.
+    // (전송 처리량은 스레드 수가 아니라 Producer 의 배치 전송에 의해 결정된다.)
+    // 반환된 CompletableFuture 는 전송이 끝나면 "브로커 응답을 확인했는지" 로 완료된다.
+    // - true : 이번에 전송이 성공했거나, 이미 전송이 끝나 삭제(전송 완료 표시)를 기다리는 outbox
+    // - false: 다른 스레드(AFTER_COMMIT 전송 등)가 전송 중이라 건너뛴 outbox (아직 성공 여부를 모름)
+    // 전송이 실패하면 예외로 완료된다.
+    CompletableFuture<Boolean> publishEvent(Outbox outbox) {
+        Long outboxId = outbox.getOutboxId();
+        // 전송이 끝나 삭제(전송 완료 표시)를 기다리는 outbox 는 다시 보내지 않는다.
+        if (outboxBatchDeleter.isPending(outboxId)) {
+            return CompletableFuture.completedFuture(true);
+        }
+        // 이미 전송 중인 outbox 는 다시 보내지 않는다.
+        if (!sendingOutboxIds.add(outboxId)) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        try {
+            Long eventId = Event.readEventId(outbox.getPayload());
+            long sendStartNanos = System.nanoTime();
+            return messageRelayKafkaTemplate.send(createRecord(outbox, eventId)) // KafkaTemplate 으로 전송 (비동기)
+                    .whenComplete((result, e) -> {
+                        messageRelayMetrics.recordSend(outbox.getEventType(), eventId, System.nanoTime() - sendStartNanos, e);
+                        if (e == null) {
+                            // Kafka 전송이 성공했으면 outbox 는 처리 완료이므로 삭제 대기 목록에 추가 (모아서 한 번에 삭제)
+                            outboxBatchDeleter.add(outboxId);
+                        } else {
+                            // 여기서 실패하면 outbox는 삭제되지 않고 남는다 → 스케줄러가 재전송 대상이 됨
+                            log.error("[MessageRelaySender.publishEvent] outbox={}", outbox, e);
+                        }
+                        sendingOutboxIds.remove(outboxId);
+                    })
+                    .thenApply(result -> true);
+        } catch (Exception e) {
+            // send() 자체가 실패한 경우 (직렬화 실패, 메타데이터 조회 타임아웃 등)
+            sendingOutboxIds.remove(outboxId);
+            messageRelayMetrics.recordSend(outbox.getEventType(), null, 0, e);
+            log.error("[MessageRelaySender.publishEvent] outbox={}", outbox, e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // 미전송 이벤트 한 페이지를 전송하고, 전송이 확인된 outboxId 들로 완료된다.
+    // 최신 카운터 이벤트만 보내고, 그 전송이 성공하면 대체된 이벤트는 보내지 않고 전송 완료로 처리한다.
+    // coalesce 가 꺼져 있으면 합칠 타입이 없으므로 모든 outbox 가 대체되는 이벤트 없이 그대로 전송된다.
+    CompletableFuture<Set<Long>> publishEvents(List<Outbox> outboxes) {
+        Set<Long> confirmedOutboxIds = ConcurrentHashMap.newKeySet();
+        Map<Outbox, List<Outbox>> coalesced = OutboxCoalescer.coalesce(outboxes, coalesceEnabled ? coalesceEventTypes : Set.of());
+        if (coalesced.size() < outboxes.size()) {
+            log.info("[MessageRelaySender.publishEvents] coalesced {} -> {}", outboxes.size(), coalesced.size());
+        }
+        return CompletableFuture.allOf(
+                coalesced.entrySet().stream()
+                        .map(entry -> publishEvent(entry.getKey()).thenAccept(confirmed -> {
+                            if (!confirmed) {
+                                return; // 최신 이벤트의 전송 결과를 모르므로, 대체된 이벤트도 전송 완료로 처리하지 않는다.
+                            }
+                            confirmedOutboxIds.add(entry.getKey().getOutboxId());
+                            entry.getValue().forEach(superseded -> {
+                                outboxBatchDeleter.add(superseded.getOutboxId());
+                                confirmedOutboxIds.add(superseded.getOutboxId());
+                            });
+                        }))
+                        .toArray(CompletableFuture[]::new)
+        ).thenApply(v -> confirmedOutboxIds);
+    }
+
+    private ProducerRecord<String, String> createRecord(Outbox outbox, Long eventId) {
+        // Consumer 가 본문(JSON)을 파싱하지 않고도 이벤트 타입을 보고 걸러낼 수 있도록 헤더를 함께 전송한다.
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(EventHeaders.EVENT_TYPE, outbox.getEventType().name().getBytes(StandardCharsets.UTF_8));
+        headers.add(EventHeaders.EVENT_ID, String.valueOf(eventId).getBytes(StandardCharsets.UTF_8));
+        headers.add(EventHeaders.SCHEMA_VERSION, EventHeaders.CURRENT_SCHEMA_VERSION.getBytes(StandardCharsets.UTF_8));
+
+        return new ProducerRecord<>(
+                outbox.getEventType().getTopic(),       // 전송할 Kafka Topic
+                null,                                   // 파티션은 Key 로 결정
+                String.valueOf(partitionKey(outbox)),   // Kafka 에 전송하는 Key, 동일한 Key 는 동일한 Kafka 파티션으로 전송되어 순서가 보장된다.
+                outbox.getPayload(),                    // 실제 전송할 메시지(payload JSON)
+                headers
+        );
+    }
+
+    // Kafka 레코드 Key 로 사용할 비즈니스 키
+    // partitionKey 컬럼이 추가되기 전에 저장된 outbox 는 값이 없으므로, 기존처럼 shardKey 를 Key 로 사용한다.
+    private Long partitionKey(Outbox outbox) {
+        return outbox.getPartitionKey() != null ? outbox.getPartitionKey() : outbox.getShardKey();
+    }
+
+}
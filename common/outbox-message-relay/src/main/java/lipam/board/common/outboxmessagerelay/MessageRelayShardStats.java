@@ -0,0 +1,57 @@
+package lipam.board.common.outboxmessagerelay;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntToLongFunction;
+
+// 샤드별 미전송 이벤트 처리 현황(OutboxShardStats)을 모아두고, backlog 를 주기적으로 다시 센다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MessageRelayShardStats {
+
+    private final MessageRelayMetrics messageRelayMetrics;
+
+    private final Map<Long, OutboxShardStats> shardStats = new ConcurrentHashMap<>(); // 샤드 번호 -> 처리 현황
+
+    // backlog 지표를 위한 샤드별 미전송 이벤트 수 조회는, 최대 count-limit 건까지만 세고 refresh-seconds 마다 한 번만 한다.
+    // (backlog 가 쌓여 DB 가 바쁠 때 샤드마다 매 주기 COUNT(*) 로 전체를 스캔하지 않도록. 그 사이에는 drain 으로 전송한 만큼 차감한다.)
+    @Value("${message-relay.backlog.count-limit:10000}")
+    private int backlogCountLimit = 10000;
+
+    @Value("${message-relay.backlog.refresh-seconds:60}")
+    private long backlogRefreshSeconds = 60;
+
+    // 샤드의 처리 현황 (처음 조회될 때 만들고 지표를 등록한다.)
+    OutboxShardStats get(Long shard) {
+        return shardStats.computeIfAbsent(shard, key -> {
+            OutboxShardStats stats = OutboxShardStats.of(key);
+            messageRelayMetrics.registerShard(stats);
+            return stats;
+        });
+    }
+
+    // refresh-seconds 가 지났으면 countPending(최대 건수)으로 backlog 를 다시 센다.
+    void refreshBacklog(OutboxShardStats stats, IntToLongFunction countPending) {
+        if (!stats.isBacklogStale(TimeUnit.SECONDS.toNanos(backlogRefreshSeconds))) {
+            return;
+        }
+        try {
+            stats.updateBacklog(countPending.applyAsLong(backlogCountLimit));
+        } catch (Exception e) {
+            log.warn("[MessageRelayShardStats.refreshBacklog] shard={}", stats.getShard(), e);
+        }
+    }
+
+    public Map<Long, OutboxShardStats> getAll() {
+        return Collections.unmodifiableMap(shardStats);
+    }
+
+}
@@ -21,14 +21,16 @@ public class Outbox {
     @Enumerated(EnumType.STRING)
     private EventType eventType;
     private String payload;
-    private Long shardKey;
+    private Long partitionKey; // Kafka 레코드 Key (boardId, articleId 같은 비즈니스 키 원본)
+    private Long shardKey; // MessageRelay 가 polling 을 나눠 맡기 위한 샤드 (partitionKey % SHARD_COUNT)
     private LocalDateTime createdAt;
 
-    public static Outbox create(Long outboxId, EventType eventType, String payload, Long shardKey) {
+    public static Outbox create(Long outboxId, EventType eventType, String payload, Long partitionKey, Long shardKey) {
         Outbox outbox = new Outbox();
         outbox.outboxId = outboxId;
         outbox.eventType = eventType;
         outbox.payload = payload;
+        outbox.partitionKey = partitionKey;
         outbox.shardKey = shardKey;
         outbox.createdAt = LocalDateTime.now();
 
@@ -0,0 +1,105 @@
+package lipam.board.common.outboxmessagerelay;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Kafka 전송에 성공한 outbox 를 모아서 한 번에 삭제한다.
+// 전송 완료 콜백마다 한 건씩 delete 하지 않고,
+// 일정 주기(delete-interval-millis)마다 또는 일정 개수(delete-batch-size)가 모이면 delete ... where outbox_id in (...) 한 번으로 삭제한다.
+// 삭제는 전용 스레드(messageRelayDeleteOutboxExecutor)에서만 수행해서, Kafka Producer 의 I/O 스레드(콜백 스레드)에서 DB 작업을 하지 않도록 한다.
+// append 모드(message-relay.storage.mode=append)에서는 삭제하지 않고 published_at 만 기록한다. (오래된 레코드는 OutboxPartitionRotator 가 파티션 단위로 정리)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxBatchDeleter {
+
+    private final OutboxRepository outboxRepository;
+    private final ScheduledExecutorService messageRelayDeleteOutboxExecutor;
+
+    @Value("${message-relay.delete-batch-size:100}")
+    private int deleteBatchSize;
+
+    // delete: 전송이 끝난 outbox 를 삭제 (기본), append: 삭제하지 않고 전송 완료로 표시
+    @Value("${message-relay.storage.mode:delete}")
+    private OutboxStorageMode storageMode = OutboxStorageMode.DELETE;
+
+    // 서비스 DB 가 샤딩되어 있으면 outbox 가 어느 DB 에 있는지 모르므로 모든 DB 에 같은 삭제를 실행한다. (없는 ID 는 무시되므로 멱등)
+    @Autowired(required = false)
+    private OutboxDataSourceScope outboxDataSourceScope = OutboxDataSourceScope.SINGLE;
+
+    private final Set<Long> pendingOutboxIds = ConcurrentHashMap.newKeySet(); // 전송은 끝났고 삭제를 기다리는 outbox
+    private final AtomicBoolean flushRequested = new AtomicBoolean(); // 개수 초과로 인한 flush 요청이 이미 제출되었는지 여부
+
+    // 전송에 성공한 outbox 를 삭제 대기 목록에 추가한다.
+    public void add(Long outboxId) {
+        pendingOutboxIds.add(outboxId);
+
+        // 한 배치만큼 모였으면 주기를 기다리지 않고 바로 삭제를 요청한다. (요청은 한 번만 제출)
+        if (pendingOutboxIds.size() >= deleteBatchSize && flushRequested.compareAndSet(false, true)) {
+            messageRelayDeleteOutboxExecutor.execute(this::flush);
+        }
+    }
+
+    // 이미 전송되어 삭제를 기다리는 outbox 인지 확인한다. (미전송 이벤트 polling 시 중복 전송 방지)
+    public boolean isPending(Long outboxId) {
+        return pendingOutboxIds.contains(outboxId);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${message-relay.delete-interval-millis:100}", // 기본 100ms 마다 실행
+            scheduler = "messageRelayDeleteOutboxExecutor"
+    )
+    public void flush() {
+        flushRequested.set(false);
+
+        while (!pendingOutboxIds.isEmpty()) {
+            List<Long> outboxIds = new ArrayList<>(deleteBatchSize);
+            for (Long outboxId : pendingOutboxIds) {
+                outboxIds.add(outboxId);
+                if (outboxIds.size() >= deleteBatchSize) {
+                    break;
+                }
+            }
+
+            try {
+                for (Executor dataSource : outboxDataSourceScope.dataSources()) {
+                    dataSource.execute(() -> flush(outboxIds));
+                }
+            } catch (Exception e) {
+                // 삭제에 실패해도 이벤트는 이미 전송되었으므로, 대기 목록에 남겨두고 다음 주기에 다시 삭제를 시도한다.
+                log.error("[OutboxBatchDeleter.flush] outboxIds.size={}", outboxIds.size(), e);
+                return;
+            }
+            outboxIds.forEach(pendingOutboxIds::remove);
+        }
+    }
+
+    private void flush(List<Long> outboxIds) {
+        if (storageMode == OutboxStorageMode.APPEND) {
+            outboxRepository.markPublished(outboxIds, LocalDateTime.now()); // update outbox set published_at = ? where outbox_id in (...)
+        } else {
+            outboxRepository.deleteAllByIdInBatch(outboxIds); // delete from outbox where outbox_id in (...)
+        }
+    }
+
+    // 종료 직전에 남아있는 삭제 대기 목록을 비운다. (남기면 재시작 후 다시 전송된다.)
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+}
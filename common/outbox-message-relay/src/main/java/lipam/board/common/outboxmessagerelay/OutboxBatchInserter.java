@@ -0,0 +1,87 @@
+package lipam.board.common.outboxmessagerelay;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// 한 트랜잭션에서 발행된 outbox 를 모아두었다가, 커밋 직전에 multi-row insert 로 한 번에 저장한다.
+// outbox 한 건마다 JPA save(아이디가 지정된 엔티티라 merge → select + insert)를 하지 않고,
+// insert into outbox (...) values (...), (...), ... 로 insert-batch-size 건씩 묶어서 저장한다.
+// 모아둔 목록은 트랜잭션 리소스로 바인딩되어 있어서, 다른 트랜잭션(스레드)과 섞이지 않고 트랜잭션이 끝나면 정리된다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxBatchInserter {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String INSERT_SQL = "insert into outbox (outbox_id, event_type, payload, partition_key, shard_key, created_at) values ";
+    private static final String VALUES_SQL = "(?, ?, ?, ?, ?, ?)";
+
+    // multi-row insert 한 번에 넣을 최대 건수
+    @Value("${message-relay.insert-batch-size:500}")
+    private int insertBatchSize = 500;
+
+    // 현재 트랜잭션의 저장 대기 목록에 추가한다.
+    // 트랜잭션 밖에서 발행된 outbox 는 저장하지 않는다. (기존 BEFORE_COMMIT 리스너와 동일)
+    public void add(Outbox outbox) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            log.warn("[OutboxBatchInserter.add] no active transaction. outbox={}", outbox);
+            return;
+        }
+        bufferedOutboxes().add(outbox);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Outbox> bufferedOutboxes() {
+        List<Outbox> outboxes = (List<Outbox>) TransactionSynchronizationManager.getResource(this);
+        if (outboxes != null) {
+            return outboxes;
+        }
+
+        List<Outbox> newOutboxes = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, newOutboxes);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                insert(newOutboxes);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(OutboxBatchInserter.this);
+            }
+        });
+        return newOutboxes;
+    }
+
+    void insert(List<Outbox> outboxes) {
+        for (int from = 0; from < outboxes.size(); from += insertBatchSize) {
+            List<Outbox> chunk = outboxes.subList(from, Math.min(from + insertBatchSize, outboxes.size()));
+            jdbcTemplate.update(INSERT_SQL + String.join(", ", Collections.nCopies(chunk.size(), VALUES_SQL)), toArgs(chunk));
+        }
+    }
+
+    private Object[] toArgs(List<Outbox> outboxes) {
+        List<Object> args = new ArrayList<>(outboxes.size() * 6);
+        for (Outbox outbox : outboxes) {
+            args.add(outbox.getOutboxId());
+            args.add(outbox.getEventType().name());
+            args.add(outbox.getPayload());
+            args.add(outbox.getPartitionKey());
+            args.add(outbox.getShardKey());
+            args.add(Timestamp.valueOf(outbox.getCreatedAt()));
+        }
+        return args.toArray();
+    }
+
+}
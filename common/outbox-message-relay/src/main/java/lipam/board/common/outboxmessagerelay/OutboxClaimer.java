@@ -0,0 +1,39 @@
+package lipam.board.common.outboxmessagerelay;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// claim 모드에서 미전송 outbox 를 선점(lease)한다.
+// select ... for update skip locked 로 다른 worker 가 잠근 레코드는 기다리지 않고 건너뛰고,
+// 조회한 레코드에 claimed_by / claimed_until 을 기록한 뒤 바로 커밋한다.
+// 트랜잭션(행 잠금)은 선점하는 동안만 유지되고, Kafka 전송은 트랜잭션 밖에서 이루어진다.
+// 전송에 성공하면 OutboxBatchDeleter 가 삭제하고, 실패하면 claimed_until 이 지난 뒤 다른 worker 가 다시 선점한다.
+@Component
+@RequiredArgsConstructor
+public class OutboxClaimer {
+
+    private final OutboxRepository outboxRepository;
+    private final MessageRelayCoordinator messageRelayCoordinator;
+
+    // 선점 유지 시간. 이 시간 안에 전송이 끝나지 않으면 다른 worker 가 다시 선점할 수 있다.
+    @Value("${message-relay.claim.lease-seconds:30}")
+    private long leaseSeconds;
+
+    @Transactional
+    public List<Outbox> claim(Long shard, LocalDateTime from, long afterOutboxId, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> outboxIds = outboxRepository.findClaimableOutboxIds(shard, from, afterOutboxId, now, limit);
+        if (outboxIds.isEmpty()) {
+            return List.of();
+        }
+
+        outboxRepository.claim(outboxIds, messageRelayCoordinator.getAppId(), now.plusSeconds(leaseSeconds));
+        return outboxRepository.findAllByOutboxIdInOrderByOutboxIdAsc(outboxIds);
+    }
+
+}
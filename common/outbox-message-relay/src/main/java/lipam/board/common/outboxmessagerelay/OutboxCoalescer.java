@@ -0,0 +1,81 @@
+package lipam.board.common.outboxmessagerelay;
+
+import lipam.board.common.event.Event;
+import lipam.board.common.event.EventPayload;
+import lipam.board.common.event.EventType;
+import lipam.board.common.event.payload.*;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.*;
+
+// 미전송 이벤트를 재전송할 때, 같은 게시글의 카운터 이벤트 중 가장 최신 이벤트만 보내고 나머지는 보내지 않는다.
+// 좋아요/조회/댓글 이벤트는 증감값이 아니라 그 시점의 전체 카운트(articleLikeCount, articleViewCount, articleCommentCount)를 싣고 있어서,
+// 최신 이벤트 하나만 전달되어도 Consumer 는 같은 결과를 얻는다.
+// 같은 카운터인지는 (토픽, articleId) 로 구분한다. (ARTICLE_LIKED / ARTICLE_UNLIKED 는 같은 articleLikeCount 를 싣고 같은 토픽으로 간다.)
+// 대상이 아닌 이벤트(게시글 생성/수정/삭제 등)는 건드리지 않고 원래 순서대로 보낸다.
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class OutboxCoalescer {
+
+    // key: 전송할 outbox (입력 순서 유지), value: 이 outbox 로 대체되어 보내지 않아도 되는 outbox
+    static Map<Outbox, List<Outbox>> coalesce(List<Outbox> outboxes, Set<EventType> eventTypes) {
+        Map<String, List<Outbox>> counterGroups = new HashMap<>();
+        Map<Outbox, String> counterKeys = new HashMap<>();
+        for (Outbox outbox : outboxes) {
+            String counterKey = counterKey(outbox, eventTypes);
+            if (counterKey != null) {
+                counterGroups.computeIfAbsent(counterKey, key -> new ArrayList<>()).add(outbox);
+                counterKeys.put(outbox, counterKey);
+            }
+        }
+
+        Map<Outbox, List<Outbox>> result = new LinkedHashMap<>();
+        for (Outbox outbox : outboxes) {
+            String counterKey = counterKeys.get(outbox);
+            if (counterKey == null) {
+                result.put(outbox, List.of());
+                continue;
+            }
+
+            List<Outbox> group = counterGroups.get(counterKey);
+            Outbox latest = Collections.max(group, Comparator.comparing(Outbox::getOutboxId)); // Snowflake 이므로 클수록 최신
+            if (outbox == latest) {
+                result.put(outbox, group.stream().filter(superseded -> superseded != latest).toList());
+            }
+        }
+        return result;
+    }
+
+    private static String counterKey(Outbox outbox, Set<EventType> eventTypes) {
+        if (!eventTypes.contains(outbox.getEventType())) {
+            return null;
+        }
+
+        Event<EventPayload> event = Event.fromJson(outbox.getPayload());
+        Long articleId = event == null ? null : findArticleId(event.getPayload());
+        if (articleId == null) {
+            return null; // 게시글을 알 수 없으면 합치지 않고 그대로 보낸다.
+        }
+        return outbox.getEventType().getTopic() + ":" + articleId;
+    }
+
+    private static Long findArticleId(EventPayload payload) {
+        if (payload instanceof ArticleLikedEventPayload liked) {
+            return liked.getArticleId();
+        }
+        if (payload instanceof ArticleUnlikedEventPayload unliked) {
+            return unliked.getArticleId();
+        }
+        if (payload instanceof ArticleViewedEventPayload viewed) {
+            return viewed.getArticleId();
+        }
+        if (payload instanceof CommentCreatedEventPayload commentCreated) {
+            return commentCreated.getArticleId();
+        }
+        if (payload instanceof CommentDeletedEventPayload commentDeleted) {
+            return commentDeleted.getArticleId();
+        }
+        return null;
+    }
+
+}
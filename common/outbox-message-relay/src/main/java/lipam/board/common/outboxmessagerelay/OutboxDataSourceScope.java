@@ -0,0 +1,18 @@
+package lipam.board.common.outboxmessagerelay;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+// 서비스 DB 가 여러 물리 DB(샤드)로 나뉘어 있으면 outbox 테이블도 DB 마다 따로 있다.
+// 트랜잭션 밖에서 실행되는 미전송 이벤트 polling, 전송 완료 처리, 파티션 관리가 모든 DB 를 돌도록 하기 위한 확장 지점이다.
+// 서비스가 이 타입의 빈을 등록하지 않으면 DB 가 하나라고 보고 SINGLE 을 사용한다.
+// (outbox 저장은 비즈니스 트랜잭션 안에서 일어나므로 이미 그 트랜잭션의 DB 에 저장된다.)
+@FunctionalInterface
+public interface OutboxDataSourceScope {
+
+    OutboxDataSourceScope SINGLE = () -> List.of(Runnable::run);
+
+    // 물리 DB 마다 하나씩, 넘겨받은 작업을 그 DB 로 연결되도록 한 상태에서 "호출한 스레드에서 바로" 실행하는 Executor
+    List<Executor> dataSources();
+
+}
@@ -0,0 +1,118 @@
+package lipam.board.common.outboxmessagerelay;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// drain / claim / append 모드가 함께 쓰는 샤드 drain 루프
+// 모드마다 다른 것은 페이지를 읽는 방법(OutboxPageReader)과 처리할 샤드, 샤드당 worker 수뿐이다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxDrainer {
+
+    private final MessageRelaySender messageRelaySender;
+    private final MessageRelayShardStats messageRelayShardStats;
+    private final Executor messageRelayDrainExecutor; // 샤드별 미전송 이벤트를 병렬로 처리하기 위한 스레드 풀
+
+    private static final long DRAIN_PAGE_TIMEOUT_SECONDS = 10;
+
+    // 페이지가 가득 찰 때마다 두 배씩 늘려갈 페이지 크기의 상한
+    @Value("${message-relay.drain.max-page-size:2000}")
+    private int drainMaxPageSize = 2000;
+
+    // 샤드마다 backlog 를 조회한 뒤 workersPerShard 개의 worker 를 messageRelayDrainExecutor 에서 병렬로 실행하고,
+    // 모든 샤드가 끝날 때까지 기다린다. (다음 주기의 drain 과 겹치지 않도록 하기 위함)
+    void drain(List<Long> shards, int workersPerShard, OutboxPageReader pageReader, Executor dataSource) {
+        LocalDateTime from = LocalDateTime.now().minusSeconds(MessageRelayConstants.PENDING_EVENT_DELAY_SECONDS);
+        List<OutboxShardStats> roundStats = shards.stream()
+                .map(messageRelayShardStats::get)
+                .toList();
+        roundStats.forEach(OutboxShardStats::startRound);
+
+        CompletableFuture.allOf(
+                roundStats.stream()
+                        .map(stats -> CompletableFuture
+                                .runAsync(() -> dataSource.execute(() -> messageRelayShardStats.refreshBacklog(
+                                        stats, limit -> pageReader.countPending(stats.getShard(), from, limit)
+                                )), messageRelayDrainExecutor)
+                                .thenCompose(v -> CompletableFuture.allOf(
+                                        IntStream.range(0, workersPerShard)
+                                                .mapToObj(i -> CompletableFuture.runAsync(() -> dataSource.execute(() -> drainShard(stats, from, pageReader)), messageRelayDrainExecutor))
+                                                .toArray(CompletableFuture[]::new)
+                                )))
+                        .toArray(CompletableFuture[]::new)
+        ).join();
+
+        for (OutboxShardStats stats : roundStats) {
+            long drained = stats.finishRound();
+            if (drained > 0) {
+                log.info("[OutboxDrainer.drain] shard={}, drained={}, backlog={}, drainRate={}/s",
+                        stats.getShard(), drained, stats.getBacklog(), (long) stats.getDrainRate());
+            }
+        }
+    }
+
+    // 한 샤드의 미전송 이벤트를 오래된 순서로 keyset 페이징하며 전송한다.
+    // - 페이지가 가득 차서 조회되면 backlog 가 더 있다는 뜻이므로, 다음 주기를 기다리지 않고 바로 다음 페이지를 조회한다.
+    // - 가득 찬 페이지가 나올 때마다 페이지 크기를 두 배로 늘린다. (최대 drainMaxPageSize)
+    // - 한 페이지의 전송이 모두 끝난 뒤 다음 페이지를 조회하므로, 전송 중인 이벤트가 무한정 쌓이지 않는다.
+    // - 전송이 실패하면(Kafka 장애 등) 이번 주기의 drain 을 멈추고 다음 주기에 다시 시도한다.
+    // - pageReader.completed 에는 처음부터 끊김 없이 전송이 확인된 마지막 outboxId 만 넘긴다.
+    //   다른 스레드가 전송 중이라 건너뛴 outbox 를 만나면, 이번 주기에는 그 앞까지만 완료로 처리한다.
+    private void drainShard(OutboxShardStats stats, LocalDateTime from, OutboxPageReader pageReader) {
+        Long shard = stats.getShard();
+        try {
+            long lastOutboxId = pageReader.startAfter(shard);
+            boolean unconfirmed = false; // 이번 주기에 전송이 확인되지 않은 outbox 를 만났는지
+            int pageSize = MessageRelayConstants.PENDING_EVENT_PAGE_SIZE;
+            while (true) {
+                List<Outbox> outboxes = pageReader.read(shard, from, lastOutboxId, pageSize);
+                if (outboxes.isEmpty()) {
+                    break;
+                }
+
+                Set<Long> confirmedOutboxIds = messageRelaySender.publishEvents(outboxes).get(DRAIN_PAGE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+                stats.recordDrained(outboxes.size());
+                lastOutboxId = outboxes.get(outboxes.size() - 1).getOutboxId();
+                if (!unconfirmed) {
+                    Long confirmedOutboxId = lastConfirmedOutboxId(outboxes, confirmedOutboxIds);
+                    if (confirmedOutboxId != null) {
+                        pageReader.completed(shard, confirmedOutboxId);
+                    }
+                    unconfirmed = confirmedOutboxId == null || confirmedOutboxId != lastOutboxId;
+                }
+
+                if (outboxes.size() < pageSize) { // 마지막 페이지
+                    break;
+                }
+                pageSize = Math.min(pageSize * 2, drainMaxPageSize);
+            }
+        } catch (Exception e) {
+            log.warn("[OutboxDrainer.drainShard] shard={}", shard, e);
+        }
+    }
+
+    // outboxId 오름차순 페이지에서, 첫 outbox 부터 끊김 없이 전송이 확인된 마지막 outboxId (첫 outbox 부터 확인되지 않았으면 null)
+    private Long lastConfirmedOutboxId(List<Outbox> outboxes, Set<Long> confirmedOutboxIds) {
+        Long lastConfirmedOutboxId = null;
+        for (Outbox outbox : outboxes) {
+            if (!confirmedOutboxIds.contains(outbox.getOutboxId())) {
+                break;
+            }
+            lastConfirmedOutboxId = outbox.getOutboxId();
+        }
+        return lastConfirmedOutboxId;
+    }
+
+}
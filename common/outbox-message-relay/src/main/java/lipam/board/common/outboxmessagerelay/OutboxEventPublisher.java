@@ -3,8 +3,9 @@ package lipam.board.common.outboxmessagerelay;
 import lipam.board.common.event.Event;
 import lipam.board.common.event.EventPayload;
 import lipam.board.common.event.EventType;
-import lipam.board.common.snowflake.Snowflake;
+import lipam.board.common.snowflake.LockFreeSnowflake;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
@@ -13,26 +14,34 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class OutboxEventPublisher {
 
-    private final Snowflake outboxIdSnowflake = new Snowflake();
-    private final Snowflake eventIdSnowflake = new Snowflake();
+    // synchronized 기반 Snowflake 는 가상 스레드에서 캐리어 스레드를 고정(pinning)시킬 수 있어서 CAS 기반 LockFreeSnowflake 를 사용한다.
+    // outboxId 와 eventId 를 같은 생성기에서 발급해도 서로 다른 값이므로, 서비스와 같은 빈(SnowflakeConfig)을 사용한다.
+    private final LockFreeSnowflake snowflake;
     private final ApplicationEventPublisher applicationEventPublisher;
 
+    @Value(MessageRelayConstants.SHARD_COUNT_PROPERTY)
+    private long shardCount = MessageRelayConstants.SHARD_COUNT;
+
     // 서비스(예: article 서비스)에서 호출하는 메서드
     // EventType, EventPayload, shardKey 를 받아 Outbox 레코드를 생성하고 이벤트로 발행
+    // shardKey 는 boardId, articleId 같은 비즈니스 키이며, 그대로 Kafka 레코드의 Key 로 사용된다.
     public void publish(EventType type, EventPayload payload, Long shardKey) {
         Outbox outbox = Outbox.create(
-                outboxIdSnowflake.nextId(),
+                snowflake.nextId(),
                 type,
                 Event.of(
-                        eventIdSnowflake.nextId(),
+                        snowflake.nextId(),
                         type,
                         payload
                 ).toJson(),
+                // Kafka 파티션 Key: 비즈니스 키를 그대로 사용한다.
+                // 같은 키의 이벤트는 같은 파티션으로 가서 순서가 보장되고, 파티션 수를 늘리면 그만큼 Consumer 병렬성이 늘어난다.
+                shardKey,
                 // 샤딩 전략:
-                // shardKey 를 SHARD_COUNT 로 나눈 나머지를 사용해
-                // 특정 애플리케이션 인스턴스가 담당하도록 분배
+                // shardKey 를 샤드 수(message-relay.shard-count, 기본 SHARD_COUNT)로 나눈 나머지를 사용해
+                // 특정 애플리케이션 인스턴스가 담당하도록 분배 (미전송 이벤트 polling 담당을 나누는 용도로만 사용)
                 // 예: articleId = 10 → 10 % 4 = 2번 샤드
-                shardKey % MessageRelayConstants.SHARD_COUNT
+                shardKey % shardCount
         );
 
         // Outbox 엔티티를 만든 뒤, applicationEventPublisher 를 통해 이벤트를 발행한다.
@@ -0,0 +1,23 @@
+package lipam.board.common.outboxmessagerelay;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// OutboxDrainer 가 샤드의 다음 페이지를 읽는 방법 (drain 모드: 단순 조회, claim 모드: 선점 후 조회, append 모드: watermark 이후 조회)
+interface OutboxPageReader {
+
+    List<Outbox> read(Long shard, LocalDateTime from, long afterOutboxId, int pageSize);
+
+    // backlog 지표용 미전송 이벤트 수 (최대 limit 건)
+    long countPending(Long shard, LocalDateTime from, int limit);
+
+    // 이 outboxId 이후부터 읽는다.
+    default long startAfter(Long shard) {
+        return 0;
+    }
+
+    // 이 outboxId 까지(포함) 모두 전송이 확인되었을 때 호출된다.
+    default void completed(Long shard, long lastOutboxId) {
+    }
+
+}
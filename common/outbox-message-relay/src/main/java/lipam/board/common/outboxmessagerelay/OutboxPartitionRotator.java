@@ -0,0 +1,133 @@
+package lipam.board.common.outboxmessagerelay;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+// append 모드에서 outbox 테이블의 일자별 파티션을 관리한다.
+// outbox 테이블이 created_at 기준 RANGE COLUMNS 파티션(p20260101, p20260102, ..., p_future)으로 나뉘어 있다고 가정한다.
+// - 앞으로 쓰일 일자 파티션을 p_future 에서 미리 떼어낸다.
+// - 보관 기간(retention-days)이 지난 일자 파티션은 레코드 단위 delete 없이 drop partition 으로 한 번에 버린다.
+//   단, 그 파티션에 published_at 이 없는 outbox 가 하나라도 있으면 watermark 와 상관없이 남겨둔다.
+//   (watermark 가 지나갔어도 전송이 확인되지 않은 outbox 일 수 있다.)
+// 파티션이 없는 테이블이면 아무것도 하지 않는다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxPartitionRotator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MessageRelayCoordinator messageRelayCoordinator;
+
+    private static final String FUTURE_PARTITION = "p_future";
+    private static final DateTimeFormatter PARTITION_NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+
+    @Value("${message-relay.storage.mode:delete}")
+    private OutboxStorageMode storageMode = OutboxStorageMode.DELETE;
+
+    // 전송이 끝난 outbox 를 보관할 일수
+    @Value("${message-relay.storage.retention-days:3}")
+    private int retentionDays = 3;
+
+    // 미리 만들어둘 일자 파티션 수 (오늘 포함)
+    @Value("${message-relay.storage.premake-days:3}")
+    private int premakeDays = 3;
+
+    // 서비스 DB 가 샤딩되어 있으면 물리 DB 마다 outbox 파티션을 관리한다.
+    @Autowired(required = false)
+    private OutboxDataSourceScope outboxDataSourceScope = OutboxDataSourceScope.SINGLE;
+
+    @Scheduled(
+            cron = "${message-relay.storage.rotation-cron:0 10 0 * * *}", // 기본 매일 00:10
+            scheduler = "messageRelayDeleteOutboxExecutor"
+    )
+    public void rotate() {
+        // 파티션 DDL 은 0번 샤드를 담당하는 인스턴스 한 곳에서만 실행한다.
+        if (storageMode != OutboxStorageMode.APPEND || !messageRelayCoordinator.assignedShard().getShards().contains(0L)) {
+            return;
+        }
+
+        for (Executor dataSource : outboxDataSourceScope.dataSources()) {
+            dataSource.execute(this::rotateDataSource);
+        }
+    }
+
+    private void rotateDataSource() {
+        try {
+            List<String> partitionNames = findPartitionNames();
+            if (partitionNames.isEmpty()) {
+                log.info("[OutboxPartitionRotator.rotate] outbox table is not partitioned");
+                return;
+            }
+            rotate(partitionNames, LocalDate.now());
+        } catch (Exception e) {
+            log.error("[OutboxPartitionRotator.rotate]", e);
+        }
+    }
+
+    private void rotate(List<String> partitionNames, LocalDate today) {
+        for (int i = 0; i < premakeDays; i++) {
+            LocalDate day = today.plusDays(i);
+            if (!partitionNames.contains(partitionName(day))) {
+                addPartition(day);
+            }
+        }
+
+        LocalDate dropBefore = today.minusDays(retentionDays);
+        for (String partitionName : partitionNames) {
+            if (FUTURE_PARTITION.equals(partitionName)) {
+                continue;
+            }
+            LocalDate day = LocalDate.parse(partitionName, PARTITION_NAME_FORMAT);
+            if (day.isBefore(dropBefore)) {
+                dropPartition(partitionName);
+            }
+        }
+    }
+
+    private List<String> findPartitionNames() {
+        return jdbcTemplate.queryForList(
+                "select partition_name from information_schema.partitions " +
+                        "where table_schema = database() and table_name = 'outbox' and partition_name is not null " +
+                        "order by partition_ordinal_position",
+                String.class
+        );
+    }
+
+    // p_future 에서 해당 일자의 파티션을 떼어낸다. (created_at < 다음날 00:00)
+    private void addPartition(LocalDate day) {
+        jdbcTemplate.execute(
+                "alter table outbox reorganize partition %s into (partition %s values less than ('%s'), partition %s values less than (maxvalue))"
+                        .formatted(FUTURE_PARTITION, partitionName(day), day.plusDays(1), FUTURE_PARTITION)
+        );
+        log.info("[OutboxPartitionRotator.addPartition] partition={}", partitionName(day));
+    }
+
+    private void dropPartition(String partitionName) {
+        Long unpublished = jdbcTemplate.queryForObject(
+                "select count(*) from outbox partition (%s) where published_at is null".formatted(partitionName),
+                Long.class
+        );
+        if (unpublished != null && unpublished > 0) {
+            log.warn("[OutboxPartitionRotator.dropPartition] partition={} has {} unpublished outbox", partitionName, unpublished);
+            return;
+        }
+
+        jdbcTemplate.execute("alter table outbox drop partition %s".formatted(partitionName));
+        log.info("[OutboxPartitionRotator.dropPartition] partition={}", partitionName);
+    }
+
+    private String partitionName(LocalDate day) {
+        return day.format(PARTITION_NAME_FORMAT);
+    }
+
+}
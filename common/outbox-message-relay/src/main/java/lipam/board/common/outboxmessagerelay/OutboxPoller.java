@@ -0,0 +1,13 @@
+package lipam.board.common.outboxmessagerelay;
+
+import java.util.concurrent.Executor;
+
+// 미전송 이벤트 polling 방식 (delete / drain / claim / append)
+// MessageRelayConfig 가 설정에 따라 하나를 골라 빈으로 등록하고, MessageRelay 의 스케줄러가 물리 DB 마다 호출한다.
+interface OutboxPoller {
+
+    // 물리 DB 하나의 미전송 이벤트를 조회해서 재전송한다.
+    // worker 를 다른 스레드에서 실행하면, 그 작업도 dataSource 로 감싸서 같은 DB 를 보게 한다.
+    void poll(AssignedShard assignedShard, Executor dataSource);
+
+}
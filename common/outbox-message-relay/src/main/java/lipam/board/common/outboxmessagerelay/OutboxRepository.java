@@ -2,7 +2,11 @@ package lipam.board.common.outboxmessagerelay;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -19,4 +23,122 @@ public interface OutboxRepository extends JpaRepository<Outbox, Long> {
             Pageable pageable
     );
 
+    // drain 모드에서 사용하는 keyset 페이징 조회
+    // outboxId(Snowflake)가 afterOutboxId 보다 큰 이벤트를 오래된 순(outboxId 오름차순)으로 조회한다.
+    // offset 없이 마지막으로 읽은 outboxId 이후부터 읽으므로, 페이지를 넘겨도 앞부분을 다시 스캔하지 않는다.
+    List<Outbox> findAllByShardKeyAndCreatedAtLessThanEqualAndOutboxIdGreaterThanOrderByOutboxIdAsc(
+            Long shardKey,
+            LocalDateTime from,
+            Long afterOutboxId,
+            Pageable pageable
+    );
+
+    // 특정 샤드에 남아있는 미전송 이벤트 수 (backlog 지표용)
+    // 쌓인 만큼 range scan 이 길어지므로, 최대 limit 건까지만 센다.
+    @Query(
+            value = "select count(*) from (" +
+                    "   select 1 from outbox " +
+                    "   where shard_key = :shardKey and created_at <= :from " +
+                    "   limit :limit" +
+                    ") pending",
+            nativeQuery = true
+    )
+    long countPending(@Param("shardKey") Long shardKey, @Param("from") LocalDateTime from, @Param("limit") int limit);
+
+    // append 모드에서 특정 샤드의 watermark(afterOutboxId) 이후에 남아있는 미전송 이벤트 수 (최대 limit 건)
+    // watermark 이후에도 AFTER_COMMIT 으로 이미 전송된(published_at 기록) outbox 가 있으므로 제외한다.
+    @Query(
+            value = "select count(*) from (" +
+                    "   select 1 from outbox " +
+                    "   where shard_key = :shardKey and created_at <= :from and outbox_id > :afterOutboxId and published_at is null " +
+                    "   limit :limit" +
+                    ") pending",
+            nativeQuery = true
+    )
+    long countPendingAfter(
+            @Param("shardKey") Long shardKey,
+            @Param("from") LocalDateTime from,
+            @Param("afterOutboxId") Long afterOutboxId,
+            @Param("limit") int limit
+    );
+
+    // append 모드에서만 쓰는 published_at 컬럼은 Outbox 엔티티에 매핑하지 않으므로, 아래 append 모드 쿼리는 native query 로 조회한다.
+    // (delete 모드는 이 컬럼이 없는 기존 outbox 테이블 그대로 동작한다.)
+
+    // append 모드에서 watermark(afterOutboxId) 이후의 아직 전송되지 않은 이벤트를 오래된 순(outboxId 오름차순)으로 조회한다.
+    // AFTER_COMMIT 으로 이미 전송된(published_at 기록) outbox 는 건너뛴다.
+    @Query(
+            value = "select * from outbox " +
+                    "where shard_key = :shardKey and created_at <= :from and outbox_id > :afterOutboxId and published_at is null " +
+                    "order by outbox_id asc limit :limit",
+            nativeQuery = true
+    )
+    List<Outbox> findUnpublished(
+            @Param("shardKey") Long shardKey,
+            @Param("from") LocalDateTime from,
+            @Param("afterOutboxId") Long afterOutboxId,
+            @Param("limit") int limit
+    );
+
+    // append 모드에서 watermark(outboxId) 이하인데 아직 전송되지 않은, 생성 시각이 [createdAtFrom, createdAtTo] 인 이벤트 (늦게 커밋된 outbox)
+    @Query(
+            value = "select * from outbox " +
+                    "where shard_key = :shardKey and created_at between :createdAtFrom and :createdAtTo " +
+                    "and outbox_id <= :outboxId and published_at is null " +
+                    "order by outbox_id asc limit :limit",
+            nativeQuery = true
+    )
+    List<Outbox> findLateCommitted(
+            @Param("shardKey") Long shardKey,
+            @Param("createdAtFrom") LocalDateTime createdAtFrom,
+            @Param("createdAtTo") LocalDateTime createdAtTo,
+            @Param("outboxId") Long outboxId,
+            @Param("limit") int limit
+    );
+
+    // claim 모드에서 선점할 outbox 아이디를 keyset(outboxId 오름차순)으로 조회한다.
+    // 다른 worker 가 선점 중이거나(claimed_until 이 아직 지나지 않음), 다른 트랜잭션이 잠근 레코드는 건너뛴다. (MySQL 8.0 이상)
+    @Query(
+            value = "select outbox_id from outbox " +
+                    "where shard_key = :shardKey and outbox_id > :afterOutboxId and created_at <= :from " +
+                    "and (claimed_until is null or claimed_until < :now) " +
+                    "order by outbox_id asc limit :limit " +
+                    "for update skip locked",
+            nativeQuery = true
+    )
+    List<Long> findClaimableOutboxIds(
+            @Param("shardKey") Long shardKey,
+            @Param("from") LocalDateTime from,
+            @Param("afterOutboxId") Long afterOutboxId,
+            @Param("now") LocalDateTime now,
+            @Param("limit") int limit
+    );
+
+    // claim 모드에서만 쓰는 claimed_by / claimed_until 컬럼은 Outbox 엔티티에 매핑하지 않으므로, native query 로 기록한다.
+    // (delete 모드는 이 컬럼이 없는 기존 outbox 테이블 그대로 동작한다.)
+    @Modifying
+    @Query(
+            value = "update outbox set claimed_by = :claimedBy, claimed_until = :claimedUntil where outbox_id in (:outboxIds)",
+            nativeQuery = true
+    )
+    int claim(
+            @Param("outboxIds") List<Long> outboxIds,
+            @Param("claimedBy") String claimedBy,
+            @Param("claimedUntil") LocalDateTime claimedUntil
+    );
+
+    List<Outbox> findAllByOutboxIdInOrderByOutboxIdAsc(List<Long> outboxIds);
+
+    // append 모드에서 전송이 끝난 outbox 를 삭제하지 않고 전송 완료로 표시한다.
+    @Transactional
+    @Modifying
+    @Query(
+            value = "update outbox set published_at = :publishedAt where outbox_id in (:outboxIds)",
+            nativeQuery = true
+    )
+    int markPublished(
+            @Param("outboxIds") List<Long> outboxIds,
+            @Param("publishedAt") LocalDateTime publishedAt
+    );
+
 }
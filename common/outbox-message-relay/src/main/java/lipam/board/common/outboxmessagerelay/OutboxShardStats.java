@@ -0,0 +1,68 @@
+package lipam.board.common.outboxmessagerelay;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// 샤드별 미전송 이벤트 처리 현황 (MessageRelay 의 미전송 이벤트 polling 에서 갱신된다. drainRate/drainedCount 는 drain/claim/append 모드에서만 집계)
+@Getter
+@ToString
+public class OutboxShardStats {
+
+    private Long shard;
+    private volatile long backlog; // 남아있는 미전송 이벤트 수 (주기적으로 조회한 값에서 drain 으로 전송한 만큼 차감)
+    private volatile double drainRate; // 마지막 drain 의 초당 전송 건수
+    @ToString.Exclude
+    private final LongAdder drainedCount = new LongAdder(); // drain 으로 전송한 누적 건수
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private volatile long backlogCountedNanos; // backlog 를 마지막으로 조회한 시각 (0 이면 아직 조회하지 않음)
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private volatile long roundStartNanos;
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private volatile long roundStartDrainedCount;
+
+    public static OutboxShardStats of(Long shard) {
+        OutboxShardStats outboxShardStats = new OutboxShardStats();
+        outboxShardStats.shard = shard;
+        return outboxShardStats;
+    }
+
+    public long getDrainedCount() {
+        return drainedCount.sum();
+    }
+
+    void updateBacklog(long backlog) {
+        this.backlog = backlog;
+        this.backlogCountedNanos = System.nanoTime();
+    }
+
+    // backlog 를 다시 조회할 때가 되었는지
+    boolean isBacklogStale(long refreshNanos) {
+        return backlogCountedNanos == 0 || System.nanoTime() - backlogCountedNanos >= refreshNanos;
+    }
+
+    void recordDrained(int count) {
+        drainedCount.add(count);
+        backlog = Math.max(0, backlog - count);
+    }
+
+    // drain 한 주기의 시작 (한 샤드를 여러 worker 가 함께 처리해도 주기 단위로 전송 속도를 계산한다.)
+    void startRound() {
+        roundStartNanos = System.nanoTime();
+        roundStartDrainedCount = drainedCount.sum();
+    }
+
+    // drain 한 주기의 끝. 이번 주기에 전송한 건수를 반환한다.
+    long finishRound() {
+        long drained = drainedCount.sum() - roundStartDrainedCount;
+        long elapsedNanos = System.nanoTime() - roundStartNanos;
+        drainRate = elapsedNanos == 0 ? 0 : drained * 1_000_000_000.0 / elapsedNanos;
+        return drained;
+    }
+
+}
@@ -0,0 +1,8 @@
+package lipam.board.common.outboxmessagerelay;
+
+// 전송이 끝난 outbox 를 처리하는 방식 (message-relay.storage.mode, 대소문자 구분 없음)
+// 설정값은 이 enum 으로 바인딩되므로, 잘못된 값(예: apend)이면 delete 모드로 조용히 동작하지 않고 애플리케이션 시작이 실패한다.
+public enum OutboxStorageMode {
+    DELETE, // 전송이 끝난 outbox 를 삭제한다. (기본값)
+    APPEND, // 삭제하지 않고 published_at 만 기록한다. 미전송 이벤트는 샤드별 watermark 이후만 polling 하고, 오래된 레코드는 파티션 단위로 정리한다.
+}
@@ -0,0 +1,24 @@
+package lipam.board.common.outboxmessagerelay;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+// append 모드에서 샤드별로 어디까지 전송을 마쳤는지 기록하는 high-water mark
+// 미전송 이벤트 polling 은 outboxId 가 이 값보다 큰 outbox 만 조회한다.
+@Table(name = "outbox_watermark")
+@Getter
+@Entity
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxWatermark {
+
+    @Id
+    private Long shardKey;
+    private Long outboxId; // 이 outboxId 까지(포함)는 전송이 끝났다.
+
+}
@@ -0,0 +1,23 @@
+package lipam.board.common.outboxmessagerelay;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface OutboxWatermarkRepository extends JpaRepository<OutboxWatermark, Long> {
+
+    // 샤드의 watermark 를 outboxId 로 올린다. (레코드가 없으면 생성, 이미 더 큰 값이면 그대로 둔다.)
+    @Transactional
+    @Modifying
+    @Query(
+            value = "insert into outbox_watermark (shard_key, outbox_id) values (:shardKey, :outboxId) " +
+                    "on duplicate key update outbox_id = greatest(outbox_id, values(outbox_id))",
+            nativeQuery = true
+    )
+    int advance(@Param("shardKey") Long shardKey, @Param("outboxId") Long outboxId);
+
+}
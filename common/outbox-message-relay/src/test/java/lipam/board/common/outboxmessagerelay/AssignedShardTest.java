@@ -2,7 +2,11 @@ package lipam.board.common.outboxmessagerelay;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -51,4 +55,63 @@ class AssignedShardTest {
         assertThat(assignedShard4.getShards()).isEmpty();
     }
 
-}
\ No newline at end of file
+    @Test
+    void ofRendezvousTest() {
+        // given
+        long shardCount = 256; // 가상 샤드 256개
+        List<String> appList = IntStream.range(0, 10).mapToObj(i -> "appId" + i).toList();
+
+        // when
+        Map<Long, String> owners = findOwners(appList, shardCount);
+
+        // then
+        assertThat(owners).hasSize((int) shardCount); // 모든 샤드가 중복 없이 한 애플리케이션에 할당된다.
+        for (String appId : appList) {
+            // 애플리케이션마다 평균 25.6개씩, 한쪽으로 크게 치우치지 않아야 한다.
+            long count = owners.values().stream().filter(appId::equals).count();
+            assertThat(count).isBetween(10L, 45L);
+        }
+        assertThat(AssignedShard.ofRendezvous("invalid", appList, shardCount).getShards()).isEmpty();
+    }
+
+    @Test
+    void ofRendezvousMembershipChangeTest() {
+        // given
+        long shardCount = 256;
+        List<String> appList = IntStream.range(0, 10).mapToObj(i -> "appId" + i).toList();
+        Map<Long, String> before = findOwners(appList, shardCount);
+
+        // when
+        List<String> leftAppList = new ArrayList<>(appList);
+        leftAppList.remove("appId3"); // 한 애플리케이션이 종료
+        Map<Long, String> afterLeave = findOwners(leftAppList, shardCount);
+
+        List<String> joinedAppList = new ArrayList<>(appList);
+        joinedAppList.add("appId10"); // 한 애플리케이션이 추가
+        Map<Long, String> afterJoin = findOwners(joinedAppList, shardCount);
+
+        // then
+        for (long shard = 0; shard < shardCount; shard++) {
+            // 종료된 애플리케이션이 담당하던 샤드만 다른 애플리케이션으로 이동한다.
+            if (!before.get(shard).equals("appId3")) {
+                assertThat(afterLeave.get(shard)).isEqualTo(before.get(shard));
+            }
+            // 추가된 애플리케이션이 가져간 샤드 외에는 이동하지 않는다.
+            if (!afterJoin.get(shard).equals("appId10")) {
+                assertThat(afterJoin.get(shard)).isEqualTo(before.get(shard));
+            }
+        }
+    }
+
+    // 샤드 번호 -> 담당 애플리케이션
+    private Map<Long, String> findOwners(List<String> appList, long shardCount) {
+        Map<Long, String> owners = new HashMap<>();
+        for (String appId : appList) {
+            for (Long shard : AssignedShard.ofRendezvous(appId, appList, shardCount).getShards()) {
+                assertThat(owners.put(shard, appId)).isNull();
+            }
+        }
+        return owners;
+    }
+
+}
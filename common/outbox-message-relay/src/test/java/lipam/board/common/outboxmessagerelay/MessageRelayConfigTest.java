@@ -0,0 +1,35 @@
+package lipam.board.common.outboxmessagerelay;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class MessageRelayConfigTest {
+
+    MessageRelayConfig messageRelayConfig = new MessageRelayConfig();
+
+    @Test
+    @DisplayName("미전송 이벤트 polling 방식은 append > claim > drain > delete 순서로 고른다")
+    void outboxPollerTest() {
+        assertThat(outboxPoller(OutboxStorageMode.APPEND, true, true)).isInstanceOf(AppendOutboxPoller.class); // append 모드에서는 claim/drain 설정이 무시된다.
+        assertThat(outboxPoller(OutboxStorageMode.DELETE, true, true)).isInstanceOf(ClaimOutboxPoller.class);
+        assertThat(outboxPoller(OutboxStorageMode.DELETE, false, true)).isInstanceOf(DrainOutboxPoller.class);
+        assertThat(outboxPoller(OutboxStorageMode.DELETE, false, false)).isInstanceOf(DeleteOutboxPoller.class);
+    }
+
+    private OutboxPoller outboxPoller(OutboxStorageMode storageMode, boolean claimEnabled, boolean drainEnabled) {
+        return messageRelayConfig.outboxPoller(
+                storageMode, claimEnabled, drainEnabled, 2, 300,
+                mock(OutboxRepository.class),
+                mock(OutboxWatermarkRepository.class),
+                mock(OutboxClaimer.class),
+                mock(OutboxDrainer.class),
+                mock(MessageRelaySender.class),
+                mock(MessageRelayShardStats.class),
+                mock(MessageRelayCoordinator.class)
+        );
+    }
+
+}
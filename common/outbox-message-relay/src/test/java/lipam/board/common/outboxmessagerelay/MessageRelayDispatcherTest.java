@@ -0,0 +1,78 @@
+package lipam.board.common.outboxmessagerelay;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MessageRelayDispatcherTest {
+
+    MessageRelayDispatcher messageRelayDispatcher = new MessageRelayDispatcher(2, 1, false);
+    CountDownLatch blocker = new CountDownLatch(1);
+
+    @AfterEach
+    void afterEach() throws InterruptedException {
+        blocker.countDown();
+        messageRelayDispatcher.close();
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 예외 없이 false 를 반환하고, 다른 샤드의 큐는 영향을 받지 않는다")
+    void dispatchShouldShedIfQueueFull() throws InterruptedException {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        messageRelayDispatcher.dispatch(0L, () -> {
+            started.countDown();
+            await(blocker); // 0번 샤드의 전송이 느려진 상황
+        });
+        started.await(1, TimeUnit.SECONDS);
+
+        // when
+        boolean queued = messageRelayDispatcher.dispatch(2L, () -> {}); // 0번 큐에 대기
+        boolean shed = messageRelayDispatcher.dispatch(4L, () -> {}); // 0번 큐가 가득 참
+        CountDownLatch otherStripe = new CountDownLatch(1);
+        boolean other = messageRelayDispatcher.dispatch(1L, otherStripe::countDown); // 1번 큐
+
+        // then
+        assertThat(queued).isTrue();
+        assertThat(shed).isFalse();
+        assertThat(other).isTrue();
+        assertThat(otherStripe.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(messageRelayDispatcher.getRejectedCount()).isEqualTo(1);
+        assertThat(messageRelayDispatcher.getQueueDepth()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("가상 스레드 모드에서는 큐의 작업을 가상 스레드에서 실행한다")
+    void dispatchOnVirtualThreadTest() throws InterruptedException {
+        // given
+        MessageRelayDispatcher virtualThreadDispatcher = new MessageRelayDispatcher(1, 1, true);
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicBoolean virtual = new AtomicBoolean();
+
+        // when
+        virtualThreadDispatcher.dispatch(0L, () -> {
+            virtual.set(Thread.currentThread().isVirtual());
+            done.countDown();
+        });
+
+        // then
+        assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(virtual).isTrue();
+        virtualThreadDispatcher.close();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,60 @@
+package lipam.board.common.outboxmessagerelay;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lipam.board.common.event.EventType;
+import lipam.board.common.snowflake.SnowflakeId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MessageRelayMetricsTest {
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    MessageRelayMetrics messageRelayMetrics = new MessageRelayMetrics(meterRegistry, new MessageRelayDispatcher(1, 1, false));
+
+    @Test
+    @DisplayName("전송 성공 시 eventId 의 생성 시각부터 지금까지를 end-to-end 지연으로 기록")
+    void recordSendTest() {
+        // given
+        long eventId = SnowflakeId.minIdAt(Instant.now().minusSeconds(3)); // 3초 전에 생성된 이벤트
+
+        // when
+        messageRelayMetrics.recordSend(EventType.ARTICLE_CREATED, eventId, TimeUnit.MILLISECONDS.toNanos(5), null);
+
+        // then
+        assertThat(meterRegistry.get("message.relay.send").tags("eventType", "ARTICLE_CREATED", "result", "success").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("message.relay.event.latency").tag("eventType", "ARTICLE_CREATED").timer().max(TimeUnit.SECONDS))
+                .isBetween(3.0, 4.0);
+    }
+
+    @Test
+    @DisplayName("전송 실패는 실패 건수로 기록하고 end-to-end 지연은 기록하지 않는다")
+    void recordSendFailureTest() {
+        // when
+        messageRelayMetrics.recordSend(EventType.ARTICLE_LIKED, 1L, 0, new RuntimeException("kafka down"));
+
+        // then
+        assertThat(meterRegistry.get("message.relay.send.failures").tag("eventType", "ARTICLE_LIKED").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("message.relay.event.latency").timer()).isNull();
+    }
+
+    @Test
+    @DisplayName("샤드별 backlog 를 gauge 로 노출")
+    void registerShardTest() {
+        // given
+        OutboxShardStats stats = OutboxShardStats.of(2L);
+        messageRelayMetrics.registerShard(stats);
+
+        // when
+        stats.updateBacklog(42);
+
+        // then
+        assertThat(meterRegistry.get("message.relay.backlog").tag("shard", "2").gauge().value()).isEqualTo(42);
+    }
+
+}
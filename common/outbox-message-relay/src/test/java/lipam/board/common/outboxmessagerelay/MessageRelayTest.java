@@ -0,0 +1,251 @@
+package lipam.board.common.outboxmessagerelay;
+
+import lipam.board.common.event.Event;
+import lipam.board.common.event.EventType;
+import lipam.board.common.event.payload.ArticleViewedEventPayload;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MessageRelayTest {
+
+    MessageRelaySender messageRelaySender;
+    MessageRelayShardStats messageRelayShardStats;
+    OutboxDrainer outboxDrainer;
+    @Mock
+    OutboxRepository outboxRepository;
+    @Mock
+    MessageRelayCoordinator messageRelayCoordinator;
+    @Mock
+    KafkaTemplate<String, String> messageRelayKafkaTemplate;
+    @Mock
+    OutboxBatchDeleter outboxBatchDeleter;
+    @Mock
+    OutboxClaimer outboxClaimer;
+    @Mock
+    OutboxWatermarkRepository outboxWatermarkRepository;
+    @Mock
+    MessageRelayDispatcher messageRelayDispatcher;
+    @Mock
+    OutboxBatchInserter outboxBatchInserter;
+    @Mock
+    MessageRelayMetrics messageRelayMetrics;
+
+    @BeforeEach
+    void beforeEach() {
+        messageRelaySender = new MessageRelaySender(messageRelayKafkaTemplate, outboxBatchDeleter, messageRelayMetrics);
+        messageRelayShardStats = new MessageRelayShardStats(messageRelayMetrics);
+        outboxDrainer = new OutboxDrainer(messageRelaySender, messageRelayShardStats, Runnable::run);
+        ReflectionTestUtils.setField(outboxDrainer, "drainMaxPageSize", 150);
+    }
+
+    private MessageRelay createMessageRelay(OutboxPoller outboxPoller) {
+        return new MessageRelay(messageRelayCoordinator, messageRelaySender, outboxPoller, messageRelayDispatcher, outboxBatchInserter,
+                messageRelayMetrics, messageRelayShardStats);
+    }
+
+    private MessageRelay createDrainMessageRelay() {
+        return createMessageRelay(new DrainOutboxPoller(outboxRepository, outboxDrainer));
+    }
+
+    private MessageRelay createAppendMessageRelay() {
+        return createMessageRelay(new AppendOutboxPoller(outboxRepository, outboxWatermarkRepository, outboxDrainer, messageRelaySender, 300));
+    }
+
+    @Test
+    @DisplayName("drain 모드는 가득 찬 페이지가 조회되면 페이지 크기를 늘려서 바로 다음 페이지를 조회")
+    void drainShouldPollBackToBackWhileFullPage() {
+        // given
+        MessageRelay messageRelay = createDrainMessageRelay();
+        given(messageRelayCoordinator.assignedShard()).willReturn(AssignedShard.of("app", List.of("app"), 1));
+        given(outboxRepository.countPending(eq(0L), any(LocalDateTime.class), eq(10000))).willReturn(300L);
+        given(outboxRepository.findAllByShardKeyAndCreatedAtLessThanEqualAndOutboxIdGreaterThanOrderByOutboxIdAsc(
+                eq(0L), any(LocalDateTime.class), eq(0L), eq(Pageable.ofSize(100))
+        )).willReturn(createOutboxes(1, 100));
+        given(outboxRepository.findAllByShardKeyAndCreatedAtLessThanEqualAndOutboxIdGreaterThanOrderByOutboxIdAsc(
+                eq(0L), any(LocalDateTime.class), eq(100L), eq(Pageable.ofSize(150))
+        )).willReturn(createOutboxes(101, 150));
+        given(messageRelayKafkaTemplate.send(any(ProducerRecord.class))).willReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        messageRelay.publishPendingEvent();
+
+        // then
+        // 100건(가득 참) -> 150건(가득 참, 최대 크기) -> 0건 순서로 조회
+        verify(outboxRepository).findAllByShardKeyAndCreatedAtLessThanEqualAndOutboxIdGreaterThanOrderByOutboxIdAsc(
+                eq(0L), any(LocalDateTime.class), eq(250L), eq(Pageable.ofSize(150)));
+        verify(messageRelayKafkaTemplate, times(250)).send(any(ProducerRecord.class));
+        verify(outboxBatchDeleter, times(250)).add(anyLong());
+
+        OutboxShardStats stats = messageRelay.getShardStats().get(0L);
+        assertThat(stats.getDrainedCount()).isEqualTo(250);
+        assertThat(stats.getBacklog()).isEqualTo(50); // 300 - 250
+    }
+
+    @Test
+    @DisplayName("drain 모드는 전송이 실패하면 이번 주기의 drain 을 멈춘다")
+    void drainShouldStopIfSendFailed() {
+        // given
+        MessageRelay messageRelay = createDrainMessageRelay();
+        given(messageRelayCoordinator.assignedShard()).willReturn(AssignedShard.of("app", List.of("app"), 1));
+        given(outboxRepository.findAllByShardKeyAndCreatedAtLessThanEqualAndOutboxIdGreaterThanOrderByOutboxIdAsc(
+                eq(0L), any(LocalDateTime.class), eq(0L), any(Pageable.class)
+        )).willReturn(createOutboxes(1, 100));
+        given(messageRelayKafkaTemplate.send(any(ProducerRecord.class)))
+                .willReturn(CompletableFuture.failedFuture(new RuntimeException("kafka down")));
+
+        // when
+        messageRelay.publishPendingEvent();
+
+        // then
+        verify(outboxRepository, times(1)).findAllByShardKeyAndCreatedAtLessThanEqualAndOutboxIdGreaterThanOrderByOutboxIdAsc(
+                anyLong(), any(LocalDateTime.class), anyLong(), any(Pageable.class));
+        verify(outboxBatchDeleter, never()).add(anyLong());
+        assertThat(messageRelay.getShardStats().get(0L).getDrainedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("backlog 는 refresh-seconds 가 지나기 전에는 다시 세지 않는다")
+    void backlogShouldNotBeCountedEveryRound() {
+        // given
+        MessageRelay messageRelay = createDrainMessageRelay();
+        given(messageRelayCoordinator.assignedShard()).willReturn(AssignedShard.of("app", List.of("app"), 1));
+        given(outboxRepository.countPending(eq(0L), any(LocalDateTime.class), eq(10000))).willReturn(10L);
+        given(outboxRepository.findAllByShardKeyAndCreatedAtLessThanEqualAndOutboxIdGreaterThanOrderByOutboxIdAsc(
+                eq(0L), any(LocalDateTime.class), eq(0L), any(Pageable.class)
+        )).willReturn(List.of());
+
+        // when
+        messageRelay.publishPendingEvent();
+        messageRelay.publishPendingEvent();
+
+        // then
+        verify(outboxRepository, times(1)).countPending(anyLong(), any(LocalDateTime.class), anyInt());
+        assertThat(messageRelay.getShardStats().get(0L).getBacklog()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("claim 모드는 할당과 상관없이 모든 샤드를 선점하며 처리")
+    void claimShouldDrainAllShards() {
+        // given
+        MessageRelay messageRelay = createMessageRelay(new ClaimOutboxPoller(outboxRepository, outboxClaimer, outboxDrainer, messageRelayCoordinator, 2));
+        given(messageRelayCoordinator.assignedShard()).willReturn(AssignedShard.of("app", List.of("other", "app"), 2)); // 1번 샤드만 할당
+        given(messageRelayCoordinator.getShardCount()).willReturn(4L);
+        given(outboxClaimer.claim(eq(3L), any(LocalDateTime.class), eq(0L), eq(100))).willReturn(createOutboxes(1, 10), List.of());
+        given(messageRelayKafkaTemplate.send(any(ProducerRecord.class))).willReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        messageRelay.publishPendingEvent();
+
+        // then
+        for (long shard = 0; shard < 4; shard++) {
+            verify(outboxClaimer, times(2)).claim(eq(shard), any(LocalDateTime.class), eq(0L), eq(100)); // 샤드마다 worker 2개
+        }
+        verify(messageRelayKafkaTemplate, times(10)).send(any(ProducerRecord.class)); // 두 번째 worker 의 선점은 빈 결과
+        assertThat(messageRelay.getShardStats().get(3L).getDrainedCount()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("append 모드는 watermark 이후부터 조회하고, 전송이 끝난 페이지만큼 watermark 를 올린다")
+    void appendShouldPollFromWatermark() {
+        // given
+        MessageRelay messageRelay = createAppendMessageRelay();
+        given(messageRelayCoordinator.assignedShard()).willReturn(AssignedShard.of("app", List.of("app"), 1));
+        OutboxWatermark watermark = mock(OutboxWatermark.class);
+        given(watermark.getOutboxId()).willReturn(500L);
+        given(outboxWatermarkRepository.findById(0L)).willReturn(Optional.of(watermark));
+        given(outboxRepository.countPendingAfter(eq(0L), any(LocalDateTime.class), eq(500L), eq(10000)))
+                .willReturn(9L);
+        given(outboxRepository.findUnpublished(eq(0L), any(LocalDateTime.class), eq(500L), eq(100)))
+                .willReturn(createOutboxes(502, 9)); // 501 은 AFTER_COMMIT 으로 이미 전송되어(published_at) 조회되지 않는다.
+        given(messageRelayKafkaTemplate.send(any(ProducerRecord.class))).willReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        messageRelay.publishPendingEvent();
+
+        // then
+        verify(messageRelayKafkaTemplate, times(9)).send(any(ProducerRecord.class));
+        verify(outboxWatermarkRepository).advance(0L, 510L);
+        verifyNoInteractions(outboxClaimer);
+        assertThat(messageRelay.getShardStats().get(0L).getBacklog()).isZero(); // 9 - 9
+    }
+
+    @Test
+    @DisplayName("append 모드는 다른 스레드가 전송 중인 outbox 앞까지만 watermark 를 올린다")
+    void appendShouldNotAdvanceWatermarkPastInFlightOutbox() {
+        // given
+        MessageRelay messageRelay = createAppendMessageRelay();
+        given(messageRelayCoordinator.assignedShard()).willReturn(AssignedShard.of("app", List.of("app"), 1));
+        given(outboxWatermarkRepository.findById(0L)).willReturn(Optional.empty());
+        given(outboxRepository.findUnpublished(eq(0L), any(LocalDateTime.class), eq(0L), eq(100)))
+                .willReturn(createOutboxes(1, 100));
+        given(outboxRepository.findUnpublished(eq(0L), any(LocalDateTime.class), eq(100L), anyInt()))
+                .willReturn(createOutboxes(101, 10));
+        given(messageRelayKafkaTemplate.send(any(ProducerRecord.class))).willReturn(CompletableFuture.completedFuture(null));
+        Set<Long> sendingOutboxIds = (Set<Long>) ReflectionTestUtils.getField(messageRelaySender, "sendingOutboxIds");
+        sendingOutboxIds.add(51L); // AFTER_COMMIT 전송의 브로커 응답을 기다리는 중
+
+        // when
+        messageRelay.publishPendingEvent();
+
+        // then
+        verify(outboxWatermarkRepository).advance(0L, 50L);
+        verify(outboxWatermarkRepository, never()).advance(0L, 110L); // 다음 페이지가 모두 전송되어도 올리지 않는다.
+        verify(messageRelayKafkaTemplate, times(109)).send(any(ProducerRecord.class));
+    }
+
+    @Test
+    @DisplayName("append 모드는 watermark 가 지나간 뒤에 늦게 커밋된 outbox 를 찾아서 전송한다")
+    void appendShouldSweepLateCommits() {
+        // given
+        MessageRelay messageRelay = createAppendMessageRelay();
+        given(messageRelayCoordinator.assignedShard()).willReturn(AssignedShard.of("app", List.of("app"), 1));
+        OutboxWatermark watermark = mock(OutboxWatermark.class);
+        given(watermark.getOutboxId()).willReturn(500L);
+        given(outboxWatermarkRepository.findById(0L)).willReturn(Optional.of(watermark));
+        given(outboxRepository.findLateCommitted(eq(0L), any(LocalDateTime.class), any(LocalDateTime.class), eq(500L), anyInt()))
+                .willReturn(createOutboxes(490, 1));
+        given(messageRelayKafkaTemplate.send(any(ProducerRecord.class))).willReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        messageRelay.publishPendingEvent();
+
+        // then
+        verify(messageRelayKafkaTemplate, times(1)).send(any(ProducerRecord.class));
+        verify(outboxBatchDeleter).add(490L);
+        verify(outboxWatermarkRepository, never()).advance(anyLong(), anyLong());
+    }
+
+    private List<Outbox> createOutboxes(long fromOutboxId, long count) {
+        return LongStream.range(fromOutboxId, fromOutboxId + count)
+                .mapToObj(outboxId -> Outbox.create(
+                        outboxId,
+                        EventType.ARTICLE_VIEWED,
+                        Event.of(outboxId, EventType.ARTICLE_VIEWED, new ArticleViewedEventPayload(outboxId, 1L)).toJson(),
+                        outboxId,
+                        0L
+                ))
+                .toList();
+    }
+
+}
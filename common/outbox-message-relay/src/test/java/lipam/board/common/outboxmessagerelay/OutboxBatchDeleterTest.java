@@ -0,0 +1,122 @@
+package lipam.board.common.outboxmessagerelay;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxBatchDeleterTest {
+
+    @InjectMocks
+    OutboxBatchDeleter outboxBatchDeleter;
+    @Mock
+    OutboxRepository outboxRepository;
+    @Mock
+    ScheduledExecutorService messageRelayDeleteOutboxExecutor;
+
+    @BeforeEach
+    void beforeEach() {
+        ReflectionTestUtils.setField(outboxBatchDeleter, "deleteBatchSize", 3);
+    }
+
+    @Test
+    @DisplayName("모인 outbox 를 배치 크기 단위로 한 번에 삭제")
+    void flushTest() {
+        // given
+        for (long outboxId = 1; outboxId <= 5; outboxId++) {
+            outboxBatchDeleter.add(outboxId);
+        }
+
+        // when
+        outboxBatchDeleter.flush();
+
+        // then
+        verify(outboxRepository, times(2)).deleteAllByIdInBatch(anyList()); // 3건 + 2건
+        assertThat(outboxBatchDeleter.isPending(1L)).isFalse();
+        assertThat(outboxBatchDeleter.isPending(5L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("배치 크기만큼 모이면 주기를 기다리지 않고 삭제 요청")
+    void addShouldRequestFlushIfBatchSizeReached() {
+        // when
+        outboxBatchDeleter.add(1L);
+        outboxBatchDeleter.add(2L);
+        verify(messageRelayDeleteOutboxExecutor, never()).execute(any());
+        outboxBatchDeleter.add(3L);
+        outboxBatchDeleter.add(4L);
+
+        // then
+        verify(messageRelayDeleteOutboxExecutor, times(1)).execute(any()); // 요청은 한 번만 제출
+    }
+
+    @Test
+    @DisplayName("삭제에 실패하면 대기 목록에 남겨두고 다음에 다시 삭제")
+    void flushShouldKeepPendingIfDeleteFailed() {
+        // given
+        outboxBatchDeleter.add(1L);
+        willThrow(new RuntimeException("db error")).given(outboxRepository).deleteAllByIdInBatch(anyList());
+
+        // when
+        outboxBatchDeleter.flush();
+
+        // then
+        assertThat(outboxBatchDeleter.isPending(1L)).isTrue();
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("append 모드는 삭제하지 않고 전송 완료로 표시")
+    void flushShouldMarkPublishedInAppendMode() {
+        // given
+        ReflectionTestUtils.setField(outboxBatchDeleter, "storageMode", OutboxStorageMode.APPEND);
+        outboxBatchDeleter.add(1L);
+        outboxBatchDeleter.add(2L);
+
+        // when
+        outboxBatchDeleter.flush();
+
+        // then
+        verify(outboxRepository).markPublished(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+        verify(outboxRepository, never()).deleteAllByIdInBatch(anyList());
+        assertThat(outboxBatchDeleter.isPending(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("서비스 DB 가 샤딩되어 있으면 모든 DB 에서 삭제")
+    void flushShouldDeleteFromEveryDataSource() {
+        // given
+        List<String> visited = new ArrayList<>();
+        Executor shard0 = task -> { visited.add("shard0"); task.run(); };
+        Executor shard1 = task -> { visited.add("shard1"); task.run(); };
+        ReflectionTestUtils.setField(outboxBatchDeleter, "outboxDataSourceScope", (OutboxDataSourceScope) () -> List.of(shard0, shard1));
+        outboxBatchDeleter.add(1L);
+
+        // when
+        outboxBatchDeleter.flush();
+
+        // then
+        assertThat(visited).containsExactly("shard0", "shard1");
+        verify(outboxRepository, times(2)).deleteAllByIdInBatch(List.of(1L));
+        assertThat(outboxBatchDeleter.isPending(1L)).isFalse();
+    }
+
+}
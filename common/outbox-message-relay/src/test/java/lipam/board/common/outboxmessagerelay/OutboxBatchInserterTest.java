@@ -0,0 +1,73 @@
+package lipam.board.common.outboxmessagerelay;
+
+import lipam.board.common.event.EventType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxBatchInserterTest {
+
+    @InjectMocks
+    OutboxBatchInserter outboxBatchInserter;
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void afterEach() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("한 트랜잭션의 outbox 를 모아서 커밋 직전에 multi-row insert 로 저장")
+    void insertBeforeCommitTest() {
+        // given
+        ReflectionTestUtils.setField(outboxBatchInserter, "insertBatchSize", 2);
+        TransactionSynchronizationManager.initSynchronization();
+        for (long outboxId = 1; outboxId <= 3; outboxId++) {
+            outboxBatchInserter.add(Outbox.create(outboxId, EventType.ARTICLE_VIEWED, "{}", outboxId, outboxId % 4));
+        }
+        verifyNoInteractions(jdbcTemplate); // 커밋 전까지는 저장하지 않는다.
+
+        // when
+        TransactionSynchronizationUtils.triggerBeforeCommit(false);
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+
+        // then
+        ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> argsCaptor = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate, times(2)).update(sqlCaptor.capture(), argsCaptor.capture()); // 2건 + 1건
+        assertThat(sqlCaptor.getAllValues().get(0)).endsWith("values (?, ?, ?, ?, ?, ?), (?, ?, ?, ?, ?, ?)");
+        assertThat(argsCaptor.getAllValues().get(0)).hasSize(12).startsWith(1L, "ARTICLE_VIEWED", "{}", 1L, 1L);
+        assertThat(argsCaptor.getAllValues().get(1)).hasSize(6).startsWith(3L);
+        assertThat(TransactionSynchronizationManager.hasResource(outboxBatchInserter)).isFalse();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 발행된 outbox 는 저장하지 않는다")
+    void addWithoutTransactionTest() {
+        // when
+        outboxBatchInserter.add(Outbox.create(1L, EventType.ARTICLE_VIEWED, "{}", 1L, 1L));
+
+        // then
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+
+}
@@ -0,0 +1,82 @@
+package lipam.board.common.outboxmessagerelay;
+
+import lipam.board.common.event.Event;
+import lipam.board.common.event.EventPayload;
+import lipam.board.common.event.EventType;
+import lipam.board.common.event.payload.ArticleLikedEventPayload;
+import lipam.board.common.event.payload.ArticleUnlikedEventPayload;
+import lipam.board.common.event.payload.ArticleUpdatedEventPayload;
+import lipam.board.common.event.payload.ArticleViewedEventPayload;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboxCoalescerTest {
+
+    static final Set<EventType> COUNTER_EVENT_TYPES = EnumSet.of(
+            EventType.ARTICLE_LIKED, EventType.ARTICLE_UNLIKED, EventType.ARTICLE_VIEWED
+    );
+
+    @Test
+    @DisplayName("같은 게시글의 카운터 이벤트는 최신 이벤트만 남기고, 나머지 이벤트는 순서대로 둔다")
+    void coalesceTest() {
+        // given
+        Outbox liked1 = create(1L, EventType.ARTICLE_LIKED, ArticleLikedEventPayload.builder().articleId(10L).articleLikeCount(1L).build());
+        Outbox updated = create(2L, EventType.ARTICLE_UPDATED, ArticleUpdatedEventPayload.builder().articleId(10L).build());
+        Outbox viewed = create(3L, EventType.ARTICLE_VIEWED, new ArticleViewedEventPayload(10L, 100L));
+        Outbox otherArticleLiked = create(4L, EventType.ARTICLE_LIKED, ArticleLikedEventPayload.builder().articleId(20L).articleLikeCount(5L).build());
+        Outbox unliked = create(5L, EventType.ARTICLE_UNLIKED, ArticleUnlikedEventPayload.builder().articleId(10L).articleLikeCount(0L).build());
+        Outbox liked2 = create(6L, EventType.ARTICLE_LIKED, ArticleLikedEventPayload.builder().articleId(10L).articleLikeCount(1L).build());
+
+        // when
+        Map<Outbox, List<Outbox>> result = OutboxCoalescer.coalesce(
+                List.of(liked1, updated, viewed, otherArticleLiked, unliked, liked2), COUNTER_EVENT_TYPES
+        );
+
+        // then
+        assertThat(result.keySet()).containsExactly(updated, viewed, otherArticleLiked, liked2);
+        assertThat(result.get(liked2)).containsExactly(liked1, unliked); // 좋아요/좋아요 취소는 같은 카운터
+        assertThat(result.get(updated)).isEmpty();
+        assertThat(result.get(viewed)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최신 이벤트가 먼저 조회되어도(createdAt 내림차순) outboxId 가 가장 큰 이벤트를 남긴다")
+    void coalesceDescendingTest() {
+        // given
+        Outbox viewed1 = create(1L, EventType.ARTICLE_VIEWED, new ArticleViewedEventPayload(10L, 100L));
+        Outbox viewed2 = create(2L, EventType.ARTICLE_VIEWED, new ArticleViewedEventPayload(10L, 200L));
+
+        // when
+        Map<Outbox, List<Outbox>> result = OutboxCoalescer.coalesce(List.of(viewed2, viewed1), COUNTER_EVENT_TYPES);
+
+        // then
+        assertThat(result.keySet()).containsExactly(viewed2);
+        assertThat(result.get(viewed2)).containsExactly(viewed1);
+    }
+
+    @Test
+    @DisplayName("대상 이벤트 타입이 아니면 합치지 않는다")
+    void coalesceShouldSkipNotConfiguredEventType() {
+        // given
+        Outbox viewed1 = create(1L, EventType.ARTICLE_VIEWED, new ArticleViewedEventPayload(10L, 100L));
+        Outbox viewed2 = create(2L, EventType.ARTICLE_VIEWED, new ArticleViewedEventPayload(10L, 200L));
+
+        // when
+        Map<Outbox, List<Outbox>> result = OutboxCoalescer.coalesce(List.of(viewed1, viewed2), EnumSet.of(EventType.ARTICLE_LIKED));
+
+        // then
+        assertThat(result.keySet()).containsExactly(viewed1, viewed2);
+    }
+
+    private Outbox create(Long outboxId, EventType type, EventPayload payload) {
+        return Outbox.create(outboxId, type, Event.of(outboxId, type, payload).toJson(), 10L, 2L);
+    }
+
+}
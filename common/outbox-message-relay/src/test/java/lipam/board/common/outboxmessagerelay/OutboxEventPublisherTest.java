@@ -0,0 +1,49 @@
+package lipam.board.common.outboxmessagerelay;
+
+import lipam.board.common.event.EventType;
+import lipam.board.common.event.payload.ArticleViewedEventPayload;
+import lipam.board.common.snowflake.LockFreeSnowflake;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxEventPublisherTest {
+
+    @InjectMocks
+    OutboxEventPublisher outboxEventPublisher;
+    @Mock
+    ApplicationEventPublisher applicationEventPublisher;
+    @Spy
+    LockFreeSnowflake snowflake = new LockFreeSnowflake();
+
+    @Test
+    void publishTest() {
+        // given
+        long articleId = 190129483204198401L;
+        ArticleViewedEventPayload payload = ArticleViewedEventPayload.builder()
+                .articleId(articleId)
+                .articleViewCount(100L)
+                .build();
+
+        // when
+        outboxEventPublisher.publish(EventType.ARTICLE_VIEWED, payload, articleId);
+
+        // then
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(applicationEventPublisher).publishEvent(captor.capture());
+        Outbox outbox = captor.getValue().getOutbox();
+
+        assertThat(outbox.getPartitionKey()).isEqualTo(articleId); // Kafka Key 는 비즈니스 키 그대로
+        assertThat(outbox.getShardKey()).isEqualTo(articleId % MessageRelayConstants.SHARD_COUNT); // polling 샤드는 나머지 값
+    }
+
+}
@@ -0,0 +1,24 @@
+package lipam.board.common.outboxmessagerelay;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.core.convert.ConversionService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OutboxStorageModeTest {
+
+    // @Value 바인딩에 사용되는 Spring Boot 의 ConversionService
+    ConversionService conversionService = ApplicationConversionService.getSharedInstance();
+
+    @Test
+    void bindTest() {
+        assertThat(conversionService.convert("append", OutboxStorageMode.class)).isEqualTo(OutboxStorageMode.APPEND);
+        assertThat(conversionService.convert("delete", OutboxStorageMode.class)).isEqualTo(OutboxStorageMode.DELETE);
+        assertThatThrownBy(() -> conversionService.convert("apend", OutboxStorageMode.class))
+                .isInstanceOf(ConversionFailedException.class); // 오타는 delete 모드로 넘어가지 않고 실패한다.
+    }
+
+}
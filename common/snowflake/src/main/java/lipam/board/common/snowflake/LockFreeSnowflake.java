@@ -0,0 +1,146 @@
+package lipam.board.common.snowflake;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+import java.util.random.RandomGenerator;
+
+// synchronized 없이 동작하는 Snowflake
+// 마지막 타임스탬프와 시퀀스를 하나의 long(state)에 묶어서 저장하고, CAS 로 한 번에 갱신한다.
+// state = (timestamp - startTimeMillis) << SEQUENCE_BITS | sequence
+// ID 비트 구성(1 + 41 + 10 + 12)은 Snowflake 와 동일하므로 두 구현이 만든 ID 는 서로 호환된다.
+public class LockFreeSnowflake {
+
+	private static final int UNUSED_BITS = 1;
+	private static final int EPOCH_BITS = 41;
+	private static final int NODE_ID_BITS = 10;
+	private static final int SEQUENCE_BITS = 12;
+
+	private static final long maxNodeId = (1L << NODE_ID_BITS) - 1;
+	private static final long maxSequence = (1L << SEQUENCE_BITS) - 1;
+
+	// 시퀀스 소진 시 다음 밀리초까지 한 번에 park 하는 최소 시간
+	private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+	private final long nodeId = RandomGenerator.getDefault().nextLong(maxNodeId + 1);
+	// UTC = 2024-01-01T00:00:00Z
+	private final long startTimeMillis = 1704067200000L;
+
+	// 시계가 이 시간 이내로 뒤로 가면(NTP 보정 등) 예외 대신 마지막 타임스탬프를 이어서 사용한다. 0 이면 바로 예외.
+	private final long maxClockBackwardMillis;
+	private final LongSupplier clock;
+
+	// 상위 비트: 마지막으로 사용한 타임스탬프(startTimeMillis 기준), 하위 12비트: 마지막으로 발급한 시퀀스
+	private final AtomicLong state = new AtomicLong(0L);
+
+	private final LongAdder sequenceExhaustedCount = new LongAdder();
+	private final LongAdder clockBackwardCount = new LongAdder();
+
+	public LockFreeSnowflake() {
+		this(Duration.ZERO);
+	}
+
+	public LockFreeSnowflake(Duration maxClockBackward) {
+		this(maxClockBackward, System::currentTimeMillis);
+	}
+
+	// 테스트에서 시계를 주입하기 위한 생성자
+	LockFreeSnowflake(Duration maxClockBackward, LongSupplier clock) {
+		if (maxClockBackward.isNegative()) {
+			throw new IllegalArgumentException("maxClockBackward must not be negative");
+		}
+		this.maxClockBackwardMillis = maxClockBackward.toMillis();
+		this.clock = clock;
+	}
+
+	public long nextId() {
+		return reserve(1);
+	}
+
+	// 같은 밀리초 안에서 연속된 시퀀스 n 개를 CAS 한 번으로 예약한다.
+	// 노드 ID 가 시퀀스 바로 위 비트에 있으므로, 시퀀스가 연속이면 ID 도 1씩 증가하는 연속된 값이 된다.
+	// 예) nextIds(3) -> [x, x + 1, x + 2]
+	public long[] nextIds(int n) {
+		if (n < 1 || n > maxSequence + 1) {
+			throw new IllegalArgumentException("n must be between 1 and %s".formatted(maxSequence + 1));
+		}
+
+		long firstId = reserve(n);
+		long[] ids = new long[n];
+		for (int i = 0; i < n; i++) {
+			ids[i] = firstId + i;
+		}
+		return ids;
+	}
+
+	// 시퀀스 소진 횟수 (다음 밀리초까지 대기한 횟수)
+	public long getSequenceExhaustedCount() {
+		return sequenceExhaustedCount.sum();
+	}
+
+	// 시계가 뒤로 간 것을 감지한 횟수 (허용 범위를 넘어서 예외가 발생한 경우 포함)
+	public long getClockBackwardCount() {
+		return clockBackwardCount.sum();
+	}
+
+	// 시퀀스 n 개를 예약하고, 예약된 구간의 첫 번째 ID 를 반환한다.
+	private long reserve(int n) {
+		boolean clockBackward = false;
+		while (true) {
+			long prev = state.get();
+			long lastTimestamp = prev >>> SEQUENCE_BITS;
+			long lastSequence = prev & maxSequence;
+			long currentTimestamp = clock.getAsLong() - startTimeMillis;
+
+			if (currentTimestamp < lastTimestamp) {
+				if (lastTimestamp - currentTimestamp > maxClockBackwardMillis) {
+					clockBackwardCount.increment();
+					throw new IllegalStateException("Invalid Time");
+				}
+				// 허용 범위 안에서는 마지막 타임스탬프를 그대로 이어서 시퀀스만 증가시킨다.
+				clockBackward = true;
+				currentTimestamp = lastTimestamp;
+			}
+
+			long firstSequence;
+			long next;
+			if (currentTimestamp == lastTimestamp) {
+				// 같은 밀리초: 남은 시퀀스로 n 개를 담을 수 없으면 다음 밀리초까지 기다린 뒤 다시 시도한다.
+				if (lastSequence + n > maxSequence) {
+					waitNextMillis(lastTimestamp);
+					continue;
+				}
+				firstSequence = lastSequence + 1;
+				next = prev + n;
+			} else {
+				// 새로운 밀리초: 시퀀스는 0 부터 시작한다.
+				firstSequence = 0;
+				next = (currentTimestamp << SEQUENCE_BITS) | (n - 1);
+			}
+
+			// 다른 스레드가 먼저 state 를 바꿨으면 CAS 가 실패하므로 처음부터 다시 계산한다.
+			if (state.compareAndSet(prev, next)) {
+				if (clockBackward) {
+					clockBackwardCount.increment(); // CAS 재시도로 중복 집계되지 않도록 성공 시 한 번만 센다.
+				}
+				return (currentTimestamp << (NODE_ID_BITS + SEQUENCE_BITS))
+					| (nodeId << SEQUENCE_BITS)
+					| firstSequence;
+			}
+		}
+	}
+
+	// busy-spin 대신 park 해서 시계가 lastTimestamp 를 넘을 때까지 CPU 를 양보한다.
+	private void waitNextMillis(long lastTimestamp) {
+		sequenceExhaustedCount.increment();
+		long currentTimestamp = clock.getAsLong() - startTimeMillis;
+		while (currentTimestamp <= lastTimestamp) {
+			LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(lastTimestamp - currentTimestamp) + PARK_NANOS);
+			currentTimestamp = clock.getAsLong() - startTimeMillis;
+		}
+	}
+
+}
@@ -1,5 +1,10 @@
 package lipam.board.common.snowflake;
 
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
 import java.util.random.RandomGenerator;
 
 public class Snowflake {
@@ -12,41 +17,96 @@ public class Snowflake {
 	private static final long maxNodeId = (1L << NODE_ID_BITS) - 1;
 	private static final long maxSequence = (1L << SEQUENCE_BITS) - 1;
 
+	// 시퀀스 소진 시 다음 밀리초까지 한 번에 park 하는 최소 시간
+	private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
 	private final long nodeId = RandomGenerator.getDefault().nextLong(maxNodeId + 1);
 	// UTC = 2024-01-01T00:00:00Z
 	private final long startTimeMillis = 1704067200000L;
 
+	// 시계가 이 시간 이내로 뒤로 가면(NTP 보정 등) 예외 대신 마지막 타임스탬프를 이어서 사용한다. 0 이면 기존처럼 바로 예외.
+	private final long maxClockBackwardMillis;
+	private final LongSupplier clock;
+
+	private final LongAdder sequenceExhaustedCount = new LongAdder();
+	private final LongAdder clockBackwardCount = new LongAdder();
+
 	private long lastTimeMillis = startTimeMillis;
 	private long sequence = 0L;
 
-	public synchronized long nextId() {
-		long currentTimeMillis = System.currentTimeMillis();
+	public Snowflake() {
+		this(Duration.ZERO);
+	}
+
+	public Snowflake(Duration maxClockBackward) {
+		this(maxClockBackward, System::currentTimeMillis);
+	}
 
-		if (currentTimeMillis < lastTimeMillis) {
-			throw new IllegalStateException("Invalid Time");
+	// 테스트에서 시계를 주입하기 위한 생성자
+	Snowflake(Duration maxClockBackward, LongSupplier clock) {
+		if (maxClockBackward.isNegative()) {
+			throw new IllegalArgumentException("maxClockBackward must not be negative");
 		}
+		this.maxClockBackwardMillis = maxClockBackward.toMillis();
+		this.clock = clock;
+	}
+
+	// 시퀀스가 소진되면 락을 놓고 park 한 뒤 다시 시도한다.
+	// 락을 잡은 채로 기다리면 다른 스레드가 모두 락 대기로 막히고, 가상 스레드라면 캐리어 스레드까지 고정(pinning)된다.
+	public long nextId() {
+		while (true) {
+			long exhaustedTimeMillis;
+			synchronized (this) {
+				long currentTimeMillis = clock.getAsLong();
 
-		if (currentTimeMillis == lastTimeMillis) {
-			sequence = (sequence + 1) & maxSequence;
-			if (sequence == 0) {
-				currentTimeMillis = waitNextMillis(currentTimeMillis);
+				if (currentTimeMillis < lastTimeMillis) {
+					clockBackwardCount.increment();
+					if (lastTimeMillis - currentTimeMillis > maxClockBackwardMillis) {
+						throw new IllegalStateException("Invalid Time");
+					}
+					// 허용 범위 안에서는 마지막 타임스탬프를 그대로 이어서 시퀀스만 증가시킨다.
+					currentTimeMillis = lastTimeMillis;
+				}
+
+				if (currentTimeMillis != lastTimeMillis) {
+					sequence = 0;
+					lastTimeMillis = currentTimeMillis;
+					return id(currentTimeMillis, sequence);
+				}
+				if (sequence < maxSequence) {
+					sequence++;
+					return id(currentTimeMillis, sequence);
+				}
+				exhaustedTimeMillis = lastTimeMillis;
 			}
-		} else {
-			sequence = 0;
+			waitNextMillis(exhaustedTimeMillis);
 		}
+	}
 
-		lastTimeMillis = currentTimeMillis;
-
-		return ((currentTimeMillis - startTimeMillis) << (NODE_ID_BITS + SEQUENCE_BITS))
+	private long id(long timeMillis, long sequence) {
+		return ((timeMillis - startTimeMillis) << (NODE_ID_BITS + SEQUENCE_BITS))
 			| (nodeId << SEQUENCE_BITS)
 			| sequence;
 	}
 
-	private long waitNextMillis(long currentTimestamp) {
-		while (currentTimestamp <= lastTimeMillis) {
-			currentTimestamp = System.currentTimeMillis();
+	// 시퀀스 소진 횟수 (다음 밀리초까지 대기한 횟수)
+	public long getSequenceExhaustedCount() {
+		return sequenceExhaustedCount.sum();
+	}
+
+	// 시계가 뒤로 간 것을 감지한 횟수 (허용 범위를 넘어서 예외가 발생한 경우 포함)
+	public long getClockBackwardCount() {
+		return clockBackwardCount.sum();
+	}
+
+	// busy-spin 대신 park 해서 시계가 exhaustedTimeMillis 를 넘을 때까지 CPU 를 양보한다. (락 밖에서 호출)
+	private void waitNextMillis(long exhaustedTimeMillis) {
+		sequenceExhaustedCount.increment();
+		long currentTimeMillis = clock.getAsLong();
+		while (currentTimeMillis <= exhaustedTimeMillis) {
+			LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(exhaustedTimeMillis - currentTimeMillis) + PARK_NANOS);
+			currentTimeMillis = clock.getAsLong();
 		}
-		return currentTimestamp;
 	}
 
 }
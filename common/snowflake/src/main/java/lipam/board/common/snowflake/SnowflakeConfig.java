@@ -0,0 +1,45 @@
+package lipam.board.common.snowflake;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+// 서비스가 ID 발급에 주입받아 쓰는 LockFreeSnowflake 빈
+// - snowflake.max-clock-backward-millis : 이 시간 이내의 시계 역행(NTP 보정 등)은 예외 대신 마지막 타임스탬프를 이어서 사용한다. (기본 0, 즉시 예외)
+// Micrometer 가 있으면 아래 지표를 /actuator/metrics 에 등록한다.
+// - snowflake.clock.backward     : 시계가 뒤로 간 것을 감지한 횟수 (허용 범위를 넘어서 예외가 발생한 경우 포함)
+// - snowflake.sequence.exhausted : 1ms 당 시퀀스를 모두 써서 다음 밀리초까지 park 한 횟수
+@Configuration
+public class SnowflakeConfig {
+
+	@Bean
+	@ConditionalOnMissingBean
+	public LockFreeSnowflake lockFreeSnowflake(@Value("${snowflake.max-clock-backward-millis:0}") long maxClockBackwardMillis) {
+		return new LockFreeSnowflake(Duration.ofMillis(maxClockBackwardMillis));
+	}
+
+	@Configuration
+	@ConditionalOnClass(MeterBinder.class)
+	static class SnowflakeMetricsConfig {
+
+		@Bean
+		public MeterBinder snowflakeMeterBinder(LockFreeSnowflake lockFreeSnowflake) {
+			return meterRegistry -> {
+				FunctionCounter.builder("snowflake.clock.backward", lockFreeSnowflake, LockFreeSnowflake::getClockBackwardCount)
+						.description("clock regressions seen while issuing ids")
+						.register(meterRegistry);
+				FunctionCounter.builder("snowflake.sequence.exhausted", lockFreeSnowflake, LockFreeSnowflake::getSequenceExhaustedCount)
+						.description("times the per-millisecond sequence ran out and the generator parked")
+						.register(meterRegistry);
+			};
+		}
+
+	}
+
+}
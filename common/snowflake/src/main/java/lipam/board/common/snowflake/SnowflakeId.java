@@ -0,0 +1,66 @@
+package lipam.board.common.snowflake;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+// Snowflake 로 생성된 ID 를 해석(decode)하거나, 특정 시각에 해당하는 ID 경계값을 만드는(encode) 유틸리티
+// ID 비트 구성: 1(unused) + 41(timestamp) + 10(node id) + 12(sequence)
+// ID 자체에 생성 시각(밀리초)이 들어있으므로, 생성 시각이 필요할 때 DB/Redis 를 조회하지 않고 ID 만으로 알 수 있다.
+public final class SnowflakeId {
+
+	private static final int NODE_ID_BITS = 10;
+	private static final int SEQUENCE_BITS = 12;
+	private static final int TIMESTAMP_SHIFT = NODE_ID_BITS + SEQUENCE_BITS;
+
+	private static final long maxNodeId = (1L << NODE_ID_BITS) - 1;
+	private static final long maxSequence = (1L << SEQUENCE_BITS) - 1;
+	private static final long maxTimestamp = (1L << 41) - 1;
+
+	// UTC = 2024-01-01T00:00:00Z (Snowflake, LockFreeSnowflake 와 동일)
+	private static final long startTimeMillis = 1704067200000L;
+
+	private SnowflakeId() {
+	}
+
+	// ID 가 생성된 시각 (epoch millis)
+	public static long timestampMillis(long id) {
+		return (id >>> TIMESTAMP_SHIFT) + startTimeMillis;
+	}
+
+	public static Instant createdAt(long id) {
+		return Instant.ofEpochMilli(timestampMillis(id));
+	}
+
+	public static LocalDateTime createdAt(long id, ZoneId zoneId) {
+		return LocalDateTime.ofInstant(createdAt(id), zoneId);
+	}
+
+	public static long nodeId(long id) {
+		return (id >>> SEQUENCE_BITS) & maxNodeId;
+	}
+
+	public static long sequence(long id) {
+		return id & maxSequence;
+	}
+
+	// 해당 밀리초에 생성될 수 있는 가장 작은 ID (node id, sequence = 0)
+	// 예) 시간 구간 [from, to) 의 게시글 = article_id between minIdAt(from) and maxIdAt(to - 1ms)
+	public static long minIdAt(Instant instant) {
+		return toTimestamp(instant) << TIMESTAMP_SHIFT;
+	}
+
+	// 해당 밀리초에 생성될 수 있는 가장 큰 ID (node id, sequence 모두 최댓값)
+	public static long maxIdAt(Instant instant) {
+		return minIdAt(instant) | ((1L << TIMESTAMP_SHIFT) - 1);
+	}
+
+	private static long toTimestamp(Instant instant) {
+		long timestamp = instant.toEpochMilli() - startTimeMillis;
+		if (timestamp < 0 || timestamp > maxTimestamp) {
+			throw new IllegalArgumentException("instant out of snowflake range: %s".formatted(instant));
+		}
+		return timestamp;
+	}
+
+}
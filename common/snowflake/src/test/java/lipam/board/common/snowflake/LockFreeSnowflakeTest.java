@@ -0,0 +1,138 @@
+package lipam.board.common.snowflake;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class LockFreeSnowflakeTest {
+	LockFreeSnowflake snowflake = new LockFreeSnowflake();
+
+	@Test
+	void nextIdTest() throws ExecutionException, InterruptedException {
+		// given
+		ExecutorService executorService = Executors.newFixedThreadPool(10);
+		List<Future<List<Long>>> futures = new ArrayList<>();
+		int repeatCount = 1000;
+		int idCount = 1000; // 총 백만개
+
+		// when
+		for (int i = 0; i < repeatCount; i++) {
+			futures.add(executorService.submit(() -> generateIdList(snowflake, idCount)));
+		}
+
+		// then
+		List<Long> result = new ArrayList<>();
+		for (Future<List<Long>> future : futures) {
+			List<Long> idList = future.get();
+			for (int i = 1; i < idList.size(); i++) {
+				assertThat(idList.get(i)).isGreaterThan(idList.get(i - 1)); // 스레드 안에서는 오름차순으로 생성 되었는가
+			}
+			result.addAll(idList);
+		}
+		assertThat(result.stream().distinct().count()).isEqualTo(repeatCount * idCount); // 중복 없이 생성되었는가
+
+		executorService.shutdown();
+	}
+
+	@Test
+	void nextIdsTest() throws ExecutionException, InterruptedException {
+		// given
+		ExecutorService executorService = Executors.newFixedThreadPool(10);
+		List<Future<long[]>> futures = new ArrayList<>();
+		int repeatCount = 10000;
+		int blockSize = 100; // 100 개씩 예약 (총 백만개)
+
+		// when
+		for (int i = 0; i < repeatCount; i++) {
+			futures.add(executorService.submit(() -> snowflake.nextIds(blockSize)));
+		}
+
+		// then
+		List<Long> result = new ArrayList<>();
+		for (Future<long[]> future : futures) {
+			long[] ids = future.get();
+			assertThat(ids).hasSize(blockSize);
+			for (int i = 1; i < ids.length; i++) {
+				assertThat(ids[i]).isEqualTo(ids[i - 1] + 1); // 예약된 블록은 연속된 ID 여야 한다.
+			}
+			for (long id : ids) {
+				result.add(id);
+			}
+		}
+		assertThat(result.stream().distinct().count()).isEqualTo((long) repeatCount * blockSize);
+
+		executorService.shutdown();
+	}
+
+	@Test
+	void nextIdsInvalidSizeTest() {
+		assertThatThrownBy(() -> snowflake.nextIds(0)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> snowflake.nextIds(4097)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void clockBackwardWithinToleranceTest() {
+		// given
+		AtomicLong now = new AtomicLong(System.currentTimeMillis());
+		LockFreeSnowflake snowflake = new LockFreeSnowflake(Duration.ofMillis(10), now::get);
+		long first = snowflake.nextId();
+
+		// when
+		now.addAndGet(-5); // 허용 범위(10ms) 이내로 시계가 뒤로 감
+		long second = snowflake.nextId();
+
+		// then
+		assertThat(second).isGreaterThan(first); // 마지막 타임스탬프를 이어서 사용하므로 순서가 유지된다.
+		assertThat(snowflake.getClockBackwardCount()).isEqualTo(1);
+	}
+
+	@Test
+	void clockBackwardOverToleranceTest() {
+		// given
+		AtomicLong now = new AtomicLong(System.currentTimeMillis());
+		LockFreeSnowflake snowflake = new LockFreeSnowflake(Duration.ofMillis(10), now::get);
+		snowflake.nextId();
+
+		// when
+		now.addAndGet(-11);
+
+		// then
+		assertThatThrownBy(snowflake::nextId).isInstanceOf(IllegalStateException.class);
+		assertThat(snowflake.getClockBackwardCount()).isEqualTo(1);
+	}
+
+	@Test
+	void sequenceExhaustedTest() {
+		// given
+		long base = System.currentTimeMillis();
+		AtomicLong readCount = new AtomicLong();
+		// 4097 번째 읽기까지는 같은 밀리초, 그 이후에는 다음 밀리초를 반환하는 시계
+		LockFreeSnowflake snowflake = new LockFreeSnowflake(Duration.ZERO, () -> readCount.incrementAndGet() > 4097 ? base + 1 : base);
+
+		// when
+		List<Long> idList = generateIdList(snowflake, 4097); // 1ms 당 시퀀스 4096 개를 모두 소진
+
+		// then
+		for (int i = 1; i < idList.size(); i++) {
+			assertThat(idList.get(i)).isGreaterThan(idList.get(i - 1));
+		}
+		assertThat(snowflake.getSequenceExhaustedCount()).isEqualTo(1);
+	}
+
+	List<Long> generateIdList(LockFreeSnowflake snowflake, int count) {
+		List<Long> idList = new ArrayList<>();
+		while (count-- > 0) {
+			idList.add(snowflake.nextId());
+		}
+		return idList;
+	}
+}
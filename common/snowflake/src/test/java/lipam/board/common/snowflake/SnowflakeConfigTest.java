@@ -0,0 +1,28 @@
+package lipam.board.common.snowflake;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SnowflakeConfigTest {
+	SnowflakeConfig snowflakeConfig = new SnowflakeConfig();
+
+	@Test
+	void snowflakeMeterBinderTest() {
+		// given
+		LockFreeSnowflake snowflake = snowflakeConfig.lockFreeSnowflake(10);
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+		// when
+		new SnowflakeConfig.SnowflakeMetricsConfig().snowflakeMeterBinder(snowflake).bindTo(meterRegistry);
+
+		// then
+		FunctionCounter clockBackward = meterRegistry.get("snowflake.clock.backward").functionCounter();
+		FunctionCounter sequenceExhausted = meterRegistry.get("snowflake.sequence.exhausted").functionCounter();
+		assertThat(clockBackward.count()).isEqualTo(snowflake.getClockBackwardCount());
+		assertThat(sequenceExhausted.count()).isEqualTo(snowflake.getSequenceExhaustedCount());
+	}
+}
@@ -0,0 +1,53 @@
+package lipam.board.common.snowflake;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+class SnowflakeIdTest {
+
+	@Test
+	void decodeTest() {
+		// given
+		long before = System.currentTimeMillis();
+		long id = new Snowflake().nextId();
+		long after = System.currentTimeMillis();
+
+		// when
+		long timestampMillis = SnowflakeId.timestampMillis(id);
+
+		// then
+		assertThat(timestampMillis).isBetween(before, after); // ID 에 들어있는 시각은 생성 시점이어야 한다.
+		assertThat(SnowflakeId.createdAt(id).toEpochMilli()).isEqualTo(timestampMillis);
+		assertThat(SnowflakeId.nodeId(id)).isBetween(0L, 1023L);
+		assertThat(SnowflakeId.sequence(id)).isBetween(0L, 4095L);
+	}
+
+	@Test
+	void idRangeTest() {
+		// given
+		Instant now = Instant.ofEpochMilli(System.currentTimeMillis());
+		long id = new LockFreeSnowflake().nextId();
+		Instant createdAt = SnowflakeId.createdAt(id);
+
+		// when
+		long minId = SnowflakeId.minIdAt(createdAt);
+		long maxId = SnowflakeId.maxIdAt(createdAt);
+
+		// then
+		assertThat(id).isBetween(minId, maxId); // 생성된 밀리초의 ID 범위 안에 있어야 한다.
+		assertThat(SnowflakeId.timestampMillis(minId)).isEqualTo(createdAt.toEpochMilli());
+		assertThat(SnowflakeId.timestampMillis(maxId)).isEqualTo(createdAt.toEpochMilli());
+		assertThat(SnowflakeId.maxIdAt(createdAt.minusMillis(1))).isEqualTo(minId - 1); // 이전 밀리초의 마지막 ID 바로 다음이 최소 ID
+		assertThat(createdAt).isAfterOrEqualTo(now);
+	}
+
+	@Test
+	void idRangeOutOfRangeTest() {
+		assertThatThrownBy(() -> SnowflakeId.minIdAt(Instant.parse("2023-12-31T23:59:59Z")))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+}
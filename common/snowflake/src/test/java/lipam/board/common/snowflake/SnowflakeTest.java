@@ -2,6 +2,7 @@ package lipam.board.common.snowflake;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
@@ -9,6 +10,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.junit.jupiter.api.Test;
 
@@ -42,6 +44,55 @@ class SnowflakeTest {
 		executorService.shutdown();
 	}
 
+	@Test
+	void clockBackwardWithinToleranceTest() {
+		// given
+		AtomicLong now = new AtomicLong(System.currentTimeMillis());
+		Snowflake snowflake = new Snowflake(Duration.ofMillis(10), now::get);
+		long first = snowflake.nextId();
+
+		// when
+		now.addAndGet(-5); // 허용 범위(10ms) 이내로 시계가 뒤로 감
+		long second = snowflake.nextId();
+
+		// then
+		assertThat(second).isGreaterThan(first); // 마지막 타임스탬프를 이어서 사용하므로 순서가 유지된다.
+		assertThat(snowflake.getClockBackwardCount()).isEqualTo(1);
+	}
+
+	@Test
+	void clockBackwardOverToleranceTest() {
+		// given
+		AtomicLong now = new AtomicLong(System.currentTimeMillis());
+		Snowflake snowflake = new Snowflake(Duration.ofMillis(10), now::get);
+		snowflake.nextId();
+
+		// when
+		now.addAndGet(-11);
+
+		// then
+		assertThatThrownBy(snowflake::nextId).isInstanceOf(IllegalStateException.class);
+		assertThat(snowflake.getClockBackwardCount()).isEqualTo(1);
+	}
+
+	@Test
+	void sequenceExhaustedTest() {
+		// given
+		long base = System.currentTimeMillis();
+		AtomicLong readCount = new AtomicLong();
+		// 4097 번째 읽기까지는 같은 밀리초, 그 이후에는 다음 밀리초를 반환하는 시계
+		Snowflake snowflake = new Snowflake(Duration.ZERO, () -> readCount.incrementAndGet() > 4097 ? base + 1 : base);
+
+		// when
+		List<Long> idList = generateIdList(snowflake, 4097); // 1ms 당 시퀀스 4096 개를 모두 소진
+
+		// then
+		for (int i = 1; i < idList.size(); i++) {
+			assertThat(idList.get(i)).isGreaterThan(idList.get(i - 1));
+		}
+		assertThat(snowflake.getSequenceExhaustedCount()).isEqualTo(1);
+	}
+
 	List<Long> generateIdList(Snowflake snowflake, int count) {
 		List<Long> idList = new ArrayList<>();
 		while (count-- > 0) {
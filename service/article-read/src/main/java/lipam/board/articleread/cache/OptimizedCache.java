@@ -1,41 +1,91 @@
 package lipam.board.articleread.cache;
 
-import com.fasterxml.jackson.annotation.JsonIgnore;
 import lipam.board.common.dataserializer.DataSerializer;
 import lombok.Getter;
 import lombok.ToString;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 // 캐시 최적화를 위한 Wrapper 클래스
+// Redis 에는 [포맷 버전 1바이트][만료 시각(epoch millis) 8바이트][실제 데이터 JSON] 형태의 byte[] 로 저장한다.
+// 예전에는 data 를 JSON 문자열로 만든 뒤 Wrapper 전체를 다시 JSON 으로 직렬화해서,
+// 조회할 때마다 이스케이프된 JSON 을 풀고(Wrapper 파싱) 다시 파싱(data 파싱)하는 두 번의 파싱이 일어났다.
+// 지금은 만료 시각은 고정 위치의 8바이트만 읽고, 실제 데이터만 한 번 파싱한다.
 @Getter
 @ToString
 public class OptimizedCache {
 
-    private String data; // 실제 데이터
-    private LocalDateTime expireAt; // 만료 시간
+    // JSON 은 '{' 로 시작하므로, 첫 바이트로 예전 포맷(JSON Wrapper)과 구분할 수 있다.
+    private static final byte FORMAT_VERSION = 0x00;
+    private static final int HEADER_SIZE = 1 + Long.BYTES;
+
+    private long expireAtMillis; // 만료 시각 (epoch millis)
+    @ToString.Exclude
+    private ByteBuffer data; // 실제 데이터 (직렬화된 JSON)
 
     public static OptimizedCache of(Object data, Duration ttl) { // 여기서의 ttl 은 logical ttl
         OptimizedCache optimizedCache = new OptimizedCache();
-        optimizedCache.data = DataSerializer.serialize(data); // 실제 객체 데이터를 직렬화해서 문자열 형태로 저장한다.
-        optimizedCache.expireAt = LocalDateTime.now().plus(ttl); // 현재 시간 + ttl 로 만료 시각을 계산한다.
+        optimizedCache.data = ByteBuffer.wrap(DataSerializer.serializeToBytes(data)); // 실제 객체 데이터를 직렬화해서 byte[] 형태로 저장한다.
+        optimizedCache.expireAtMillis = System.currentTimeMillis() + ttl.toMillis(); // 현재 시간 + ttl 로 만료 시각을 계산한다.
+        return optimizedCache;
+    }
+
+    // Redis 에서 읽은 byte[] 를 OptimizedCache 로 변환한다. (data 는 복사하지 않고 원본 byte[] 를 감싼다.)
+    // 알 수 없는 형식이면 null 을 반환한다.
+    public static OptimizedCache fromBytes(byte[] bytes) {
+        if (bytes.length >= HEADER_SIZE && bytes[0] == FORMAT_VERSION) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            OptimizedCache optimizedCache = new OptimizedCache();
+            optimizedCache.expireAtMillis = buffer.getLong(1);
+            optimizedCache.data = buffer.position(HEADER_SIZE).slice();
+            return optimizedCache;
+        }
+        return fromLegacy(bytes);
+    }
+
+    // 예전 포맷({"data":"<JSON 문자열>","expireAt":"<LocalDateTime>"})으로 저장된 캐시도 읽을 수 있게 한다.
+    // 배포 직후 Redis 에 남아있는 캐시는 physical TTL 이 지나면 사라지므로, 그 동안만 이 경로를 탄다.
+    private static OptimizedCache fromLegacy(byte[] bytes) {
+        LegacyOptimizedCache legacy = DataSerializer.deserialize(bytes, LegacyOptimizedCache.class);
+        if (legacy == null || legacy.data == null || legacy.expireAt == null) {
+            return null;
+        }
 
+        OptimizedCache optimizedCache = new OptimizedCache();
+        optimizedCache.expireAtMillis = legacy.expireAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        optimizedCache.data = ByteBuffer.wrap(legacy.data.getBytes(StandardCharsets.UTF_8));
         return optimizedCache;
     }
 
+    // Redis 에 저장할 byte[] 로 변환한다.
+    public byte[] toBytes() {
+        ByteBuffer body = data.duplicate();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + body.remaining());
+        buffer.put(FORMAT_VERSION);
+        buffer.putLong(expireAtMillis);
+        buffer.put(body);
+        return buffer.array();
+    }
+
     // 캐시가 만료되었는지 판단
-    @JsonIgnore
-    // JSON 직렬화 시 isExpired() 가 boolean 필드처럼 포함될 수 있어서 제외한다.
-    // (Getter 로 인식되어 JSON 필드로 들어가는 것을 방지하기 위함)
     public boolean isExpired() {
-        return LocalDateTime.now().isAfter(expireAt); // 현재 시간이 만료 시간보다 이후면 만료
+        return System.currentTimeMillis() > expireAtMillis; // 현재 시간이 만료 시간보다 이후면 만료
     }
 
-    // 캐시에 저장된 문자열 데이터를 실제 객체 타입으로 변환한다.
+    // 캐시에 저장된 데이터를 실제 객체 타입으로 변환한다.
     // 조회 시 data 를 역직렬화해서 원래 객체 형태로 사용할 수 있다.
     public <T> T parseData(Class<T> dataType) {
         return DataSerializer.deserialize(data, dataType);
     }
 
+    // 예전 포맷의 Wrapper
+    private static class LegacyOptimizedCache {
+        public String data;
+        public LocalDateTime expireAt;
+    }
+
 }
@@ -1,8 +1,7 @@
 package lipam.board.articleread.cache;
 
-import lipam.board.common.dataserializer.DataSerializer;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
 import java.util.Arrays;
@@ -15,7 +14,7 @@ import static java.util.stream.Collectors.joining;
 @RequiredArgsConstructor
 public class OptimizedCacheManager {
 
-    private final StringRedisTemplate redisTemplate;
+    private final RedisTemplate<String, byte[]> redisTemplate;
     private final OptimizedCacheLockProvider optimizedCacheLockProvider;
 
     // 캐시 키를 만들 때 파라미터가 여러 개 붙을 수 있어서 구분자를 둔다.
@@ -32,16 +31,16 @@ public class OptimizedCacheManager {
         // type + args 로 캐시 키를 만든다. (예: "article::1::20")
         String key = generateKey(type, args);
 
-        // Redis 에서 캐시 데이터를 문자열로 가져온다.
-        String cachedData = redisTemplate.opsForValue().get(key);
+        // Redis 에서 캐시 데이터를 byte[] 로 가져온다.
+        byte[] cachedData = redisTemplate.opsForValue().get(key);
 
         // 캐시가 없는 경우(미적재) -> 바로 원본 데이터 조회 후 캐시에 적재한다.
         if (cachedData == null) {
             return refresh(originDataSupplier, key, ttlSeconds);
         }
 
-        // 캐시가 있는 경우 -> OptimizedCache 형태로 역직렬화한다.
-        OptimizedCache optimizedCache = DataSerializer.deserialize(cachedData, OptimizedCache.class);
+        // 캐시가 있는 경우 -> OptimizedCache 형태로 변환한다. (만료 시각만 읽고, data 는 반환할 때 한 번만 파싱한다.)
+        OptimizedCache optimizedCache = OptimizedCache.fromBytes(cachedData);
         if (optimizedCache == null) { // 역직렬화가 실패했으면(깨진 데이터/형식 불일치 등) 안전하게 원본 조회로 갱신한다.
             return refresh(originDataSupplier, key, ttlSeconds);
         }
@@ -76,16 +75,16 @@ public class OptimizedCacheManager {
         // - physicalTTL: Redis 실제 TTL(물리 만료)로 사용
         OptimizedCacheTTL optimizedCacheTTL = OptimizedCacheTTL.of(ttlSeconds);
 
-        // 원본 데이터를 직렬화해서 OptimizedCache(data + expireAt) 형태로 만든다.
+        // 원본 데이터를 직렬화해서 OptimizedCache(data + expireAtMillis) 형태로 만든다.
         OptimizedCache optimizedCache = OptimizedCache.of(result, optimizedCacheTTL.getLogicalTTL());
 
         // Redis 에 적재한다.
-        // - value: OptimizedCache 직렬화 문자열
+        // - value: OptimizedCache byte[]
         // - ttl  : physical TTL (Redis 에서 실제로 삭제되는 시간)
         redisTemplate.opsForValue()
                 .set(
                         key,
-                        DataSerializer.serialize(optimizedCache),
+                        optimizedCache.toBytes(),
                         optimizedCacheTTL.getPhysicalTTL()
                 );
 
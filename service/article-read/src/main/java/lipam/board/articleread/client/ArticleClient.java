@@ -12,6 +12,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +24,8 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class ArticleClient {
 
+    private static final int BATCH_SIZE = 100; // 게시글 서비스의 여러 게시글 조회(/v1/articles/batch) 한 번에 요청할 수 있는 최대 개수
+
     private RestClient restClient;
 
     @Value("${endpoints.lipam-board-article-service.url}")
@@ -49,11 +52,37 @@ public class ArticleClient {
         }
     }
 
-    // 페이지 번호 방식 원본 게시글 조회
+    // 여러 게시글의 원본 데이터를 한 번의 요청으로 조회한다. (조회되지 않은 게시글은 응답에서 빠진다.)
+    // 게시글 서비스는 한 번에 BATCH_SIZE 개까지만 받으므로, 그보다 많으면 나눠서 요청한다.
+    public List<ArticleResponse> readAll(List<Long> articleIds) {
+        List<ArticleResponse> result = new ArrayList<>();
+        for (int from = 0; from < articleIds.size(); from += BATCH_SIZE) {
+            result.addAll(readBatch(articleIds.subList(from, Math.min(from + BATCH_SIZE, articleIds.size()))));
+        }
+        return result;
+    }
+
+    private List<ArticleResponse> readBatch(List<Long> articleIds) {
+        try {
+            List<ArticleResponse> articleResponses = restClient.get()
+                    .uri(uriBuilder -> uriBuilder.path("/v1/articles/batch")
+                            .queryParam("articleIds", articleIds)
+                            .build())
+                    .retrieve()
+                    .body(new ParameterizedTypeReference<List<ArticleResponse>>() {
+                    });
+            return articleResponses == null ? List.of() : articleResponses;
+        } catch (Exception e) {
+            log.error("[ArticleClient.readAll] articleIds={}", articleIds, e);
+            return List.of();
+        }
+    }
+
+    // 페이지 번호 방식 원본 게시글 조회 (목록에는 게시글 ID 만 쓰므로, 본문이 없는 목록 API 를 사용한다.)
     public ArticlePageResponse readAll(Long boardId, Long page, Long pageSize) {
         try {
             return restClient.get()
-                    .uri("/v1/articles?boardId=%s&page=%s&pageSize=%s".formatted(boardId, page, pageSize))
+                    .uri("/v1/articles/summaries?boardId=%s&page=%s&pageSize=%s".formatted(boardId, page, pageSize))
                     .retrieve()
                     .body(ArticlePageResponse.class);
         } catch (Exception e) {
@@ -62,15 +91,15 @@ public class ArticleClient {
         }
     }
 
-    // 무한 스크롤 방식 원본 게시글 조회
+    // 무한 스크롤 방식 원본 게시글 조회 (본문 제외)
     public List<ArticleResponse> readAllInfiniteScroll(Long boardId, Long lastArticleId, Long pageSize) {
         try {
             return restClient.get()
                     .uri(
                             lastArticleId != null ?
-                                    "/v1/articles/infinite-scroll?boardId=%s&lastArticleId=%s&pageSize=%s"
+                                    "/v1/articles/summaries/infinite-scroll?boardId=%s&lastArticleId=%s&pageSize=%s"
                                             .formatted(boardId, lastArticleId, pageSize) :
-                                    "/v1/articles/infinite-scroll?boardId=%s&pageSize=%s" // 첫 페이지라서 lastArticleId 가 없을 때
+                                    "/v1/articles/summaries/infinite-scroll?boardId=%s&pageSize=%s" // 첫 페이지라서 lastArticleId 가 없을 때
                                             .formatted(boardId, pageSize)
                     )
                     .retrieve()
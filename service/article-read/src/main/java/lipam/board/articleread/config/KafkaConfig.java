@@ -1,21 +1,35 @@
 package lipam.board.articleread.config;
 
+import lipam.board.articleread.service.event.handler.EventHandler;
+import lipam.board.common.event.Event;
+import lipam.board.common.event.EventPayload;
+import lipam.board.common.event.EventType;
+import lipam.board.common.event.EventTypeRecordFilterStrategy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.listener.ContainerProperties;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
 @Configuration // Kafka 관련 설정 클래스
 public class KafkaConfig {
 
     @Bean // KafkaListener 가 사용할 Listener Container Factory 빈 등록
-    public ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory(
-            ConsumerFactory<String, String> consumerFactory
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> kafkaListenerContainerFactory(
+            ConsumerFactory<String, byte[]> consumerFactory,
+            EventTypeRecordFilterStrategy<byte[]> eventTypeRecordFilterStrategy,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
     ) {
 
+        // 레코드 값은 String 으로 디코딩하지 않고 byte[] 그대로 받아서 Event 로 역직렬화한다. (application.yml 의 value-deserializer 참고)
         // KafkaListener 동작을 관리하는 컨테이너 팩토리 생성
-        ConcurrentKafkaListenerContainerFactory<String, String> factory =
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
 
         // 실제 Kafka Consumer 생성에 사용할 ConsumerFactory 설정
@@ -27,7 +41,37 @@ public class KafkaConfig {
         factory.getContainerProperties()
                 .setAckMode(ContainerProperties.AckMode.MANUAL);
 
+        // 처리할 EventHandler 가 없는 이벤트는 헤더(이벤트 타입)만 보고 본문을 파싱하기 전에 버린다.
+        // 버린 레코드도 오프셋이 커밋되어야 다시 받지 않으므로 setAckDiscarded(true) 를 함께 설정한다.
+        factory.setRecordFilterStrategy(eventTypeRecordFilterStrategy);
+        factory.setAckDiscarded(true);
+
+        // 가상 스레드 모드
+        // 직접 만든 컨테이너 팩토리에는 spring.threads.virtual.enabled 가 자동으로 적용되지 않으므로,
+        // 리스너(Consumer poll + 이벤트 처리) 스레드를 가상 스레드로 실행하도록 직접 지정한다.
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor listenerTaskExecutor = new SimpleAsyncTaskExecutor("article-read-listener-");
+            listenerTaskExecutor.setVirtualThreads(true);
+            factory.getContainerProperties().setListenerTaskExecutor(listenerTaskExecutor);
+        }
+
         return factory;
     }
 
-}
\ No newline at end of file
+    // EventHandler 중 하나라도 지원하는 이벤트 타입만 리스너로 넘긴다.
+    @Bean
+    public EventTypeRecordFilterStrategy<byte[]> eventTypeRecordFilterStrategy(List<EventHandler<?>> eventHandlers) {
+        return EventTypeRecordFilterStrategy.of(
+                Arrays.stream(EventType.values())
+                        .filter(type -> eventHandlers.stream().anyMatch(eventHandler -> supports(eventHandler, type)))
+                        .collect(Collectors.toSet())
+        );
+    }
+
+    // supports 는 이벤트 타입만 보므로, payload 가 없는 이벤트를 핸들러의 payload 타입으로 바꿔서 넘겨도 안전하다.
+    @SuppressWarnings("unchecked")
+    private static <T extends EventPayload> boolean supports(EventHandler<T> eventHandler, EventType type) {
+        return eventHandler.supports((Event<T>) Event.of(null, type, null));
+    }
+
+}
@@ -0,0 +1,41 @@
+package lipam.board.articleread.config;
+
+import lipam.board.articleread.repository.ArticleQueryModel;
+import lipam.board.common.dataserializer.DataCodecs;
+import lipam.board.common.dataserializer.DataRedisSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+@Configuration
+public class RedisConfig {
+
+    // Redis 값 저장 포맷 (application.yaml 의 article-read.redis.codec)
+    @Value("${article-read.redis.codec:json}")
+    private String codec;
+
+    // ArticleQueryModel 을 String 을 거치지 않고 바로 byte[] 로 읽고 쓰기 위한 RedisTemplate
+    // JSON 코덱이면 저장되는 값은 기존(StringRedisTemplate + DataSerializer.serialize())과 같은 JSON 이라서 기존 데이터도 그대로 읽힌다.
+    @Bean
+    public RedisTemplate<String, ArticleQueryModel> articleQueryModelRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, ArticleQueryModel> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(RedisSerializer.string());
+        redisTemplate.setValueSerializer(DataRedisSerializer.of(ArticleQueryModel.class, DataCodecs.of(codec)));
+        return redisTemplate;
+    }
+
+    // OptimizedCacheManager 에서 캐시 Wrapper(OptimizedCache)를 byte[] 그대로 읽고 쓰기 위한 RedisTemplate
+    @Bean
+    public RedisTemplate<String, byte[]> optimizedCacheRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(RedisSerializer.string());
+        redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+        return redisTemplate;
+    }
+
+}
@@ -2,8 +2,12 @@ package lipam.board.articleread.repository;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 // 페이지 번호 방식에서, 전체 게시글 개수도 같이 반환 해야하는데,
 // 매번 articleService 에 count 요청을 하면 비용이 크니까,
 // articleReadService 가 Redis 에 게시글 개수를 따로 저장해두고 읽어오도록 만든 저장소 클래스
@@ -16,15 +20,32 @@ public class BoardArticleCountRepository {
     // article-read::board-article-count::board::{boardId}
     private static final String KEY_FORMAT = "article-read::board-article-count::board::%s";
 
-    // 게시글 개수 저장(없으면 생성, 있으면 갱신)
-    public void createOrUpdate(Long boardId, Long articleCount) {
-        redisTemplate.opsForValue().set(generateKey(boardId), String.valueOf(articleCount));
+    // 키가 있을 때만 delta 를 더한다. 없는 키를 INCRBY 로 만들면 delta 만큼의 값으로 잘못 시작하므로,
+    // 없으면 그대로 두고 다음 조회가 count API 로 적재한다.
+    private static final RedisScript<Long> INCREASE_IF_PRESENT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 then return redis.call('incrby', KEYS[1], ARGV[1]) end return nil",
+            Long.class
+    );
+
+    // 게시글 개수 적재 (이미 있으면 덮어쓰지 않는다 -> count API 를 읽는 사이에 반영된 증감을 지우지 않도록)
+    public void createIfAbsent(Long boardId, Long articleCount) {
+        redisTemplate.opsForValue().setIfAbsent(generateKey(boardId), String.valueOf(articleCount));
+    }
+
+    // 게시글 생성 이벤트마다 +1
+    public void increase(Long boardId) {
+        redisTemplate.execute(INCREASE_IF_PRESENT_SCRIPT, List.of(generateKey(boardId)), "1");
+    }
+
+    // 게시글 삭제 이벤트마다 -1
+    public void decrease(Long boardId) {
+        redisTemplate.execute(INCREASE_IF_PRESENT_SCRIPT, List.of(generateKey(boardId)), "-1");
     }
 
-    // 게시글 개수 조회 (없으면 0 반환)
+    // 게시글 개수 조회 (없으면 null 반환 -> 호출하는 쪽에서 article 서비스의 count 로 다시 적재)
     public Long read(Long boardId) {
         String result = redisTemplate.opsForValue().get(generateKey(boardId));
-        return result == null ? 0L : Long.valueOf(result);
+        return result == null ? null : Long.valueOf(result);
     }
 
     private String generateKey(Long boardId) {
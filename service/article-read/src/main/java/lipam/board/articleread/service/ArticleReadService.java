@@ -18,6 +18,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -96,6 +97,27 @@ public class ArticleReadService {
         return articleQueryModelOptional;
     }
 
+    // Redis 에 없는 게시글들의 원본은 게시글마다 요청하지 않고, 한 번의 요청으로 가져와서 QueryModel 을 만든다.
+    private Map<Long, ArticleQueryModel> fetchAll(List<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, ArticleQueryModel> articleQueryModelMap = new HashMap<>();
+        for (ArticleClient.ArticleResponse article : articleClient.readAll(articleIds)) {
+            ArticleQueryModel articleQueryModel = ArticleQueryModel.create(
+                    article,
+                    commentClient.count(article.getArticleId()),
+                    likeClient.count(article.getArticleId())
+            );
+            articleQueryModelRepository.create(articleQueryModel, Duration.ofDays(1));
+            articleQueryModelMap.put(article.getArticleId(), articleQueryModel);
+        }
+        log.info("[ArticleReadService.fetchAll] fetch data. requested={}, fetched={}", articleIds.size(), articleQueryModelMap.size());
+
+        return articleQueryModelMap;
+    }
+
     // == 페이지 번호 방식 ==
     public ArticleReadPageResponse readAll(Long boardId, Long page, Long pageSize) {
         return ArticleReadPageResponse.of(
@@ -107,11 +129,13 @@ public class ArticleReadService {
     }
 
     private List<ArticleReadResponse> readAll(List<Long> articleIds) {
-        Map<Long, ArticleQueryModel> articleQueryModelMap = articleQueryModelRepository.readAll(articleIds);
+        Map<Long, ArticleQueryModel> articleQueryModelMap = new HashMap<>(articleQueryModelRepository.readAll(articleIds));
+        articleQueryModelMap.putAll(
+                fetchAll(articleIds.stream().filter(articleId -> !articleQueryModelMap.containsKey(articleId)).toList())
+        );
+
         return articleIds.stream()
-                .map(articleId -> articleQueryModelMap.containsKey(articleId) ?
-                        articleQueryModelMap.get(articleId) :
-                        fetch(articleId).orElse(null))
+                .map(articleQueryModelMap::get)
                 .filter(Objects::nonNull)
                 .map(articleQueryModel ->
                         ArticleReadResponse.from(
@@ -143,7 +167,7 @@ public class ArticleReadService {
 
         // Redis 에 데이터가 없는 상황
         long count = articleClient.count(boardId);
-        boardArticleCountRepository.createOrUpdate(boardId, count); // 적재
+        boardArticleCountRepository.createIfAbsent(boardId, count); // 적재 (그 사이 이벤트가 먼저 적재했으면 그 값을 유지)
         return count;
     }
     // == 페이지 번호 방식 끝 ==
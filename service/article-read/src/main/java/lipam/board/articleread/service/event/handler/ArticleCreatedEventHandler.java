@@ -32,7 +32,9 @@ public class ArticleCreatedEventHandler implements EventHandler<ArticleCreatedEv
                 Duration.ofDays(1)
         );
         articleIdListRepository.add(payload.getBoardId(), payload.getArticleId(), 1000L); // 게시판별 게시글 ID 목록(정렬/페이징용)을 Redis(ZSET)에 추가. Redis 에는 1000개만 저장
-        boardArticleCountRepository.createOrUpdate(payload.getBoardId(), payload.getBoardArticleCount()); // 게시판별 전체 게시글 수 캐시를 Redis 에 저장/갱신한다. (목록 조회 시 count API 호출을 줄이기 위한 용도)
+        // 게시판별 전체 게시글 수 캐시에 +1. (목록 조회 시 count API 호출을 줄이기 위한 용도)
+        // payload.boardArticleCount 로 덮어쓰면 이벤트가 도착하는 순서대로 덮어써서 늦게 도착한 쪽의 이전 값이 남을 수 있어, 증감만 반영한다.
+        boardArticleCountRepository.increase(payload.getBoardId());
 
         // 이 순서라면, 목록에는 생성되었지만 게시글 조회는 안되는 상황이 발생할 수도 있음
         /*
@@ -26,7 +26,7 @@ public class ArticleDeletedEventHandler implements EventHandler<ArticleDeletedEv
         // 순서 중요
         articleIdListRepository.delete(payload.getBoardId(), payload.getArticleId());
         articleQueryModelRepository.delete(payload.getArticleId());
-        boardArticleCountRepository.createOrUpdate(payload.getBoardId(), payload.getBoardArticleCount());
+        boardArticleCountRepository.decrease(payload.getBoardId());
 
         // 이 순서라면, 목록에는 있지만 게시글 조회는 안되는 상황이 일어날 수 있음
         /*
@@ -0,0 +1,50 @@
+package lipam.board.articleread.api;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 가상 스레드 모드(spring.threads.virtual.enabled) on/off 처리량 비교용 부하 테스트
+// 게시글 단건 조회는 Redis(Read Model) 조회 + 조회수 서비스(ViewClient, RestClient) 호출이 섞인 블로킹 I/O 경로이다.
+// 1. article-read 서비스를 enabled=false 로 띄우고 실행 → 결과 기록
+// 2. enabled=true 로 다시 띄우고 실행 → 결과 비교
+// 동시 요청 수가 Tomcat 요청 스레드 수(기본 최대 200)보다 크면, 플랫폼 스레드 모드에서는 요청이 스레드를 기다리며 대기열에 쌓인다.
+public class ArticleReadLoadTest {
+
+    RestClient restClient = RestClient.create("http://localhost:9005");
+
+    static final int CONCURRENCY = 2000; // 동시에 보내는 요청 수
+    static final int REQUEST_COUNT = 20000; // 전체 요청 수
+
+    @Test
+    void readLoadTest() {
+        AtomicInteger failCount = new AtomicInteger();
+
+        long start = System.nanoTime();
+        // 클라이언트 쪽이 병목이 되지 않도록, 요청마다 가상 스레드 하나를 사용한다.
+        try (ExecutorService executorService = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONCURRENCY; i++) {
+                executorService.submit(() -> {
+                    for (int j = 0; j < REQUEST_COUNT / CONCURRENCY; j++) {
+                        try {
+                            restClient.get()
+                                    .uri("/v1/articles/{articleId}", 286722288148418560L)
+                                    .retrieve()
+                                    .toBodilessEntity();
+                        } catch (Exception e) {
+                            failCount.incrementAndGet();
+                        }
+                    }
+                });
+            }
+        } // close() 에서 모든 요청이 끝날 때까지 기다린다.
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.printf("requests=%d, concurrency=%d, elapsed=%dms, throughput=%.1f req/s, failed=%d%n",
+                REQUEST_COUNT, CONCURRENCY, elapsedMillis, REQUEST_COUNT * 1000.0 / elapsedMillis, failCount.get());
+    }
+
+}
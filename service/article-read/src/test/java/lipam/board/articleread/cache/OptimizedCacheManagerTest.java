@@ -1,6 +1,5 @@
 package lipam.board.articleread.cache;
 
-import lipam.board.common.dataserializer.DataSerializer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -8,7 +7,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 
 import java.time.Duration;
@@ -26,7 +25,7 @@ class OptimizedCacheManagerTest {
     @InjectMocks
     OptimizedCacheManager optimizedCacheManager;
     @Mock
-    StringRedisTemplate stringRedisTemplate;
+    RedisTemplate<String, byte[]> redisTemplate;
     @Mock
     OptimizedCacheLockProvider optimizedCacheLockProvider;
     @Mock
@@ -34,7 +33,7 @@ class OptimizedCacheManagerTest {
 
     @BeforeEach
     void beforeEach() {
-        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
     }
 
     @Test
@@ -47,7 +46,7 @@ class OptimizedCacheManagerTest {
         Class<String> returnType = String.class;
         OptimizedCacheOriginDataSupplier<String> originDataSupplier = () -> "origin";
 
-        String cachedData = null;
+        byte[] cachedData = null;
         given(valueOperations.get("testType::1::param")).willReturn(cachedData);
 
         // when
@@ -55,7 +54,7 @@ class OptimizedCacheManagerTest {
 
         // then
         assertThat(result).isEqualTo(originDataSupplier.get());
-        verify(valueOperations).set(eq("testType::1::param"), anyString(), any(Duration.class));
+        verify(valueOperations).set(eq("testType::1::param"), any(byte[].class), any(Duration.class));
     }
 
     @Test
@@ -68,7 +67,7 @@ class OptimizedCacheManagerTest {
         Class<String> returnType = String.class;
         OptimizedCacheOriginDataSupplier<String> originDataSupplier = () -> "origin";
 
-        String cachedData = "{::invalid";
+        byte[] cachedData = "{::invalid".getBytes();
         given(valueOperations.get("testType::1::param")).willReturn(cachedData);
 
         // when
@@ -76,7 +75,7 @@ class OptimizedCacheManagerTest {
 
         // then
         assertThat(result).isEqualTo(originDataSupplier.get());
-        verify(valueOperations).set(eq("testType::1::param"), anyString(), any(Duration.class));
+        verify(valueOperations).set(eq("testType::1::param"), any(byte[].class), any(Duration.class));
     }
 
     @Test
@@ -90,7 +89,7 @@ class OptimizedCacheManagerTest {
         OptimizedCacheOriginDataSupplier<String> originDataSupplier = () -> "origin";
 
         OptimizedCache optimizedCache = OptimizedCache.of("cached", Duration.ofSeconds(ttlSeconds));
-        String cachedData = DataSerializer.serialize(optimizedCache);
+        byte[] cachedData = optimizedCache.toBytes();
         given(valueOperations.get("testType::1::param")).willReturn(cachedData);
 
         // when
@@ -98,7 +97,7 @@ class OptimizedCacheManagerTest {
 
         // then
         assertThat(result).isEqualTo("cached");
-        verify(valueOperations, never()).set(eq("testType::1::param"), anyString(), any(Duration.class));
+        verify(valueOperations, never()).set(eq("testType::1::param"), any(byte[].class), any(Duration.class));
     }
 
     @Test
@@ -112,7 +111,7 @@ class OptimizedCacheManagerTest {
         OptimizedCacheOriginDataSupplier<String> originDataSupplier = () -> "origin";
 
         OptimizedCache optimizedCache = OptimizedCache.of("cached", Duration.ofSeconds(-1));
-        String cachedData = DataSerializer.serialize(optimizedCache);
+        byte[] cachedData = optimizedCache.toBytes();
         given(valueOperations.get("testType::1::param")).willReturn(cachedData);
 
         given(optimizedCacheLockProvider.lock("testType::1::param")).willReturn(false);
@@ -122,7 +121,7 @@ class OptimizedCacheManagerTest {
 
         // then
         assertThat(result).isEqualTo("cached");
-        verify(valueOperations, never()).set(eq("testType::1::param"), anyString(), any(Duration.class));
+        verify(valueOperations, never()).set(eq("testType::1::param"), any(byte[].class), any(Duration.class));
     }
 
     @Test
@@ -136,7 +135,7 @@ class OptimizedCacheManagerTest {
         OptimizedCacheOriginDataSupplier<String> originDataSupplier = () -> "origin";
 
         OptimizedCache optimizedCache = OptimizedCache.of("cached", Duration.ofSeconds(-1));
-        String cachedData = DataSerializer.serialize(optimizedCache);
+        byte[] cachedData = optimizedCache.toBytes();
         given(valueOperations.get("testType::1::param")).willReturn(cachedData);
 
         given(optimizedCacheLockProvider.lock("testType::1::param")).willReturn(true);
@@ -146,7 +145,7 @@ class OptimizedCacheManagerTest {
 
         // then
         assertThat(result).isEqualTo("origin");
-        verify(valueOperations).set(eq("testType::1::param"), anyString(), any(Duration.class));
+        verify(valueOperations).set(eq("testType::1::param"), any(byte[].class), any(Duration.class));
     }
 
 }
\ No newline at end of file
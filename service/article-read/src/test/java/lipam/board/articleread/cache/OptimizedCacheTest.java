@@ -1,9 +1,12 @@
 package lipam.board.articleread.cache;
 
 import lombok.*;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.LocalDateTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -36,6 +39,41 @@ class OptimizedCacheTest {
         assertThat(OptimizedCache.of("data", Duration.ofDays(30)).isExpired()).isFalse();
     }
 
+    @Test
+    void bytesTest() {
+        // given
+        TestClass data = new TestClass("hihi");
+        OptimizedCache optimizedCache = OptimizedCache.of(data, Duration.ofSeconds(10));
+
+        // when
+        OptimizedCache resolved = OptimizedCache.fromBytes(optimizedCache.toBytes());
+
+        // then
+        assertThat(resolved.getExpireAtMillis()).isEqualTo(optimizedCache.getExpireAtMillis());
+        assertThat(resolved.isExpired()).isFalse();
+        assertThat(resolved.parseData(TestClass.class)).isEqualTo(data);
+    }
+
+    @Test
+    @DisplayName("예전 포맷(data 를 JSON 문자열로 한 번 더 감싼 Wrapper)도 읽을 수 있다")
+    void fromLegacyBytesTest() {
+        // given
+        String legacy = "{\"data\":\"{\\\"testData\\\":\\\"hihi\\\"}\",\"expireAt\":\"%s\"}"
+                .formatted(LocalDateTime.now().plusSeconds(10));
+
+        // when
+        OptimizedCache resolved = OptimizedCache.fromBytes(legacy.getBytes(StandardCharsets.UTF_8));
+
+        // then
+        assertThat(resolved.isExpired()).isFalse();
+        assertThat(resolved.parseData(TestClass.class)).isEqualTo(new TestClass("hihi"));
+    }
+
+    @Test
+    void fromInvalidBytesTest() {
+        assertThat(OptimizedCache.fromBytes("{::invalid".getBytes(StandardCharsets.UTF_8))).isNull();
+    }
+
     @Getter
     @ToString
     @EqualsAndHashCode
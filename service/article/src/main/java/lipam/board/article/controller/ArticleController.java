@@ -5,8 +5,12 @@ import lipam.board.article.service.request.ArticleCreateRequest;
 import lipam.board.article.service.request.ArticleUpdateRequest;
 import lipam.board.article.service.response.ArticlePageResponse;
 import lipam.board.article.service.response.ArticleResponse;
+import lipam.board.article.service.response.ArticleSummaryPageResponse;
+import lipam.board.article.service.response.ArticleSummaryResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 
@@ -21,6 +25,19 @@ public class ArticleController {
         return articleService.read(articleId);
     }
 
+    // 조회 서비스(article-read, hot-article)가 여러 게시글을 한 번에 가져갈 때 사용한다.
+    // in 절과 응답 크기가 요청에 따라 커지지 않도록, MAX_BATCH_SIZE 개를 넘는 요청은 400 으로 거절한다. (더 필요하면 나눠서 요청)
+    @GetMapping("/v1/articles/batch")
+    public List<ArticleResponse> readAll(@RequestParam("articleIds") List<Long> articleIds) {
+        if (articleIds.size() > ArticleService.MAX_BATCH_SIZE) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST,
+                    "articleIds size must be <= %s. size=%s".formatted(ArticleService.MAX_BATCH_SIZE, articleIds.size())
+            );
+        }
+        return articleService.readAll(articleIds);
+    }
+
     @GetMapping("/v1/articles")
     public ArticlePageResponse readAll(
             @RequestParam("boardId") Long boardId,
@@ -39,6 +56,27 @@ public class ArticleController {
         return articleService.readAllInfiniteScroll(boardId, pageSize, lastArticleId);
     }
 
+    // 게시글 목록 (본문 제외, previewLength 를 주면 본문 앞부분만 포함)
+    @GetMapping("/v1/articles/summaries")
+    public ArticleSummaryPageResponse readAllSummary(
+            @RequestParam("boardId") Long boardId,
+            @RequestParam("page") Long page,
+            @RequestParam("pageSize") Long pageSize,
+            @RequestParam(value = "previewLength", required = false) Long previewLength
+    ) {
+        return articleService.readAllSummary(boardId, page, pageSize, previewLength);
+    }
+
+    @GetMapping("/v1/articles/summaries/infinite-scroll")
+    public List<ArticleSummaryResponse> readAllSummaryInfiniteScroll(
+            @RequestParam("boardId") Long boardId,
+            @RequestParam("pageSize") Long pageSize,
+            @RequestParam(value = "lastArticleId", required = false) Long lastArticleId,
+            @RequestParam(value = "previewLength", required = false) Long previewLength
+    ) {
+        return articleService.readAllSummaryInfiniteScroll(boardId, pageSize, lastArticleId, previewLength);
+    }
+
     @PostMapping("/v1/articles")
     public ArticleResponse create(@RequestBody ArticleCreateRequest request) {
         return articleService.create(request);
@@ -0,0 +1,48 @@
+package lipam.board.article.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.io.Serializable;
+
+// 게시판의 article_id 오름차순 anchorNo * anchorSize 번째 게시글
+// (게시판에서 articleId 이하인 게시글이 정확히 anchorNo * anchorSize 개)
+@Table(name = "article_page_anchor")
+@Entity
+@IdClass(ArticlePageAnchor.ArticlePageAnchorId.class)
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArticlePageAnchor {
+
+    @Id
+    private Long boardId;
+    @Id
+    private Long anchorNo;
+    private Long articleId;
+
+    public static ArticlePageAnchor create(Long boardId, Long anchorNo, Long articleId) {
+        ArticlePageAnchor articlePageAnchor = new ArticlePageAnchor();
+        articlePageAnchor.boardId = boardId;
+        articlePageAnchor.anchorNo = anchorNo;
+        articlePageAnchor.articleId = articleId;
+
+        return articlePageAnchor;
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    public static class ArticlePageAnchorId implements Serializable {
+        private Long boardId;
+        private Long anchorNo;
+    }
+
+}
@@ -2,14 +2,21 @@ package lipam.board.article.entity;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 
+import java.io.Serializable;
+
+// 게시판의 게시글 수를 slot 여러 개로 나눠서 저장한다. (게시판의 게시글 수 = 모든 slot 의 합)
+// 게시글 생성/삭제는 임의의 slot 하나만 갱신하므로, 같은 게시판에 쓰는 트랜잭션들이 한 row 의 락을 기다리지 않는다.
 @Table(name = "board_article_count")
 @Entity
+@IdClass(BoardArticleCount.BoardArticleCountId.class)
 @Getter
 @ToString
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -17,14 +24,16 @@ public class BoardArticleCount {
 
     @Id
     private Long boardId;
+    @Id
+    private Long slot;
     private Long articleCount;
 
-    public static BoardArticleCount init(Long boardId, Long articleCount) {
-        BoardArticleCount boardArticleCount = new BoardArticleCount();
-        boardArticleCount.boardId = boardId;
-        boardArticleCount.articleCount = articleCount;
-
-        return boardArticleCount;
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    public static class BoardArticleCountId implements Serializable {
+        private Long boardId;
+        private Long slot;
     }
 
 }
@@ -0,0 +1,134 @@
+package lipam.board.article.repository;
+
+import lipam.board.article.entity.ArticlePageAnchor;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ArticlePageAnchorRepository extends JpaRepository<ArticlePageAnchor, ArticlePageAnchor.ArticlePageAnchorId> {
+
+    @Query(
+            value = "select article_id from article_page_anchor " +
+                    "where board_id = :boardId and anchor_no = :anchorNo",
+            nativeQuery = true
+    )
+    Long findArticleId(@Param("boardId") Long boardId, @Param("anchorNo") Long anchorNo);
+
+    @Query(
+            value = "select * from article_page_anchor " +
+                    "where board_id = :boardId " +
+                    "order by anchor_no desc limit 1",
+            nativeQuery = true
+    )
+    ArticlePageAnchor findLast(@Param("boardId") Long boardId);
+
+    // 마지막 anchor 를 최신 커밋 기준으로 읽는다. (guard 를 잡은 뒤 다음 anchor 를 구할 때 사용)
+    @Query(
+            value = "select * from article_page_anchor " +
+                    "where board_id = :boardId " +
+                    "order by anchor_no desc limit 1 " +
+                    "for share",
+            nativeQuery = true
+    )
+    ArticlePageAnchor findLastLocked(@Param("boardId") Long boardId);
+
+    // anchor 추가를 게시판마다 한 트랜잭션씩만 하도록 잡는 guard row (anchor_no = 0, article_id = 0)
+    // anchor 번호는 1부터 시작하고 게시글 ID 는 0 보다 크므로, 조회/이동 쿼리에는 걸리지 않는다.
+    @Query(
+            value = "select count(*) from article_page_anchor where board_id = :boardId and anchor_no = 0",
+            nativeQuery = true
+    )
+    Long countGuard(@Param("boardId") Long boardId);
+
+    @Query(
+            value = "insert ignore into article_page_anchor (board_id, anchor_no, article_id) values (:boardId, 0, 0)",
+            nativeQuery = true
+    )
+    @Modifying
+    int createGuard(@Param("boardId") Long boardId);
+
+    // guard 를 잠근다. 다른 트랜잭션이 잡고 있으면 기다리지 않고 null
+    @Query(
+            value = "select anchor_no from article_page_anchor " +
+                    "where board_id = :boardId and anchor_no = 0 " +
+                    "for update skip locked",
+            nativeQuery = true
+    )
+    Long lockGuard(@Param("boardId") Long boardId);
+
+    // guard 를 잠근다. 다른 트랜잭션이 잡고 있으면 끝날 때까지 기다린다. (다른 잠금 없이 시작하는 ArticlePageAnchorRepairer 에서만 사용)
+    @Query(
+            value = "select anchor_no from article_page_anchor " +
+                    "where board_id = :boardId and anchor_no = 0 " +
+                    "for update",
+            nativeQuery = true
+    )
+    Long lockGuardWait(@Param("boardId") Long boardId);
+
+    // articleId 이상인 게시글을 가리키는 첫 anchor 의 번호 (anchor 는 article_id 오름차순이므로 이후 anchor 는 모두 옮겨야 한다.)
+    @Query(
+            value = "select anchor_no from article_page_anchor " +
+                    "where board_id = :boardId and article_id >= :articleId and anchor_no > 0 " +
+                    "order by article_id asc limit 1",
+            nativeQuery = true
+    )
+    Long findFirstAnchorNoFrom(@Param("boardId") Long boardId, @Param("articleId") Long articleId);
+
+    @Query(
+            value = "insert into article_page_anchor (board_id, anchor_no, article_id) " +
+                    "values (:boardId, :anchorNo, :articleId) " +
+                    "on duplicate key update article_id = :articleId",
+            nativeQuery = true
+    )
+    @Modifying
+    int upsert(@Param("boardId") Long boardId, @Param("anchorNo") Long anchorNo, @Param("articleId") Long articleId);
+
+    // articleId 보다 작은 게시글이 추가되면, 그보다 뒤의 anchor 는 순위가 하나씩 밀리므로 바로 앞 게시글로 옮긴다.
+    // (새 게시글이 서브쿼리에 보이도록 먼저 flush 한다.)
+    @Query(
+            value = "update article_page_anchor " +
+                    "set article_id = (" +
+                    "   select max(article.article_id) from article " +
+                    "   where article.board_id = :boardId and article.article_id < article_page_anchor.article_id " +
+                    ") " +
+                    "where board_id = :boardId and article_id > :articleId",
+            nativeQuery = true
+    )
+    @Modifying(flushAutomatically = true)
+    int shiftToPrevious(@Param("boardId") Long boardId, @Param("articleId") Long articleId);
+
+    // articleId 가 삭제되면, 그 이후의 anchor 는 순위가 하나씩 당겨지므로 바로 다음 게시글로 옮긴다.
+    // 다음 게시글이 없는 마지막 anchor 는 null 이 되고, deleteEmpty 로 지운다.
+    // 옮기는 anchor 마다 서브쿼리가 한 번씩 실행되므로, 옮길 anchor 가 많으면 호출하지 않는다. (ArticlePageAnchorIndex.onDeleted 참고)
+    @Query(
+            value = "update article_page_anchor " +
+                    "set article_id = (" +
+                    "   select min(article.article_id) from article " +
+                    "   where article.board_id = :boardId and article.article_id > article_page_anchor.article_id " +
+                    ") " +
+                    "where board_id = :boardId and article_id >= :articleId",
+            nativeQuery = true
+    )
+    @Modifying
+    int shiftToNext(@Param("boardId") Long boardId, @Param("articleId") Long articleId);
+
+    @Query(
+            value = "delete from article_page_anchor " +
+                    "where board_id = :boardId and article_id is null",
+            nativeQuery = true
+    )
+    @Modifying
+    int deleteEmpty(@Param("boardId") Long boardId);
+
+    @Query(
+            value = "delete from article_page_anchor " +
+                    "where board_id = :boardId and anchor_no > :anchorNo",
+            nativeQuery = true
+    )
+    @Modifying
+    int deleteAfter(@Param("boardId") Long boardId, @Param("anchorNo") Long anchorNo);
+
+}
@@ -1,11 +1,13 @@
 package lipam.board.article.repository;
 
 import lipam.board.article.entity.Article;
+import lipam.board.common.snowflake.SnowflakeId;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 
 @Repository
@@ -28,6 +30,72 @@ public interface ArticleRepository extends JpaRepository<Article, Long> {
             @Param("limit") Long limit
     );
 
+    // anchor(articleId 이하의 게시글) 부터 내림차순으로 offset 만큼 건너뛴다.
+    // offset 은 anchor 간격보다 작으므로, 깊은 페이지도 인덱스를 offset 전체만큼 읽지 않는다.
+    @Query(
+            value = "select article.article_id, article.title, article.content, article.board_id, article.writer_id, article.created_at, article.modified_at " +
+                    "from (" +
+                    "   select article_id " +
+                    "   from article " +
+                    "   where board_id = :boardId and article_id <= :anchorArticleId " +
+                    "   order by article_id desc " +
+                    "   limit :limit offset :offset " +
+                    ") t left join article on t.article_id = article.article_id ",
+            nativeQuery = true
+    )
+    List<Article> findAllFromAnchor(
+            @Param("boardId") Long boardId,
+            @Param("anchorArticleId") Long anchorArticleId,
+            @Param("offset") Long offset,
+            @Param("limit") Long limit
+    );
+
+    // lastArticleId 다음부터 오름차순으로 offset 번째 게시글 (anchor 재구성용)
+    @Query(
+            value = "select article_id " +
+                    "from article " +
+                    "where board_id = :boardId and article_id > :lastArticleId " +
+                    "order by article_id asc limit 1 offset :offset",
+            nativeQuery = true
+    )
+    Long findArticleIdAfter(
+            @Param("boardId") Long boardId,
+            @Param("lastArticleId") Long lastArticleId,
+            @Param("offset") Long offset
+    );
+
+    // findArticleIdAfter 의 잠금 조회 (anchor 추가용)
+    // 최신 커밋 기준으로 읽고, 읽은 범위에 커밋되지 않은 게시글이 있으면 그 트랜잭션이 끝날 때까지 기다린다.
+    // 읽은 범위에는 이 트랜잭션이 끝날 때까지 다른 게시글이 추가/삭제되지 않는다.
+    @Query(
+            value = "select article_id " +
+                    "from article " +
+                    "where board_id = :boardId and article_id > :lastArticleId " +
+                    "order by article_id asc limit 1 offset :offset " +
+                    "for share",
+            nativeQuery = true
+    )
+    Long findArticleIdAfterLocked(
+            @Param("boardId") Long boardId,
+            @Param("lastArticleId") Long lastArticleId,
+            @Param("offset") Long offset
+    );
+
+    @Query(
+            value = "select max(article_id) from article where board_id = :boardId",
+            nativeQuery = true
+    )
+    Long findLastArticleId(@Param("boardId") Long boardId);
+
+    @Query(
+            value = "select count(*) " +
+                    "from ( " +
+                    "   select article_id from article where board_id = :boardId and article_id > :lastArticleId limit :limit " +
+                    ") t",
+            nativeQuery = true
+    )
+    Long countAfter(@Param("boardId") Long boardId, @Param("lastArticleId") Long lastArticleId, @Param("limit") Long limit);
+
     @Query(
             value = "select count(*) " +
                     "from ( " +
@@ -55,4 +123,173 @@ public interface ArticleRepository extends JpaRepository<Article, Long> {
     )
     List<Article> findAllInfiniteScroll(@Param("boardId") Long boardId, @Param("limit") Long limit, @Param("lastArticleId") Long lastArticleId);
 
+    // == 목록 조회 (content 없이 ArticleSummary 로 조회) ==
+    // 쿼리에 content 를 아예 적지 않아서, 긴 본문이 off-page 에 저장된 경우에도 그 페이지를 읽지 않는다.
+    @Query(
+            value = "select article.article_id as articleId, article.title as title, " +
+                    "null as preview, " +
+                    "article.board_id as boardId, article.writer_id as writerId, article.created_at as createdAt, article.modified_at as modifiedAt " +
+                    "from (" +
+                    "   select article_id " +
+                    "   from article " +
+                    "   where board_id = :boardId " +
+                    "   order by article_id desc " +
+                    "   limit :limit offset :offset " +
+                    ") t left join article on t.article_id = article.article_id ",
+            nativeQuery = true
+    )
+    List<ArticleSummary> findAllSummary(
+            @Param("boardId") Long boardId,
+            @Param("offset") Long offset,
+            @Param("limit") Long limit
+    );
+
+    @Query(
+            value = "select article.article_id as articleId, article.title as title, " +
+                    "null as preview, " +
+                    "article.board_id as boardId, article.writer_id as writerId, article.created_at as createdAt, article.modified_at as modifiedAt " +
+                    "from (" +
+                    "   select article_id " +
+                    "   from article " +
+                    "   where board_id = :boardId and article_id <= :anchorArticleId " +
+                    "   order by article_id desc " +
+                    "   limit :limit offset :offset " +
+                    ") t left join article on t.article_id = article.article_id ",
+            nativeQuery = true
+    )
+    List<ArticleSummary> findAllSummaryFromAnchor(
+            @Param("boardId") Long boardId,
+            @Param("anchorArticleId") Long anchorArticleId,
+            @Param("offset") Long offset,
+            @Param("limit") Long limit
+    );
+
+    @Query(
+            value = "select article.article_id as articleId, article.title as title, " +
+                    "null as preview, " +
+                    "article.board_id as boardId, article.writer_id as writerId, article.created_at as createdAt, article.modified_at as modifiedAt " +
+                    "from article " +
+                    "where board_id = :boardId " +
+                    "order by article_id desc limit :limit",
+            nativeQuery = true
+    )
+    List<ArticleSummary> findAllSummaryInfiniteScroll(
+            @Param("boardId") Long boardId,
+            @Param("limit") Long limit
+    );
+
+    @Query(
+            value = "select article.article_id as articleId, article.title as title, " +
+                    "null as preview, " +
+                    "article.board_id as boardId, article.writer_id as writerId, article.created_at as createdAt, article.modified_at as modifiedAt " +
+                    "from article " +
+                    "where board_id = :boardId and article_id < :lastArticleId " +
+                    "order by article_id desc limit :limit",
+            nativeQuery = true
+    )
+    List<ArticleSummary> findAllSummaryInfiniteScroll(
+            @Param("boardId") Long boardId,
+            @Param("limit") Long limit,
+            @Param("lastArticleId") Long lastArticleId
+    );
+
+    // 미리보기를 요청한 경우에만 쓰는 쿼리. content 의 앞 previewLength 글자만 잘라서 읽는다.
+    @Query(
+            value = "select article.article_id as articleId, article.title as title, " +
+                    "left(article.content, :previewLength) as preview, " +
+                    "article.board_id as boardId, article.writer_id as writerId, article.created_at as createdAt, article.modified_at as modifiedAt " +
+                    "from (" +
+                    "   select article_id " +
+                    "   from article " +
+                    "   where board_id = :boardId " +
+                    "   order by article_id desc " +
+                    "   limit :limit offset :offset " +
+                    ") t left join article on t.article_id = article.article_id ",
+            nativeQuery = true
+    )
+    List<ArticleSummary> findAllSummaryWithPreview(
+            @Param("boardId") Long boardId,
+            @Param("offset") Long offset,
+            @Param("limit") Long limit,
+            @Param("previewLength") Long previewLength
+    );
+
+    @Query(
+            value = "select article.article_id as articleId, article.title as title, " +
+                    "left(article.content, :previewLength) as preview, " +
+                    "article.board_id as boardId, article.writer_id as writerId, article.created_at as createdAt, article.modified_at as modifiedAt " +
+                    "from (" +
+                    "   select article_id " +
+                    "   from article " +
+                    "   where board_id = :boardId and article_id <= :anchorArticleId " +
+                    "   order by article_id desc " +
+                    "   limit :limit offset :offset " +
+                    ") t left join article on t.article_id = article.article_id ",
+            nativeQuery = true
+    )
+    List<ArticleSummary> findAllSummaryFromAnchorWithPreview(
+            @Param("boardId") Long boardId,
+            @Param("anchorArticleId") Long anchorArticleId,
+            @Param("offset") Long offset,
+            @Param("limit") Long limit,
+            @Param("previewLength") Long previewLength
+    );
+
+    @Query(
+            value = "select article.article_id as articleId, article.title as title, " +
+                    "left(article.content, :previewLength) as preview, " +
+                    "article.board_id as boardId, article.writer_id as writerId, article.created_at as createdAt, article.modified_at as modifiedAt " +
+                    "from article " +
+                    "where board_id = :boardId " +
+                    "order by article_id desc limit :limit",
+            nativeQuery = true
+    )
+    List<ArticleSummary> findAllSummaryInfiniteScrollWithPreview(
+            @Param("boardId") Long boardId,
+            @Param("limit") Long limit,
+            @Param("previewLength") Long previewLength
+    );
+
+    @Query(
+            value = "select article.article_id as articleId, article.title as title, " +
+                    "left(article.content, :previewLength) as preview, " +
+                    "article.board_id as boardId, article.writer_id as writerId, article.created_at as createdAt, article.modified_at as modifiedAt " +
+                    "from article " +
+                    "where board_id = :boardId and article_id < :lastArticleId " +
+                    "order by article_id desc limit :limit",
+            nativeQuery = true
+    )
+    List<ArticleSummary> findAllSummaryInfiniteScrollWithPreview(
+            @Param("boardId") Long boardId,
+            @Param("limit") Long limit,
+            @Param("lastArticleId") Long lastArticleId,
+            @Param("previewLength") Long previewLength
+    );
+    // == 목록 조회 끝 ==
+
+    @Query(
+            value = "select article.article_id, article.title, article.content, article.board_id, article.writer_id, article.created_at, article.modified_at " +
+                    "from article " +
+                    "where board_id = :boardId and article_id between :fromArticleId and :toArticleId " +
+                    "order by article_id desc limit :limit",
+            nativeQuery = true
+    )
+    List<Article> findAllByArticleIdBetween(
+            @Param("boardId") Long boardId,
+            @Param("fromArticleId") Long fromArticleId,
+            @Param("toArticleId") Long toArticleId,
+            @Param("limit") Long limit
+    );
+
+    // article_id 는 Snowflake ID 이므로 생성 시각 구간 [from, to) 을 article_id 범위로 바꿔서 조회할 수 있다.
+    // created_at 인덱스 없이 (board_id, article_id) 인덱스만으로 범위 조회가 된다.
+    default List<Article> findAllCreatedBetween(Long boardId, Instant from, Instant to, Long limit) {
+        return findAllByArticleIdBetween(
+                boardId,
+                SnowflakeId.minIdAt(from),
+                SnowflakeId.maxIdAt(to.minusMillis(1)),
+                limit
+        );
+    }
+
 }
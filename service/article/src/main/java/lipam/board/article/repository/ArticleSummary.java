@@ -0,0 +1,23 @@
+package lipam.board.article.repository;
+
+import java.time.LocalDateTime;
+
+// 게시글 목록 조회용 projection (content 컬럼은 읽지 않는다.)
+// preview 는 미리보기를 요청했을 때만 content 의 앞부분이 채워지고, 아니면 null 이다.
+public interface ArticleSummary {
+
+    Long getArticleId();
+
+    String getTitle();
+
+    String getPreview();
+
+    Long getBoardId();
+
+    Long getWriterId();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getModifiedAt();
+
+}
@@ -1,36 +1,73 @@
 package lipam.board.article.repository;
 
+import jakarta.persistence.LockModeType;
 import lipam.board.article.entity.BoardArticleCount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
-public interface BoardArticleCountRepository extends JpaRepository<BoardArticleCount, Long> {
+public interface BoardArticleCountRepository extends JpaRepository<BoardArticleCount, BoardArticleCount.BoardArticleCountId> {
+
+    // 게시판의 모든 slot 을 잠근다. (게시글 수를 다시 계산하는 동안 게시글 생성/삭제를 막기 위해)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<BoardArticleCount> findLockedByBoardId(Long boardId);
 
+    // slot row 가 없으면 만들고, 있으면 1 증가시킨다.
     @Query(
-            value = "update board_article_count " +
-                    "set article_count = article_count + 1 " +
-                    "where board_id = :boardId",
+            value = "insert into board_article_count (board_id, slot, article_count) " +
+                    "values (:boardId, :slot, 1) " +
+                    "on duplicate key update article_count = article_count + 1",
             nativeQuery = true
     )
     @Modifying
-        // update query 실행 시 필요함
     int increase(
-            @Param("boardId") Long boardId
+            @Param("boardId") Long boardId,
+            @Param("slot") Long slot
     );
 
+    // slot 별 값은 음수가 될 수 있지만, 모든 slot 의 합은 게시글 수와 같다.
     @Query(
-            value = "update board_article_count " +
-                    "set article_count = article_count - 1 " +
-                    "where board_id = :boardId",
+            value = "insert into board_article_count (board_id, slot, article_count) " +
+                    "values (:boardId, :slot, -1) " +
+                    "on duplicate key update article_count = article_count - 1",
             nativeQuery = true
     )
     @Modifying
     int decrease(
-            @Param("boardId") Long boardId
+            @Param("boardId") Long boardId,
+            @Param("slot") Long slot
     );
 
+    @Query(
+            value = "select coalesce(sum(article_count), 0) from board_article_count where board_id = :boardId",
+            nativeQuery = true
+    )
+    Long sum(@Param("boardId") Long boardId);
+
+    @Query(
+            value = "insert into board_article_count (board_id, slot, article_count) " +
+                    "values (:boardId, :slot, :articleCount) " +
+                    "on duplicate key update article_count = :articleCount",
+            nativeQuery = true
+    )
+    @Modifying
+    int set(
+            @Param("boardId") Long boardId,
+            @Param("slot") Long slot,
+            @Param("articleCount") Long articleCount
+    );
+
+    @Query(
+            value = "delete from board_article_count where board_id = :boardId",
+            nativeQuery = true
+    )
+    @Modifying
+    int deleteAll(@Param("boardId") Long boardId);
+
 }
@@ -0,0 +1,187 @@
+package lipam.board.article.service;
+
+import lipam.board.article.entity.Article;
+import lipam.board.article.entity.ArticlePageAnchor;
+import lipam.board.article.repository.ArticlePageAnchorRepository;
+import lipam.board.article.repository.ArticleRepository;
+import lipam.board.article.repository.ArticleSummary;
+import lipam.board.article.shard.ShardRouted;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+// 페이지 번호 방식 목록 조회의 offset 을 줄이기 위한 게시판별 anchor 인덱스
+// article_id 오름차순으로 anchorSize 번째마다 게시글 ID 를 article_page_anchor 에 저장해 두고,
+// 깊은 페이지는 가장 가까운 anchor 부터 (anchorSize 미만의) 작은 offset 만 건너뛰어 조회한다.
+// 오름차순 기준이므로 최신 게시글이 추가되어도 기존 anchor 는 그대로이고, anchorSize 개마다 anchor 가 하나 늘어난다.
+// 게시글 수(BoardArticleCounter)로 페이지 첫 게시글의 순위를 구하므로, 게시글 수가 실제와 다르면 rebuild 로 함께 맞춘다.
+// anchor 이동(shiftToPrevious/shiftToNext)은 article 테이블을 기준으로 anchor row 락만 잡고,
+// 다음 anchor 추가는 게시판마다 guard row(anchor_no = 0)를 잡은 트랜잭션 하나만 한다. (appendNext 참고)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticlePageAnchorIndex {
+
+    private final ArticleRepository articleRepository;
+    private final ArticlePageAnchorRepository articlePageAnchorRepository;
+    private final BoardArticleCounter boardArticleCounter;
+
+    private final ArticlePageAnchorRepairer articlePageAnchorRepairer;
+
+    @Value("${article.page-anchor.size:1000}")
+    private long anchorSize; // 0 이하이면 anchor 를 사용하지 않는다.
+
+    @Value("${article.page-anchor.max-shift:100}")
+    private long maxShift; // 게시글 삭제 트랜잭션 안에서 옮기는 anchor 의 최대 개수
+
+    public List<Article> findAll(Long boardId, Long offset, Long limit) {
+        PageSeek seek = seek(boardId, offset);
+        if (seek == null) { // anchor 를 쓸 수 없으면 기존 offset 방식으로 조회한다.
+            return articleRepository.findAll(boardId, offset, limit);
+        }
+        return articleRepository.findAllFromAnchor(boardId, seek.anchorArticleId, seek.offset, limit);
+    }
+
+    // previewLength 가 0 이면 content 를 적지 않은 쿼리로 조회한다.
+    public List<ArticleSummary> findAllSummary(Long boardId, Long offset, Long limit, Long previewLength) {
+        PageSeek seek = seek(boardId, offset);
+        if (seek == null) {
+            return previewLength > 0 ?
+                    articleRepository.findAllSummaryWithPreview(boardId, offset, limit, previewLength) :
+                    articleRepository.findAllSummary(boardId, offset, limit);
+        }
+        return previewLength > 0 ?
+                articleRepository.findAllSummaryFromAnchorWithPreview(boardId, seek.anchorArticleId, seek.offset, limit, previewLength) :
+                articleRepository.findAllSummaryFromAnchor(boardId, seek.anchorArticleId, seek.offset, limit);
+    }
+
+    // 내림차순 offset 을 (가장 가까운 anchor, anchor 로부터의 offset) 으로 바꾼다.
+    // offset 이 anchor 간격보다 작거나, 해당 anchor 가 아직 없는 게시판이면 null
+    private PageSeek seek(Long boardId, Long offset) {
+        if (anchorSize <= 0 || offset < anchorSize) {
+            return null;
+        }
+
+        // 페이지 첫 게시글의 오름차순 순위(1부터)와, 그 순위 이상인 가장 가까운 anchor
+        long rank = boardArticleCounter.count(boardId) - offset;
+        if (rank <= 0) {
+            return null;
+        }
+        long anchorNo = (rank + anchorSize - 1) / anchorSize;
+        Long anchorArticleId = articlePageAnchorRepository.findArticleId(boardId, anchorNo);
+        if (anchorArticleId == null) {
+            return null;
+        }
+
+        return new PageSeek(anchorArticleId, anchorNo * anchorSize - rank);
+    }
+
+    // 게시글 생성 트랜잭션 안에서, 게시글 수를 증가시킨 뒤에 호출한다.
+    public void onCreated(Long boardId, Long articleId, Long articleCount) {
+        if (anchorSize <= 0) {
+            return;
+        }
+
+        // 보통은 마지막 anchor 보다 큰 ID 가 추가되므로 옮길 anchor 가 없다.
+        // 그때도 shiftToPrevious 를 실행하면 게시판의 anchor 끝 구간에 next-key 락을 잡아서, appendNext 의 upsert 가 모든 생성 트랜잭션을 기다리게 되므로
+        // 마지막 anchor 보다 작은 ID 가 추가된 경우에만 옮긴다.
+        ArticlePageAnchor lastAnchor = articlePageAnchorRepository.findLast(boardId);
+        if (lastAnchor != null && articleId < lastAnchor.getArticleId()) {
+            articlePageAnchorRepository.shiftToPrevious(boardId, articleId);
+        }
+
+        // 마지막 anchor 이후의 게시글이 anchorSize 개가 되면, 그 anchorSize 번째 게시글을 다음 anchor 로 추가한다.
+        // 게시글 수(스냅샷)는 확인이 필요한 시점을 거르는 데에만 쓰고, 실제 anchor 는 article 테이블에서 찾는다.
+        long lastAnchorNo = lastAnchor == null ? 0L : lastAnchor.getAnchorNo();
+        if (articleCount < (lastAnchorNo + 1) * anchorSize) {
+            return;
+        }
+
+        appendNext(boardId);
+    }
+
+    // 다음 anchor 를 추가한다.
+    // 스냅샷 조회로 구하면 동시에 생성 중인 다른 게시글이 보이지 않아서, 두 트랜잭션이 서로 다른 anchor 를 덮어쓸 수 있다.
+    // 그래서 guard row 를 잠근 트랜잭션만, 잠금 조회(최신 커밋 기준, 커밋되지 않은 게시글은 끝날 때까지 대기)로 anchor 를 구한다.
+    // guard 를 다른 트랜잭션이 잡고 있으면 기다리지 않고 넘어간다. (그 트랜잭션이 추가하거나, 다음 게시글 생성 때 추가된다.)
+    // guard 를 잡은 트랜잭션이 이 트랜잭션이 추가한 게시글의 커밋을 기다리고 있을 수 있으므로, 여기서 기다리면 교착 상태가 된다.
+    private void appendNext(Long boardId) {
+        if (articlePageAnchorRepository.countGuard(boardId) == 0) {
+            articlePageAnchorRepository.createGuard(boardId);
+        }
+        if (articlePageAnchorRepository.lockGuard(boardId) == null) {
+            return;
+        }
+
+        ArticlePageAnchor lastAnchor = articlePageAnchorRepository.findLastLocked(boardId); // anchor 가 없으면 guard (0번, 게시글 ID 0)
+        Long nextAnchorArticleId = articleRepository.findArticleIdAfterLocked(boardId, lastAnchor.getArticleId(), anchorSize - 1);
+        if (nextAnchorArticleId != null) {
+            articlePageAnchorRepository.upsert(boardId, lastAnchor.getAnchorNo() + 1, nextAnchorArticleId);
+        }
+    }
+
+    // 게시글 삭제 트랜잭션 안에서 호출한다.
+    // 오래된 게시글일수록 옮겨야 하는 anchor 가 많아진다. (삭제된 게시글 이후의 anchor 수만큼, anchor 마다 서브쿼리 한 번과 row 갱신 한 번)
+    // 게시글 1,200만 개인 게시판에서 첫 게시글을 지우면 12,000 개를 옮겨야 하므로,
+    // maxShift 개를 넘으면 옮기지 않고 그 이후 anchor 를 잘라낸 뒤, 커밋 후에 ArticlePageAnchorRepairer 가 다시 채운다.
+    public void onDeleted(Long boardId, Long articleId) {
+        if (anchorSize <= 0) {
+            return;
+        }
+
+        Long firstAnchorNo = articlePageAnchorRepository.findFirstAnchorNoFrom(boardId, articleId);
+        if (firstAnchorNo == null) { // 마지막 anchor 이후의 게시글
+            return;
+        }
+
+        ArticlePageAnchor lastAnchor = articlePageAnchorRepository.findLast(boardId);
+        if (lastAnchor.getAnchorNo() - firstAnchorNo + 1 <= maxShift) {
+            articlePageAnchorRepository.shiftToNext(boardId, articleId);
+            articlePageAnchorRepository.deleteEmpty(boardId);
+            return;
+        }
+
+        articlePageAnchorRepository.deleteAfter(boardId, firstAnchorNo - 1);
+        articlePageAnchorRepairer.repairAfterCommit(boardId);
+    }
+
+    // 게시판의 anchor 와 게시글 수를 처음부터 다시 만든다. (기존 데이터에 처음 적용하거나, 게시글 수가 어긋났을 때)
+    // 재구성하는 동안 게시판의 게시글 수 slot 들을 잠가서 게시글 생성/삭제를 막는다.
+    @Transactional
+    @ShardRouted(boardId = "#boardId")
+    public long rebuild(Long boardId) {
+        if (anchorSize <= 0) {
+            return boardArticleCounter.count(boardId);
+        }
+
+        boardArticleCounter.lock(boardId);
+        articlePageAnchorRepository.deleteAfter(boardId, 0L);
+        articlePageAnchorRepository.createGuard(boardId);
+
+        long anchorNo = 0;
+        Long lastArticleId = 0L;
+        Long articleId;
+        while ((articleId = articleRepository.findArticleIdAfter(boardId, lastArticleId, anchorSize - 1)) != null) {
+            articlePageAnchorRepository.save(ArticlePageAnchor.create(boardId, ++anchorNo, articleId));
+            lastArticleId = articleId;
+        }
+
+        long articleCount = anchorNo * anchorSize + articleRepository.countAfter(boardId, lastArticleId, anchorSize);
+        boardArticleCounter.reset(boardId, articleCount);
+        log.info("[ArticlePageAnchorIndex.rebuild] boardId={}, anchorCount={}, articleCount={}", boardId, anchorNo, articleCount);
+        return articleCount;
+    }
+
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    private static class PageSeek {
+        private final Long anchorArticleId;
+        private final Long offset;
+    }
+
+}
@@ -0,0 +1,108 @@
+package lipam.board.article.service;
+
+import jakarta.annotation.PreDestroy;
+import lipam.board.article.entity.ArticlePageAnchor;
+import lipam.board.article.repository.ArticlePageAnchorRepository;
+import lipam.board.article.repository.ArticleRepository;
+import lipam.board.article.shard.ArticleShardRouter;
+import lipam.board.article.shard.ShardContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 오래된 게시글이 삭제되어 잘라낸 anchor 를 삭제 트랜잭션 밖에서 다시 채운다. (ArticlePageAnchorIndex.onDeleted 참고)
+// 마지막으로 남은 anchor 부터 anchorSize 번째 게시글을 차례로 찾아 추가하고,
+// 한 트랜잭션에서는 repair-chunk-size 개까지만 추가해서 guard 와 article 잠금을 짧게 잡는다.
+// 채우는 동안 anchor 가 없는 깊은 페이지는 offset 방식으로 조회된다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticlePageAnchorRepairer {
+
+    private final ArticleRepository articleRepository;
+    private final ArticlePageAnchorRepository articlePageAnchorRepository;
+    private final ArticleShardRouter articleShardRouter;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("page-anchor-repair-").factory());
+    private final Set<Long> pendingBoardIds = ConcurrentHashMap.newKeySet(); // 이미 작업이 제출된 게시판
+
+    @Value("${article.page-anchor.size:1000}")
+    private long anchorSize;
+
+    @Value("${article.page-anchor.repair-chunk-size:100}")
+    private int repairChunkSize;
+
+    // 현재 트랜잭션이 커밋된 뒤에 게시판의 anchor 를 채운다. (잘라낸 것이 커밋되기 전에 채우면 그대로 지워진다.)
+    public void repairAfterCommit(Long boardId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(boardId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(boardId);
+            }
+        });
+    }
+
+    private void submit(Long boardId) {
+        if (!pendingBoardIds.add(boardId)) {
+            return;
+        }
+        executor.execute(() -> {
+            pendingBoardIds.remove(boardId);
+            try {
+                ShardContext.run(articleShardRouter.shardOfBoard(boardId), () -> {
+                    int anchorCount = 0;
+                    int appended;
+                    while ((appended = transactionTemplate.execute(status -> repairChunk(boardId))) > 0) {
+                        anchorCount += appended;
+                    }
+                    log.info("[ArticlePageAnchorRepairer.repair] boardId={}, anchorCount={}", boardId, anchorCount);
+                });
+            } catch (Exception e) {
+                log.error("[ArticlePageAnchorRepairer.repair] boardId={}", boardId, e);
+            }
+        });
+    }
+
+    // 마지막 anchor 다음부터 최대 repairChunkSize 개의 anchor 를 추가하고, 추가한 개수를 반환한다.
+    // 다른 트랜잭션의 appendNext 와 같은 guard 를 잡는다. 이 트랜잭션은 guard 를 잡기 전에 다른 잠금을 갖고 있지 않으므로 기다려도 교착 상태가 되지 않는다.
+    private int repairChunk(Long boardId) {
+        if (articlePageAnchorRepository.lockGuardWait(boardId) == null) {
+            return 0; // guard 가 없으면 아직 anchor 를 만든 적이 없는 게시판 (rebuild 로 만든다.)
+        }
+
+        ArticlePageAnchor lastAnchor = articlePageAnchorRepository.findLastLocked(boardId);
+        long anchorNo = lastAnchor.getAnchorNo();
+        Long lastArticleId = lastAnchor.getArticleId();
+        int appended = 0;
+        while (appended < repairChunkSize) {
+            Long articleId = articleRepository.findArticleIdAfterLocked(boardId, lastArticleId, anchorSize - 1);
+            if (articleId == null) {
+                break;
+            }
+            articlePageAnchorRepository.upsert(boardId, ++anchorNo, articleId);
+            lastArticleId = articleId;
+            appended++;
+        }
+        return appended;
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdownNow();
+    }
+
+}
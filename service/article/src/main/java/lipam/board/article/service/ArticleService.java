@@ -1,32 +1,44 @@
 package lipam.board.article.service;
 
 import lipam.board.article.entity.Article;
-import lipam.board.article.entity.BoardArticleCount;
 import lipam.board.article.repository.ArticleRepository;
-import lipam.board.article.repository.BoardArticleCountRepository;
+import lipam.board.article.repository.ArticleSummary;
 import lipam.board.article.service.request.ArticleCreateRequest;
 import lipam.board.article.service.request.ArticleUpdateRequest;
 import lipam.board.article.service.response.ArticlePageResponse;
 import lipam.board.article.service.response.ArticleResponse;
+import lipam.board.article.service.response.ArticleSummaryPageResponse;
+import lipam.board.article.service.response.ArticleSummaryResponse;
+import lipam.board.article.shard.ArticleShardRouter;
+import lipam.board.article.shard.ShardRouted;
 import lipam.board.common.event.EventType;
 import lipam.board.common.event.payload.ArticleCreatedEventPayload;
 import lipam.board.common.event.payload.ArticleDeletedEventPayload;
 import lipam.board.common.event.payload.ArticleUpdatedEventPayload;
 import lipam.board.common.outboxmessagerelay.OutboxEventPublisher;
-import lipam.board.common.snowflake.Snowflake;
+import lipam.board.common.snowflake.LockFreeSnowflake;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ArticleService {
 
-    private final Snowflake snowflake = new Snowflake();
+    private static final long MAX_PREVIEW_LENGTH = 200L;
+    public static final int MAX_BATCH_SIZE = 100; // 여러 게시글 조회(readAll)에 한 번에 요청할 수 있는 최대 게시글 수
+
+    private final LockFreeSnowflake snowflake;
     private final ArticleRepository articleRepository;
-    private final BoardArticleCountRepository boardArticleCountRepository;
+    private final BoardArticleCounter boardArticleCounter;
+    private final ArticlePageAnchorIndex articlePageAnchorIndex;
+    private final ArticleShardRouter articleShardRouter;
 
     // 게시글 생성/수정/삭제 시점에 OutboxEventPublisher 로 이벤트를 발행한다.
     // - 트랜잭션 커밋 "전"  : MessageRelay.createOutbox(...)가 받아서 outbox 테이블에 저장(save)된다.
@@ -36,10 +48,13 @@ public class ArticleService {
     private final OutboxEventPublisher outboxEventPublisher;
 
     @Transactional
+    @ShardRouted(boardId = "#request.boardId")
     public ArticleResponse create(ArticleCreateRequest request) {
+        Long articleId = snowflake.nextId();
+        articleShardRouter.register(articleId, request.getBoardId());
         Article article = articleRepository.save(
                 Article.create(
-                        snowflake.nextId(),
+                        articleId,
                         request.getTitle(),
                         request.getContent(),
                         request.getBoardId(),
@@ -48,15 +63,9 @@ public class ArticleService {
         );
 
         // 게시글이 생성될 때, 전체 게시글 수 + 1
-        int result = boardArticleCountRepository.increase(request.getBoardId());
-        if (result == 0) {
-            boardArticleCountRepository.save(
-                    BoardArticleCount.init(
-                            request.getBoardId(),
-                            1L
-                    )
-            );
-        }
+        boardArticleCounter.increase(request.getBoardId());
+        Long boardArticleCount = count(request.getBoardId());
+        articlePageAnchorIndex.onCreated(request.getBoardId(), article.getArticleId(), boardArticleCount);
 
         // 게시글 생성 이벤트 발행
         // 게시글 생성 시 Outbox에 이벤트 저장 → 트랜잭션 커밋 후 Kafka 전송 → boardId 기준 샤드 라우팅으로 게시글 단위 순서 보장
@@ -73,7 +82,7 @@ public class ArticleService {
                         .writerId(article.getWriterId())
                         .createdAt(article.getCreatedAt())
                         .modifiedAt(article.getModifiedAt())
-                        .boardArticleCount(count(article.getBoardId()))
+                        .boardArticleCount(boardArticleCount)
                         .build(),
                 article.getBoardId()
         );
@@ -82,6 +91,7 @@ public class ArticleService {
     }
 
     @Transactional
+    @ShardRouted(articleId = "#articleId")
     public ArticleResponse update(Long articleId, ArticleUpdateRequest request) {
         Article article = articleRepository.findById(articleId).orElseThrow();
         article.update(request.getTitle(), request.getContent());
@@ -108,16 +118,35 @@ public class ArticleService {
         return ArticleResponse.from(article);
     }
 
+    @ShardRouted(articleId = "#articleId")
     public ArticleResponse read(Long articleId) {
         return ArticleResponse.from(articleRepository.findById(articleId).orElseThrow());
     }
 
+    // 여러 게시글을 한 번의 in 쿼리로 조회한다. (요청한 순서대로 반환하고, 없는 게시글은 제외)
+    // 샤딩되어 있으면 샤드마다 in 쿼리를 동시에 실행해서 합친다.
+    // 요청 크기(MAX_BATCH_SIZE 이하)는 ArticleController 에서 검증한다.
+    public List<ArticleResponse> readAll(List<Long> articleIds) {
+        Map<Long, Article> articleMap = articleShardRouter.scatter(articleIds, articleRepository::findAllById).stream()
+                .collect(Collectors.toMap(Article::getArticleId, Function.identity()));
+
+        return articleIds.stream()
+                .distinct()
+                .map(articleMap::get)
+                .filter(Objects::nonNull)
+                .map(ArticleResponse::from)
+                .toList();
+    }
+
     @Transactional
+    @ShardRouted(articleId = "#articleId")
     public void delete(Long articleId) {
         Article article = articleRepository.findById(articleId).orElseThrow();
         articleRepository.delete(article); // deleteById : ID 기반 삭제 -> delete : 엔티티를 명시적으로 지정해서 삭제
+        articleShardRouter.unregister(article.getArticleId());
         // 게시글이 생성될 때, 전체 게시글 수 - 1
-        boardArticleCountRepository.decrease(article.getBoardId());
+        boardArticleCounter.decrease(article.getBoardId());
+        articlePageAnchorIndex.onDeleted(article.getBoardId(), article.getArticleId());
 
         // 게시글 삭제 이벤트 발행
         // 게시글 삭제 시 Outbox에 이벤트 저장 → 트랜잭션 커밋 후 Kafka 전송 → boardId 기준 샤드 라우팅으로 게시글 단위 순서 보장
@@ -139,9 +168,10 @@ public class ArticleService {
         );
     }
 
+    @ShardRouted(boardId = "#boardId")
     public ArticlePageResponse readAll(Long boardId, Long page, Long pageSize) {
         return ArticlePageResponse.of(
-                articleRepository.findAll(boardId, (page - 1) * pageSize, pageSize).stream()
+                articlePageAnchorIndex.findAll(boardId, (page - 1) * pageSize, pageSize).stream()
                         .map(ArticleResponse::from)
                         .toList(),
                 articleRepository.count(
@@ -151,6 +181,7 @@ public class ArticleService {
         );
     }
 
+    @ShardRouted(boardId = "#boardId")
     public List<ArticleResponse> readAllInfiniteScroll(Long boardId, Long pageSize, Long lastArticleId) {
         List<Article> articles = lastArticleId == null ?
                 articleRepository.findAllInfiniteScroll(boardId, pageSize) :
@@ -159,10 +190,47 @@ public class ArticleService {
         return articles.stream().map(ArticleResponse::from).toList();
     }
 
+    // == 게시글 목록 (본문 없이 조회) ==
+    // 목록에는 제목만 필요하므로 기본적으로 content 를 적지 않은 쿼리로 조회한다. 본문은 단건 조회(read)로만 내려준다.
+    // previewLength 가 0 보다 크면 미리보기 쿼리로 바꿔서, 본문 앞부분(최대 MAX_PREVIEW_LENGTH 글자)만 함께 내려준다.
+    @ShardRouted(boardId = "#boardId")
+    public ArticleSummaryPageResponse readAllSummary(Long boardId, Long page, Long pageSize, Long previewLength) {
+        return ArticleSummaryPageResponse.of(
+                articlePageAnchorIndex.findAllSummary(boardId, (page - 1) * pageSize, pageSize, previewLength(previewLength)).stream()
+                        .map(ArticleSummaryResponse::from)
+                        .toList(),
+                articleRepository.count(
+                        boardId,
+                        PageLimitCalculator.calculatePageLimit(page, pageSize, 10L)
+                )
+        );
+    }
+
+    @ShardRouted(boardId = "#boardId")
+    public List<ArticleSummaryResponse> readAllSummaryInfiniteScroll(Long boardId, Long pageSize, Long lastArticleId, Long previewLength) {
+        long length = previewLength(previewLength);
+        List<ArticleSummary> articles;
+        if (length > 0) {
+            articles = lastArticleId == null ?
+                    articleRepository.findAllSummaryInfiniteScrollWithPreview(boardId, pageSize, length) :
+                    articleRepository.findAllSummaryInfiniteScrollWithPreview(boardId, pageSize, lastArticleId, length);
+        } else {
+            articles = lastArticleId == null ?
+                    articleRepository.findAllSummaryInfiniteScroll(boardId, pageSize) :
+                    articleRepository.findAllSummaryInfiniteScroll(boardId, pageSize, lastArticleId);
+        }
+
+        return articles.stream().map(ArticleSummaryResponse::from).toList();
+    }
+
+    private long previewLength(Long previewLength) {
+        return previewLength == null ? 0L : Math.max(0L, Math.min(previewLength, MAX_PREVIEW_LENGTH));
+    }
+    // == 게시글 목록 끝 ==
+
+    @ShardRouted(boardId = "#boardId")
     public Long count(Long boardId) {
-        return boardArticleCountRepository.findById(boardId)
-                .map(BoardArticleCount::getArticleCount)
-                .orElse(0L);
+        return boardArticleCounter.count(boardId);
     }
 
 }
@@ -0,0 +1,49 @@
+package lipam.board.article.service;
+
+import lipam.board.article.repository.BoardArticleCountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// 게시판별 게시글 수 (board_article_count 의 slot 들)
+// 기존에는 게시판마다 row 하나를 update 해서, 인기 게시판에 글을 쓰는 트랜잭션들이 커밋될 때까지 그 row 의 락을 순서대로 기다렸다.
+// 쓰기는 slotCount 개의 slot 중 임의의 slot 하나만 갱신하고, 읽기는 모든 slot 을 더한다.
+@Component
+@RequiredArgsConstructor
+public class BoardArticleCounter {
+
+    private final BoardArticleCountRepository boardArticleCountRepository;
+
+    @Value("${article.board-article-count.slot-count:16}")
+    private int slotCount; // 1 이면 기존과 같이 게시판마다 row 하나
+
+    public void increase(Long boardId) {
+        boardArticleCountRepository.increase(boardId, randomSlot());
+    }
+
+    public void decrease(Long boardId) {
+        boardArticleCountRepository.decrease(boardId, randomSlot());
+    }
+
+    public long count(Long boardId) {
+        return boardArticleCountRepository.sum(boardId);
+    }
+
+    // 게시글 수를 다시 계산한 값으로 맞춘다. (모든 slot 을 지우고 slot 0 에 저장)
+    // 호출하는 쪽에서 lock() 으로 slot 들을 잠근 트랜잭션 안에서 호출한다.
+    public void reset(Long boardId, long articleCount) {
+        boardArticleCountRepository.deleteAll(boardId);
+        boardArticleCountRepository.set(boardId, 0L, articleCount);
+    }
+
+    public void lock(Long boardId) {
+        boardArticleCountRepository.findLockedByBoardId(boardId);
+    }
+
+    private long randomSlot() {
+        return slotCount <= 1 ? 0L : ThreadLocalRandom.current().nextInt(slotCount);
+    }
+
+}
@@ -0,0 +1,35 @@
+package lipam.board.article.service.response;
+
+import lipam.board.article.repository.ArticleSummary;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+// 게시글 목록 응답 (본문 없이 제목과, 요청한 경우에만 본문 미리보기를 담는다.)
+@Getter
+@ToString
+public class ArticleSummaryResponse {
+
+    private Long articleId;
+    private String title;
+    private String preview;
+    private Long boardId;
+    private Long writerId;
+    private LocalDateTime createdAt;
+    private LocalDateTime modifiedAt;
+
+    public static ArticleSummaryResponse from(ArticleSummary articleSummary) {
+        ArticleSummaryResponse response = new ArticleSummaryResponse();
+        response.articleId = articleSummary.getArticleId();
+        response.title = articleSummary.getTitle();
+        response.preview = articleSummary.getPreview();
+        response.boardId = articleSummary.getBoardId();
+        response.writerId = articleSummary.getWriterId();
+        response.createdAt = articleSummary.getCreatedAt();
+        response.modifiedAt = articleSummary.getModifiedAt();
+
+        return response;
+    }
+
+}
@@ -0,0 +1,231 @@
+package lipam.board.article.shard;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+// 게시판 단위로 샤드를 정한다. (shard = board_id % 샤드 수)
+// 게시판의 게시글, 게시글 수, page anchor 는 모두 같은 샤드에 있으므로, 게시판 하나를 다루는 트랜잭션은 샤드 하나에서 끝난다.
+// articleId 만 아는 요청(단건 조회/수정/삭제)은 0번 샤드의 디렉터리 테이블로 게시판을 찾는다.
+//   create table article_shard_directory (
+//       article_id bigint not null primary key,
+//       board_id bigint not null
+//   );
+// 디렉터리에 없는 게시글(디렉터리 도입 전에 생성된 게시글)은 모든 샤드를 차례로 조회해서 찾는다.
+// 게시글의 게시판은 바뀌지 않으므로 찾은 (articleId -> boardId) 는 메모리에 캐시해서, 단건 요청마다 0번 샤드를 조회하지 않는다.
+// (재분배로 게시판의 샤드가 바뀌어도 boardId 로 샤드를 다시 계산하므로 캐시는 그대로 유효하다.)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArticleShardRouter {
+
+    private final ShardDataSources shardDataSources;
+    private final Map<Long, Long> boardIdCache = new ConcurrentHashMap<>();
+
+    @Value("${article.shard.directory-cache-size:100000}")
+    private int directoryCacheSize; // 0 이하이면 캐시하지 않는다.
+
+    public int shardCount() {
+        return shardDataSources.size();
+    }
+
+    public int shardOfBoard(Long boardId) {
+        if (boardId == null) {
+            return 0;
+        }
+        return (int) Math.floorMod(boardId, (long) shardCount());
+    }
+
+    public int shardOfArticle(Long articleId) {
+        if (shardCount() == 1 || articleId == null) {
+            return 0;
+        }
+
+        Long boardId = findBoardIds(List.of(articleId)).get(articleId);
+        if (boardId != null) {
+            return shardOfBoard(boardId);
+        }
+
+        for (int shard = 0; shard < shardCount(); shard++) {
+            Boolean exists = shardDataSources.jdbcTemplate(shard).queryForObject(
+                    "select exists(select 1 from article where article_id = ?)", Boolean.class, articleId
+            );
+            if (Boolean.TRUE.equals(exists)) {
+                return shard;
+            }
+        }
+        return 0; // 어느 샤드에도 없으면 0번 샤드에서 조회해서 없는 게시글로 처리된다.
+    }
+
+    // 게시글 생성 시 디렉터리에 게시판을 기록한다.
+    // 디렉터리는 게시글과 다른 DB 라서 같은 트랜잭션으로 묶을 수 없으므로, 게시글 트랜잭션이 커밋된 뒤에 기록한다.
+    // (롤백된 생성은 디렉터리에 남지 않는다. 커밋 직후 기록 전에 들어온 조회나 기록에 실패한 게시글은 모든 샤드를 조회해서 찾는다.)
+    public void register(Long articleId, Long boardId) {
+        if (shardCount() == 1) {
+            return;
+        }
+        afterCommit(() -> {
+            directory().update(
+                    "insert ignore into article_shard_directory (article_id, board_id) values (?, ?)", articleId, boardId
+            );
+            cache(articleId, boardId);
+        });
+    }
+
+    // 게시글 삭제 시 디렉터리와 캐시에서 지운다. (삭제 트랜잭션이 커밋된 뒤)
+    public void unregister(Long articleId) {
+        if (shardCount() == 1) {
+            return;
+        }
+        afterCommit(() -> {
+            boardIdCache.remove(articleId);
+            directory().update("delete from article_shard_directory where article_id = ?", articleId);
+        });
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            run(task);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                run(task);
+            }
+        });
+    }
+
+    private void run(Runnable task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            log.error("[ArticleShardRouter.afterCommit]", e);
+        }
+    }
+
+    // 여러 게시판에 걸친 조회 (scatter-gather)
+    // articleIds 를 샤드별로 나눠서 샤드마다 query 를 가상 스레드에서 동시에 실행하고 결과를 합친다. (순서는 보장하지 않음)
+    // 디렉터리에 없는 게시글은 모든 샤드에 함께 조회한다.
+    // 샤드 하나라도 실패하면 예외를 던진다. (일부 샤드의 결과만 돌려주면 호출한 쪽은 없는 게시글과 구분할 수 없다.)
+    public <T> List<T> scatter(List<Long> articleIds, Function<List<Long>, List<T>> query) {
+        if (shardCount() == 1 || articleIds.isEmpty()) {
+            return query.apply(articleIds);
+        }
+
+        Map<Integer, List<Long>> articleIdsByShard = groupByShard(articleIds);
+        if (articleIdsByShard.size() == 1) {
+            Map.Entry<Integer, List<Long>> entry = articleIdsByShard.entrySet().iterator().next();
+            return ShardContext.call(entry.getKey(), () -> query.apply(entry.getValue()));
+        }
+
+        Map<Integer, Future<List<T>>> futures = new HashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            articleIdsByShard.forEach((shard, shardArticleIds) ->
+                    futures.put(shard, executor.submit(() -> ShardContext.call(shard, () -> query.apply(shardArticleIds))))
+            );
+
+            List<T> result = new ArrayList<>();
+            for (Map.Entry<Integer, Future<List<T>>> entry : futures.entrySet()) {
+                try {
+                    result.addAll(entry.getValue().get());
+                } catch (ExecutionException e) {
+                    log.error("[ArticleShardRouter.scatter] shard={}", entry.getKey(), e.getCause());
+                    throw e.getCause() instanceof RuntimeException runtimeException ?
+                            runtimeException : new IllegalStateException(e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+            }
+            return result;
+        }
+    }
+
+    private Map<Integer, List<Long>> groupByShard(List<Long> articleIds) {
+        List<Long> distinctArticleIds = articleIds.stream().distinct().toList();
+        Map<Long, Long> boardIds = findBoardIds(distinctArticleIds);
+
+        Map<Integer, List<Long>> articleIdsByShard = new HashMap<>();
+        for (Long articleId : distinctArticleIds) {
+            Long boardId = boardIds.get(articleId);
+            if (boardId != null) {
+                articleIdsByShard.computeIfAbsent(shardOfBoard(boardId), key -> new ArrayList<>()).add(articleId);
+                continue;
+            }
+            for (int shard = 0; shard < shardCount(); shard++) {
+                articleIdsByShard.computeIfAbsent(shard, key -> new ArrayList<>()).add(articleId);
+            }
+        }
+        return articleIdsByShard;
+    }
+
+    // articleId -> boardId (디렉터리에 없는 게시글은 빠진다.)
+    // 캐시에 없는 게시글만 디렉터리에서 조회한다.
+    private Map<Long, Long> findBoardIds(List<Long> articleIds) {
+        Map<Long, Long> boardIds = new HashMap<>();
+        List<Long> missedArticleIds = new ArrayList<>();
+        for (Long articleId : articleIds) {
+            Long boardId = boardIdCache.get(articleId);
+            if (boardId != null) {
+                boardIds.put(articleId, boardId);
+            } else {
+                missedArticleIds.add(articleId);
+            }
+        }
+        if (missedArticleIds.isEmpty()) {
+            return boardIds;
+        }
+
+        try {
+            directory().query(
+                    "select article_id, board_id from article_shard_directory where article_id in (%s)"
+                            .formatted(String.join(",", Collections.nCopies(missedArticleIds.size(), "?"))),
+                    rs -> {
+                        boardIds.put(rs.getLong("article_id"), rs.getLong("board_id"));
+                        cache(rs.getLong("article_id"), rs.getLong("board_id"));
+                    },
+                    missedArticleIds.toArray()
+            );
+        } catch (Exception e) {
+            log.error("[ArticleShardRouter.findBoardIds] articleIds.size={}", missedArticleIds.size(), e);
+        }
+        return boardIds;
+    }
+
+    // 가득 차면 임의의 항목 하나를 지우고 넣는다. (최근에 쓴 항목을 남기는 LRU 는 아니지만, 락 없이 크기만 제한한다.)
+    private void cache(Long articleId, Long boardId) {
+        if (directoryCacheSize <= 0) {
+            return;
+        }
+        if (boardIdCache.size() >= directoryCacheSize) {
+            Iterator<Long> iterator = boardIdCache.keySet().iterator();
+            if (iterator.hasNext()) {
+                boardIdCache.remove(iterator.next());
+            }
+        }
+        boardIdCache.put(articleId, boardId);
+    }
+
+    private JdbcTemplate directory() {
+        return shardDataSources.jdbcTemplate(0);
+    }
+
+}
@@ -0,0 +1,53 @@
+package lipam.board.article.shard;
+
+import java.util.function.Supplier;
+
+// 현재 스레드가 사용할 샤드 번호
+// ShardRoutingDataSource 가 커넥션을 얻을 때 이 값을 보고 물리 DB 를 고른다.
+// 트랜잭션은 처음 커넥션을 얻을 때 DB 가 정해지므로, 트랜잭션을 시작하기 "전"에 설정해야 한다. (ShardRoutingAspect 참고)
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT_SHARD = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    // 설정되지 않았으면 null
+    public static Integer current() {
+        return CURRENT_SHARD.get();
+    }
+
+    // 샤드를 설정하고 이전 값을 반환한다. (끝나면 restore 로 되돌린다.)
+    public static Integer set(Integer shard) {
+        Integer previous = CURRENT_SHARD.get();
+        CURRENT_SHARD.set(shard);
+        return previous;
+    }
+
+    public static void restore(Integer previous) {
+        if (previous == null) {
+            CURRENT_SHARD.remove();
+        } else {
+            CURRENT_SHARD.set(previous);
+        }
+    }
+
+    public static <T> T call(int shard, Supplier<T> supplier) {
+        Integer previous = set(shard);
+        try {
+            return supplier.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    public static void run(int shard, Runnable task) {
+        Integer previous = set(shard);
+        try {
+            task.run();
+        } finally {
+            restore(previous);
+        }
+    }
+
+}
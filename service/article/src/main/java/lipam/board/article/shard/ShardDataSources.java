@@ -0,0 +1,57 @@
+package lipam.board.article.shard;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+// 샤드 번호 순서대로 나열한 물리 DB 목록
+// 라우팅 없이 특정 샤드에 직접 접근해야 하는 곳(샤드 디렉터리, 재분배)에서 사용한다.
+// 샤딩을 사용하지 않으면 기본 DataSource 하나만 담는다.
+@Slf4j
+public class ShardDataSources implements AutoCloseable {
+
+    private final List<DataSource> dataSources;
+    private final List<JdbcTemplate> jdbcTemplates;
+
+    private ShardDataSources(List<DataSource> dataSources) {
+        this.dataSources = List.copyOf(dataSources);
+        this.jdbcTemplates = this.dataSources.stream().map(JdbcTemplate::new).toList();
+    }
+
+    public static ShardDataSources of(List<DataSource> dataSources) {
+        if (dataSources.isEmpty()) {
+            throw new IllegalArgumentException("shard dataSources must not be empty");
+        }
+        return new ShardDataSources(dataSources);
+    }
+
+    public int size() {
+        return dataSources.size();
+    }
+
+    public DataSource get(int shard) {
+        return dataSources.get(shard);
+    }
+
+    // 해당 샤드에 직접 연결된 JdbcTemplate
+    // ShardRoutingDataSource 와 다른 DataSource 이므로, 진행 중인 트랜잭션에 참여하지 않고 자동 커밋으로 실행된다.
+    public JdbcTemplate jdbcTemplate(int shard) {
+        return jdbcTemplates.get(shard);
+    }
+
+    @Override
+    public void close() {
+        for (DataSource dataSource : dataSources) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.error("[ShardDataSources.close]", e);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,132 @@
+package lipam.board.article.shard;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 샤드를 추가한 뒤, 샤드가 바뀌는 게시판의 데이터를 새 샤드로 옮긴다.
+// article.shard.urls 에 새 DB 를 추가해서 띄운 상태(샤드 수 = 새 샤드 수)에서, 이전 샤드 수(fromShardCount)를 넘겨 실행한다.
+// 1) copy   : 이전 샤드마다 게시판 목록을 조회해서, 새 샤드 수 기준으로 샤드가 바뀌는 게시판의 게시글/게시글 수/page anchor 를 새 샤드에 복사한다.
+// 2) cleanup: 복사가 끝난 게시판을 이전 샤드에서 삭제한다.
+// 복사하는 동안 옮겨지는 게시판에 쓰기가 들어오면 유실되므로, 쓰기를 막은 점검 시간에 실행한다.
+// copy 는 여러 번 실행해도 결과가 같으므로, 중간에 실패하면 다시 실행하면 된다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ShardRebalancer {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final ShardDataSources shardDataSources;
+    private final ArticleShardRouter articleShardRouter;
+
+    // 복사한 게시판 수를 반환한다.
+    public long copy(int fromShardCount) {
+        validate(fromShardCount);
+
+        long boardCount = 0;
+        for (int fromShard = 0; fromShard < fromShardCount; fromShard++) {
+            for (Long boardId : findBoardIds(fromShard)) {
+                int toShard = articleShardRouter.shardOfBoard(boardId);
+                if (toShard == fromShard) {
+                    continue;
+                }
+                long articleCount = copyBoard(boardId, shardDataSources.jdbcTemplate(fromShard), shardDataSources.jdbcTemplate(toShard));
+                log.info("[ShardRebalancer.copy] boardId={}, {} -> {}, articleCount={}", boardId, fromShard, toShard, articleCount);
+                boardCount++;
+            }
+        }
+        return boardCount;
+    }
+
+    // 이전 샤드에 남아있는 옮겨진 게시판을 삭제한다. 삭제한 게시판 수를 반환한다.
+    public long cleanup(int fromShardCount) {
+        validate(fromShardCount);
+
+        long boardCount = 0;
+        for (int fromShard = 0; fromShard < fromShardCount; fromShard++) {
+            JdbcTemplate source = shardDataSources.jdbcTemplate(fromShard);
+            for (Long boardId : findBoardIds(fromShard)) {
+                if (articleShardRouter.shardOfBoard(boardId) == fromShard) {
+                    continue;
+                }
+                source.update("delete from article_page_anchor where board_id = ?", boardId);
+                source.update("delete from board_article_count where board_id = ?", boardId);
+                int articleCount = source.update("delete from article where board_id = ?", boardId);
+                log.info("[ShardRebalancer.cleanup] boardId={}, shard={}, articleCount={}", boardId, fromShard, articleCount);
+                boardCount++;
+            }
+        }
+        return boardCount;
+    }
+
+    private void validate(int fromShardCount) {
+        if (fromShardCount <= 0 || fromShardCount > articleShardRouter.shardCount()) {
+            throw new IllegalArgumentException(
+                    "fromShardCount must be between 1 and %d: %d".formatted(articleShardRouter.shardCount(), fromShardCount)
+            );
+        }
+    }
+
+    private List<Long> findBoardIds(int shard) {
+        return shardDataSources.jdbcTemplate(shard).queryForList(
+                "select distinct board_id from article " +
+                        "union select distinct board_id from board_article_count",
+                Long.class
+        );
+    }
+
+    private long copyBoard(Long boardId, JdbcTemplate source, JdbcTemplate target) {
+        // 게시글: article_id 순서로 BATCH_SIZE 개씩 복사 (이미 복사된 게시글은 무시)
+        long articleCount = 0;
+        long lastArticleId = 0;
+        while (true) {
+            List<Object[]> articles = source.query(
+                    "select article_id, title, content, board_id, writer_id, created_at, modified_at from article " +
+                            "where board_id = ? and article_id > ? order by article_id asc limit ?",
+                    (rs, rowNum) -> new Object[]{
+                            rs.getLong("article_id"), rs.getString("title"), rs.getString("content"), rs.getLong("board_id"),
+                            rs.getLong("writer_id"), rs.getTimestamp("created_at"), rs.getTimestamp("modified_at")
+                    },
+                    boardId, lastArticleId, BATCH_SIZE
+            );
+            if (articles.isEmpty()) {
+                break;
+            }
+
+            target.batchUpdate(
+                    "insert ignore into article (article_id, title, content, board_id, writer_id, created_at, modified_at) " +
+                            "values (?, ?, ?, ?, ?, ?, ?)",
+                    articles
+            );
+            articleCount += articles.size();
+            lastArticleId = (Long) articles.get(articles.size() - 1)[0];
+
+            if (articles.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+
+        // 게시글 수: slot 별로 나뉜 값을 합쳐서 0번 slot 에 기록
+        Long boardArticleCount = source.queryForObject(
+                "select coalesce(sum(article_count), 0) from board_article_count where board_id = ?", Long.class, boardId
+        );
+        target.update("delete from board_article_count where board_id = ?", boardId);
+        target.update("insert into board_article_count (board_id, slot, article_count) values (?, 0, ?)", boardId, boardArticleCount);
+
+        // page anchor: 게시글이 그대로 옮겨지므로 anchor 도 그대로 복사
+        List<Object[]> anchors = source.query(
+                "select board_id, anchor_no, article_id from article_page_anchor where board_id = ?",
+                (rs, rowNum) -> new Object[]{rs.getLong("board_id"), rs.getLong("anchor_no"), rs.getObject("article_id", Long.class)},
+                boardId
+        );
+        target.update("delete from article_page_anchor where board_id = ?", boardId);
+        target.batchUpdate("insert into article_page_anchor (board_id, anchor_no, article_id) values (?, ?, ?)", anchors);
+
+        return articleCount;
+    }
+
+}
@@ -0,0 +1,20 @@
+package lipam.board.article.shard;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 메서드를 실행하는 동안 사용할 샤드를 메서드 파라미터로 정한다. (ShardRoutingAspect)
+// boardId 또는 articleId 중 하나에 SpEL 식을 지정한다. 예) @ShardRouted(boardId = "#request.boardId")
+// - boardId  : board_id % 샤드 수
+// - articleId: 샤드 디렉터리(article_shard_directory)에서 게시판을 찾아서 결정
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ShardRouted {
+
+    String boardId() default "";
+
+    String articleId() default "";
+
+}
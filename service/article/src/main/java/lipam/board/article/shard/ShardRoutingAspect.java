@@ -0,0 +1,56 @@
+package lipam.board.article.shard;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.Ordered;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.Order;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.stereotype.Component;
+
+// @ShardRouted 메서드를 실행하는 동안 ShardContext 에 샤드를 설정한다.
+// @Transactional 보다 바깥에서 실행되어야 트랜잭션의 커넥션이 그 샤드에서 열리므로, 가장 높은 우선순위로 감싼다.
+// 이미 샤드가 설정된 상태에서 호출되어도 메서드 파라미터 기준으로 다시 설정하고, 끝나면 이전 값으로 되돌린다.
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ShardRoutingAspect {
+
+    private static final ExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
+    private static final ParameterNameDiscoverer PARAMETER_NAME_DISCOVERER = new DefaultParameterNameDiscoverer();
+
+    private final ArticleShardRouter articleShardRouter;
+
+    @Around("@annotation(shardRouted)")
+    public Object around(ProceedingJoinPoint joinPoint, ShardRouted shardRouted) throws Throwable {
+        Integer previous = ShardContext.set(findShard(joinPoint, shardRouted));
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ShardContext.restore(previous);
+        }
+    }
+
+    private int findShard(ProceedingJoinPoint joinPoint, ShardRouted shardRouted) {
+        if (!shardRouted.boardId().isEmpty()) {
+            return articleShardRouter.shardOfBoard(evaluate(joinPoint, shardRouted.boardId()));
+        }
+        return articleShardRouter.shardOfArticle(evaluate(joinPoint, shardRouted.articleId()));
+    }
+
+    private Long evaluate(ProceedingJoinPoint joinPoint, String expression) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(
+                joinPoint.getTarget(), signature.getMethod(), joinPoint.getArgs(), PARAMETER_NAME_DISCOVERER
+        );
+        return EXPRESSION_PARSER.parseExpression(expression).getValue(context, Long.class);
+    }
+
+}
@@ -0,0 +1,75 @@
+package lipam.board.article.shard;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lipam.board.common.outboxmessagerelay.OutboxDataSourceScope;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.IntStream;
+
+// article.shard.enabled=true 이면 article.shard.urls 의 DB 들을 샤드로 사용한다. (나열한 순서가 샤드 번호)
+// - JPA/JdbcTemplate 이 사용하는 기본 DataSource 를 ShardRoutingDataSource 로 바꾼다.
+// - outbox 릴레이가 모든 샤드의 outbox 를 처리하도록 OutboxDataSourceScope 를 등록한다.
+// 꺼져 있으면 spring.datasource 의 DB 하나를 0번 샤드로 사용하고, 라우팅하지 않는다.
+// 샤드마다 만드는 커넥션 풀은 spring.datasource 의 계정/드라이버와 spring.datasource.hikari.* 설정을 그대로 쓴다.
+// (풀 크기 등은 샤드마다 따로 적용되므로, 전체 커넥션 수는 설정값 x 샤드 수가 된다.)
+@Configuration
+public class ShardRoutingConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "article.shard.enabled", havingValue = "true")
+    public ShardDataSources shardDataSources(
+            @Value("${article.shard.urls}") List<String> urls, // 쉼표로 구분
+            DataSourceProperties dataSourceProperties,
+            Environment environment
+    ) {
+        Binder binder = Binder.get(environment);
+        return ShardDataSources.of(
+                IntStream.range(0, urls.size())
+                        .mapToObj(shard -> {
+                            HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                                    .type(HikariDataSource.class)
+                                    .url(urls.get(shard))
+                                    .build();
+                            binder.bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+                            dataSource.setPoolName("article-shard-" + shard);
+                            return (DataSource) dataSource;
+                        })
+                        .toList()
+        );
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "article.shard.enabled", havingValue = "true")
+    public DataSource shardRoutingDataSource(ShardDataSources shardDataSources) {
+        return ShardRoutingDataSource.create(shardDataSources);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "article.shard.enabled", havingValue = "true")
+    public OutboxDataSourceScope shardOutboxDataSourceScope(ShardDataSources shardDataSources) {
+        List<Executor> dataSources = IntStream.range(0, shardDataSources.size())
+                .mapToObj(shard -> (Executor) task -> ShardContext.run(shard, task))
+                .toList();
+        return () -> dataSources;
+    }
+
+    // 기본 DataSource 는 Spring Boot 가 관리하므로 여기서 닫지 않는다.
+    @Bean(destroyMethod = "")
+    @ConditionalOnProperty(name = "article.shard.enabled", havingValue = "false", matchIfMissing = true)
+    public ShardDataSources singleShardDataSources(DataSource dataSource) {
+        return ShardDataSources.of(List.of(dataSource));
+    }
+
+}
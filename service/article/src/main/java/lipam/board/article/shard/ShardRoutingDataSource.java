@@ -0,0 +1,34 @@
+package lipam.board.article.shard;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// 커넥션을 얻을 때마다 ShardContext 의 샤드 번호로 물리 DB 를 고르는 DataSource
+// 샤드가 정해지지 않은 접근(게시판과 무관한 조회 등)은 0번 샤드로 보낸다.
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    private ShardRoutingDataSource() {
+    }
+
+    public static ShardRoutingDataSource create(ShardDataSources shardDataSources) {
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        for (int shard = 0; shard < shardDataSources.size(); shard++) {
+            targetDataSources.put(shard, shardDataSources.get(shard));
+        }
+
+        ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource();
+        routingDataSource.setTargetDataSources(targetDataSources);
+        routingDataSource.setDefaultTargetDataSource(shardDataSources.get(0));
+        routingDataSource.setLenientFallback(false); // 없는 샤드 번호는 0번으로 보내지 않고 예외
+        routingDataSource.afterPropertiesSet();
+        return routingDataSource;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+
+}
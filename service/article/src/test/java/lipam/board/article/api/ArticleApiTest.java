@@ -2,13 +2,21 @@ package lipam.board.article.api;
 
 import lipam.board.article.service.response.ArticlePageResponse;
 import lipam.board.article.service.response.ArticleResponse;
+import lipam.board.article.service.response.ArticleSummaryPageResponse;
+import lipam.board.article.service.response.ArticleSummaryResponse;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientResponseException;
 
 import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class ArticleApiTest {
 
@@ -104,6 +112,35 @@ public class ArticleApiTest {
         }
     }
 
+    @Test
+    void readAllBatchLimitTest() {
+        List<Long> articleIds = LongStream.rangeClosed(1, 101).boxed().toList(); // 최대 100개
+
+        assertThatThrownBy(() -> restClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/v1/articles/batch")
+                        .queryParam("articleIds", articleIds)
+                        .build())
+                .retrieve()
+                .body(new ParameterizedTypeReference<List<ArticleResponse>>() {
+                })
+        )
+                .isInstanceOfSatisfying(RestClientResponseException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    @Test
+    void readAllSummaryTest() {
+        ArticleSummaryPageResponse response = restClient.get()
+                .uri("/v1/articles/summaries?boardId=1&pageSize=30&page=50000&previewLength=50")
+                .retrieve()
+                .body(ArticleSummaryPageResponse.class);
+
+        System.out.println("response.getArticleCount(): " + response.getArticleCount());
+        for (ArticleSummaryResponse article : response.getArticles()) {
+            System.out.println("articleId: " + article.getArticleId() + ", preview: " + article.getPreview());
+        }
+    }
+
     @Test
     void countTest() {
         ArticleResponse response = create(new ArticleCreateRequest("hi", "content", 1L, 2L));
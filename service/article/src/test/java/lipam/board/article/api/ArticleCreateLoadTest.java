@@ -0,0 +1,69 @@
+package lipam.board.article.api;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 한 게시판에 게시글을 동시에 생성할 때의 처리량 비교용 부하 테스트
+// 1. article 서비스를 article.board-article-count.slot-count=1 (게시판마다 게시글 수 row 하나)로 띄우고 실행 → 결과 기록
+// 2. slot-count=16 으로 다시 띄우고 실행 → 결과 비교
+// slot 이 하나면 모든 생성 트랜잭션이 같은 row 의 락을 커밋까지 잡고 있어서, 동시 요청 수를 늘려도 처리량이 늘지 않는다.
+public class ArticleCreateLoadTest {
+
+    RestClient restClient = RestClient.create("http://localhost:9000");
+
+    static final long BOARD_ID = 3L; // 부하 테스트 전용 게시판
+    static final int CONCURRENCY = 64; // 동시에 생성 요청을 보내는 클라이언트 수
+    static final int REQUEST_COUNT = 10000; // 전체 생성 요청 수
+
+    @Test
+    void createLoadTest() {
+        Long before = count();
+        AtomicInteger failCount = new AtomicInteger();
+
+        long start = System.nanoTime();
+        try (ExecutorService executorService = Executors.newFixedThreadPool(CONCURRENCY)) {
+            for (int i = 0; i < REQUEST_COUNT; i++) {
+                executorService.submit(() -> {
+                    try {
+                        restClient.post()
+                                .uri("/v1/articles")
+                                .body(new ArticleCreateRequest("title", "content", 1L, BOARD_ID))
+                                .retrieve()
+                                .toBodilessEntity();
+                    } catch (Exception e) {
+                        failCount.incrementAndGet();
+                    }
+                });
+            }
+        } // close() 에서 모든 요청이 끝날 때까지 기다린다.
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.printf("requests=%d, concurrency=%d, elapsed=%dms, throughput=%.1f req/s, failed=%d%n",
+                REQUEST_COUNT, CONCURRENCY, elapsedMillis, REQUEST_COUNT * 1000.0 / elapsedMillis, failCount.get());
+        // slot 을 나눠도 게시글 수는 정확해야 한다.
+        System.out.printf("count before=%d, after=%d, expected=%d%n", before, count(), before + REQUEST_COUNT - failCount.get());
+    }
+
+    Long count() {
+        return restClient.get()
+                .uri("/v1/articles/boards/{boardId}/count", BOARD_ID)
+                .retrieve()
+                .body(Long.class);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static class ArticleCreateRequest {
+        private String title;
+        private String content;
+        private Long writerId;
+        private Long boardId;
+    }
+
+}
@@ -0,0 +1,91 @@
+package lipam.board.article.api;
+
+import lipam.board.article.service.response.ArticlePageResponse;
+import lipam.board.article.service.response.ArticleResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.web.client.RestClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 한 게시판에 게시글을 동시에 생성해서 page anchor 경계를 여러 번 넘긴 뒤,
+// anchor 로 조회한 깊은 페이지가 커서 방식(무한 스크롤)으로 처음부터 읽은 결과와 같은지 확인한다.
+// anchor 가 실제 순위와 한 칸이라도 어긋나면 깊은 페이지가 한 게시글씩 밀린다.
+// article 서비스를 article.page-anchor.size=1000 (기본값)으로 띄우고 실행한다.
+public class ArticlePageAnchorConcurrencyTest {
+
+    RestClient restClient = RestClient.create("http://localhost:9000");
+
+    static final long BOARD_ID = 4L; // 테스트 전용 게시판
+    static final int CONCURRENCY = 64;
+    static final int REQUEST_COUNT = 3500; // anchor 경계(1000 개)를 세 번 이상 넘긴다.
+    static final long PAGE_SIZE = 30L;
+
+    @Test
+    void concurrentCreateTest() {
+        try (ExecutorService executorService = Executors.newFixedThreadPool(CONCURRENCY)) {
+            for (int i = 0; i < REQUEST_COUNT; i++) {
+                executorService.submit(() -> restClient.post()
+                        .uri("/v1/articles")
+                        .body(new ArticleCreateRequest("title", "content", 1L, BOARD_ID))
+                        .retrieve()
+                        .toBodilessEntity());
+            }
+        }
+
+        List<Long> expected = readAllArticleIds();
+        long pageCount = expected.size() / PAGE_SIZE;
+        for (long page = 1000 / PAGE_SIZE + 1; page <= pageCount; page++) {
+            int from = (int) ((page - 1) * PAGE_SIZE);
+            List<Long> actual = readPage(page);
+            assertThat(actual)
+                    .as("page=%d", page)
+                    .isEqualTo(expected.subList(from, (int) Math.min(from + PAGE_SIZE, expected.size())));
+        }
+    }
+
+    // 최신순 전체 게시글 ID (커서 방식이라 anchor 를 사용하지 않는다.)
+    List<Long> readAllArticleIds() {
+        List<Long> articleIds = new ArrayList<>();
+        Long lastArticleId = null;
+        while (true) {
+            List<ArticleResponse> articles = restClient.get()
+                    .uri(lastArticleId == null
+                            ? "/v1/articles/infinite-scroll?boardId=%d&pageSize=1000".formatted(BOARD_ID)
+                            : "/v1/articles/infinite-scroll?boardId=%d&pageSize=1000&lastArticleId=%d".formatted(BOARD_ID, lastArticleId))
+                    .retrieve()
+                    .body(new ParameterizedTypeReference<List<ArticleResponse>>() {
+                    });
+            if (articles == null || articles.isEmpty()) {
+                return articleIds;
+            }
+            articles.forEach(article -> articleIds.add(article.getArticleId()));
+            lastArticleId = articles.get(articles.size() - 1).getArticleId();
+        }
+    }
+
+    List<Long> readPage(long page) {
+        ArticlePageResponse response = restClient.get()
+                .uri("/v1/articles?boardId=%d&pageSize=%d&page=%d".formatted(BOARD_ID, PAGE_SIZE, page))
+                .retrieve()
+                .body(ArticlePageResponse.class);
+        return response.getArticles().stream().map(ArticleResponse::getArticleId).toList();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static class ArticleCreateRequest {
+        private String title;
+        private String content;
+        private Long writerId;
+        private Long boardId;
+    }
+
+}
@@ -0,0 +1,21 @@
+package lipam.board.article.data;
+
+import lipam.board.article.service.ArticlePageAnchorIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+public class ArticlePageAnchorInitializerTest {
+
+    @Autowired
+    ArticlePageAnchorIndex articlePageAnchorIndex;
+
+    // DataInitializerTest 로 넣은 게시글은 anchor 와 게시글 수가 없으므로, 한 번 재구성해 둔다.
+    @Test
+    void rebuild() {
+        long articleCount = articlePageAnchorIndex.rebuild(1L);
+        System.out.println("articleCount = " + articleCount);
+    }
+
+}
@@ -0,0 +1,31 @@
+package lipam.board.article.data;
+
+import lipam.board.article.shard.ShardRebalancer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+// 샤드를 추가한 뒤 실행한다. (article.shard.urls 에 새 DB 를 추가한 설정으로, 쓰기를 막은 상태에서)
+// FROM_SHARD_COUNT 는 추가하기 전의 샤드 수
+@SpringBootTest(properties = "article.shard.enabled=true")
+public class ShardRebalanceRunnerTest {
+
+    static final int FROM_SHARD_COUNT = 1;
+
+    @Autowired
+    ShardRebalancer shardRebalancer;
+
+    @Test
+    void copy() {
+        long boardCount = shardRebalancer.copy(FROM_SHARD_COUNT);
+        System.out.println("copied boardCount = " + boardCount);
+    }
+
+    // copy 결과를 확인한 뒤 실행한다.
+    @Test
+    void cleanup() {
+        long boardCount = shardRebalancer.cleanup(FROM_SHARD_COUNT);
+        System.out.println("cleaned boardCount = " + boardCount);
+    }
+
+}
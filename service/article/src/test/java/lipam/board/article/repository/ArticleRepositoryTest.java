@@ -6,6 +6,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -46,4 +48,14 @@ class ArticleRepositoryTest {
         }
     }
 
+    @Test
+    void findAllCreatedBetweenTest() {
+        Instant to = Instant.now();
+        Instant from = to.minus(Duration.ofDays(1));
+        List<Article> articles = articleRepository.findAllCreatedBetween(1L, from, to, 30L);
+        for (Article article : articles) {
+            log.info("articleId: {}, createdAt: {}", article.getArticleId(), article.getCreatedAt());
+        }
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,237 @@
+package lipam.board.article.service;
+
+import lipam.board.article.entity.ArticlePageAnchor;
+import lipam.board.article.repository.ArticlePageAnchorRepository;
+import lipam.board.article.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ArticlePageAnchorIndexTest {
+
+    @InjectMocks
+    ArticlePageAnchorIndex articlePageAnchorIndex;
+
+    @Mock
+    ArticleRepository articleRepository;
+    @Mock
+    ArticlePageAnchorRepository articlePageAnchorRepository;
+    @Mock
+    BoardArticleCounter boardArticleCounter;
+    @Mock
+    ArticlePageAnchorRepairer articlePageAnchorRepairer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(articlePageAnchorIndex, "anchorSize", 1000L);
+        ReflectionTestUtils.setField(articlePageAnchorIndex, "maxShift", 100L);
+    }
+
+    @Test
+    @DisplayName("offset 이 anchor 간격보다 작으면 기존 offset 방식으로 조회한다")
+    void findAllShallowPageTest() {
+        // when
+        articlePageAnchorIndex.findAll(1L, 990L, 30L);
+
+        // then
+        Mockito.verify(articleRepository).findAll(1L, 990L, 30L);
+        Mockito.verifyNoInteractions(articlePageAnchorRepository);
+    }
+
+    @Test
+    @DisplayName("깊은 페이지는 가장 가까운 anchor 부터 anchor 간격보다 작은 offset 만 건너뛴다")
+    void findAllDeepPageTest() {
+        // given
+        // 게시글 10,000 개 중 offset 2,500 → 페이지 첫 게시글은 오름차순 7,500 번째
+        // → 8,000 번째 게시글(anchor 8)부터 내림차순으로 500 개를 건너뛴다.
+        BDDMockito.given(boardArticleCounter.count(1L)).willReturn(10000L);
+        BDDMockito.given(articlePageAnchorRepository.findArticleId(1L, 8L))
+                .willReturn(800L);
+
+        // when
+        articlePageAnchorIndex.findAll(1L, 2500L, 30L);
+
+        // then
+        Mockito.verify(articleRepository).findAllFromAnchor(1L, 800L, 500L, 30L);
+        Mockito.verify(articleRepository, Mockito.never()).findAll(1L, 2500L, 30L);
+    }
+
+    @Test
+    @DisplayName("본문 없는 목록 조회도 같은 anchor 를 사용한다")
+    void findAllSummaryDeepPageTest() {
+        // given
+        BDDMockito.given(boardArticleCounter.count(1L)).willReturn(10000L);
+        BDDMockito.given(articlePageAnchorRepository.findArticleId(1L, 8L))
+                .willReturn(800L);
+
+        // when
+        articlePageAnchorIndex.findAllSummary(1L, 2500L, 30L, 0L);
+
+        // then
+        Mockito.verify(articleRepository).findAllSummaryFromAnchor(1L, 800L, 500L, 30L);
+        Mockito.verify(articleRepository, Mockito.never()).findAllSummaryFromAnchorWithPreview(1L, 800L, 500L, 30L, 0L);
+    }
+
+    @Test
+    @DisplayName("미리보기를 요청할 때만 미리보기 쿼리를 사용한다")
+    void findAllSummaryWithPreviewTest() {
+        // given
+        BDDMockito.given(boardArticleCounter.count(1L)).willReturn(10000L);
+        BDDMockito.given(articlePageAnchorRepository.findArticleId(1L, 8L))
+                .willReturn(800L);
+
+        // when
+        articlePageAnchorIndex.findAllSummary(1L, 2500L, 30L, 50L);
+        articlePageAnchorIndex.findAllSummary(1L, 10L, 30L, 50L);
+
+        // then
+        Mockito.verify(articleRepository).findAllSummaryFromAnchorWithPreview(1L, 800L, 500L, 30L, 50L);
+        Mockito.verify(articleRepository).findAllSummaryWithPreview(1L, 10L, 30L, 50L);
+        Mockito.verify(articleRepository, Mockito.never()).findAllSummary(1L, 10L, 30L);
+    }
+
+    @Test
+    @DisplayName("anchor 가 아직 없으면 기존 offset 방식으로 조회한다")
+    void findAllWithoutAnchorTest() {
+        // given
+        BDDMockito.given(boardArticleCounter.count(1L)).willReturn(10000L);
+        BDDMockito.given(articlePageAnchorRepository.findArticleId(1L, 8L))
+                .willReturn(null);
+
+        // when
+        articlePageAnchorIndex.findAll(1L, 2500L, 30L);
+
+        // then
+        Mockito.verify(articleRepository).findAll(1L, 2500L, 30L);
+    }
+
+    @Test
+    @DisplayName("마지막 anchor 이후 게시글이 anchor 간격만큼 쌓이면, guard 를 잡고 잠금 조회로 다음 anchor 를 추가한다")
+    void onCreatedTest() {
+        // given
+        ArticlePageAnchor lastAnchor = ArticlePageAnchor.create(1L, 2L, 2000L);
+        BDDMockito.given(articlePageAnchorRepository.findLast(1L)).willReturn(lastAnchor);
+        BDDMockito.given(articlePageAnchorRepository.countGuard(1L)).willReturn(1L);
+        BDDMockito.given(articlePageAnchorRepository.lockGuard(1L)).willReturn(0L);
+        BDDMockito.given(articlePageAnchorRepository.findLastLocked(1L)).willReturn(lastAnchor);
+        BDDMockito.given(articleRepository.findArticleIdAfterLocked(1L, 2000L, 999L)).willReturn(3001L);
+
+        // when
+        articlePageAnchorIndex.onCreated(1L, 3000L, 2999L); // 아직 3,000 개가 되지 않았다.
+        articlePageAnchorIndex.onCreated(1L, 3001L, 3000L);
+
+        // then
+        InOrder inOrder = Mockito.inOrder(articlePageAnchorRepository, articleRepository);
+        inOrder.verify(articlePageAnchorRepository).lockGuard(1L);
+        inOrder.verify(articleRepository).findArticleIdAfterLocked(1L, 2000L, 999L);
+        inOrder.verify(articlePageAnchorRepository).upsert(1L, 3L, 3001L);
+        Mockito.verify(articlePageAnchorRepository, Mockito.never()).shiftToPrevious(Mockito.anyLong(), Mockito.anyLong()); // 마지막 anchor 보다 큰 ID
+        Mockito.verify(articlePageAnchorRepository, Mockito.never()).createGuard(1L);
+        Mockito.verify(articleRepository, Mockito.never()).findArticleIdAfter(Mockito.anyLong(), Mockito.anyLong(), Mockito.anyLong());
+    }
+
+    @Test
+    @DisplayName("마지막 anchor 보다 작은 ID 의 게시글이 추가되면, 그 이후 anchor 를 바로 앞 게시글로 옮긴다")
+    void onCreatedOlderArticleTest() {
+        // given
+        BDDMockito.given(articlePageAnchorRepository.findLast(1L)).willReturn(ArticlePageAnchor.create(1L, 2L, 2000L));
+
+        // when
+        articlePageAnchorIndex.onCreated(1L, 1500L, 2500L);
+
+        // then
+        Mockito.verify(articlePageAnchorRepository).shiftToPrevious(1L, 1500L);
+        Mockito.verify(articlePageAnchorRepository, Mockito.never()).lockGuard(Mockito.anyLong());
+    }
+
+    @Test
+    @DisplayName("다른 트랜잭션이 guard 를 잡고 있으면 기다리지 않고 anchor 추가를 넘긴다")
+    void onCreatedGuardLockedTest() {
+        // given
+        BDDMockito.given(articlePageAnchorRepository.findLast(1L)).willReturn(ArticlePageAnchor.create(1L, 2L, 2000L));
+        BDDMockito.given(articlePageAnchorRepository.countGuard(1L)).willReturn(1L);
+        BDDMockito.given(articlePageAnchorRepository.lockGuard(1L)).willReturn(null);
+
+        // when
+        articlePageAnchorIndex.onCreated(1L, 3001L, 3000L);
+
+        // then
+        Mockito.verify(articlePageAnchorRepository, Mockito.never()).upsert(Mockito.anyLong(), Mockito.anyLong(), Mockito.anyLong());
+        Mockito.verifyNoMoreInteractions(articleRepository);
+    }
+
+    @Test
+    @DisplayName("첫 anchor 는 guard 를 만든 뒤 guard(게시글 ID 0) 다음부터 찾는다")
+    void onCreatedFirstAnchorTest() {
+        // given
+        BDDMockito.given(articlePageAnchorRepository.findLast(1L)).willReturn(null);
+        BDDMockito.given(articlePageAnchorRepository.countGuard(1L)).willReturn(0L);
+        BDDMockito.given(articlePageAnchorRepository.lockGuard(1L)).willReturn(0L);
+        BDDMockito.given(articlePageAnchorRepository.findLastLocked(1L)).willReturn(ArticlePageAnchor.create(1L, 0L, 0L));
+        BDDMockito.given(articleRepository.findArticleIdAfterLocked(1L, 0L, 999L)).willReturn(1000L);
+
+        // when
+        articlePageAnchorIndex.onCreated(1L, 1000L, 1000L);
+
+        // then
+        Mockito.verify(articlePageAnchorRepository).createGuard(1L);
+        Mockito.verify(articlePageAnchorRepository).upsert(1L, 1L, 1000L);
+    }
+
+    @Test
+    @DisplayName("게시글이 삭제되면 이후 anchor 를 다음 게시글로 옮기고, 옮길 곳이 없는 anchor 는 지운다")
+    void onDeletedTest() {
+        // given
+        BDDMockito.given(articlePageAnchorRepository.findFirstAnchorNoFrom(1L, 100L)).willReturn(3L);
+        BDDMockito.given(articlePageAnchorRepository.findLast(1L)).willReturn(ArticlePageAnchor.create(1L, 5L, 5000L));
+
+        // when
+        articlePageAnchorIndex.onDeleted(1L, 100L);
+
+        // then
+        InOrder inOrder = Mockito.inOrder(articlePageAnchorRepository);
+        inOrder.verify(articlePageAnchorRepository).shiftToNext(1L, 100L);
+        inOrder.verify(articlePageAnchorRepository).deleteEmpty(1L);
+        Mockito.verifyNoInteractions(articlePageAnchorRepairer);
+    }
+
+    @Test
+    @DisplayName("옮길 anchor 가 maxShift 개를 넘으면 옮기지 않고 잘라낸 뒤 커밋 후에 다시 채운다")
+    void onDeletedManyAnchorsTest() {
+        // given
+        BDDMockito.given(articlePageAnchorRepository.findFirstAnchorNoFrom(1L, 100L)).willReturn(2L);
+        BDDMockito.given(articlePageAnchorRepository.findLast(1L)).willReturn(ArticlePageAnchor.create(1L, 12000L, 12000000L));
+
+        // when
+        articlePageAnchorIndex.onDeleted(1L, 100L);
+
+        // then
+        Mockito.verify(articlePageAnchorRepository).deleteAfter(1L, 1L);
+        Mockito.verify(articlePageAnchorRepairer).repairAfterCommit(1L);
+        Mockito.verify(articlePageAnchorRepository, Mockito.never()).shiftToNext(1L, 100L);
+    }
+
+    @Test
+    @DisplayName("마지막 anchor 이후의 게시글이 삭제되면 옮길 anchor 가 없다")
+    void onDeletedAfterLastAnchorTest() {
+        // given
+        BDDMockito.given(articlePageAnchorRepository.findFirstAnchorNoFrom(1L, 100L)).willReturn(null);
+
+        // when
+        articlePageAnchorIndex.onDeleted(1L, 100L);
+
+        // then
+        Mockito.verify(articlePageAnchorRepository, Mockito.never()).shiftToNext(1L, 100L);
+        Mockito.verify(articlePageAnchorRepository, Mockito.never()).deleteAfter(Mockito.eq(1L), Mockito.anyLong());
+    }
+
+}
@@ -0,0 +1,73 @@
+package lipam.board.article.service;
+
+import lipam.board.article.repository.BoardArticleCountRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class BoardArticleCounterTest {
+
+    @InjectMocks
+    BoardArticleCounter boardArticleCounter;
+
+    @Mock
+    BoardArticleCountRepository boardArticleCountRepository;
+
+    @Test
+    @DisplayName("게시글 수는 slotCount 개의 slot 중 하나에만 더하고 뺀다")
+    void increaseAndDecreaseTest() {
+        // given
+        ReflectionTestUtils.setField(boardArticleCounter, "slotCount", 4);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            boardArticleCounter.increase(1L);
+            boardArticleCounter.decrease(1L);
+        }
+
+        // then
+        ArgumentCaptor<Long> increased = ArgumentCaptor.forClass(Long.class);
+        ArgumentCaptor<Long> decreased = ArgumentCaptor.forClass(Long.class);
+        Mockito.verify(boardArticleCountRepository, Mockito.times(100)).increase(Mockito.eq(1L), increased.capture());
+        Mockito.verify(boardArticleCountRepository, Mockito.times(100)).decrease(Mockito.eq(1L), decreased.capture());
+        assertThat(increased.getAllValues()).allMatch(slot -> slot >= 0 && slot < 4);
+        assertThat(decreased.getAllValues()).allMatch(slot -> slot >= 0 && slot < 4);
+        assertThat(increased.getAllValues().stream().distinct().count()).isGreaterThan(1); // 한 slot 에 몰리지 않는다.
+    }
+
+    @Test
+    @DisplayName("slotCount 가 1 이면 기존과 같이 게시판마다 row 하나(slot 0)만 사용한다")
+    void singleSlotTest() {
+        // given
+        ReflectionTestUtils.setField(boardArticleCounter, "slotCount", 1);
+
+        // when
+        boardArticleCounter.increase(1L);
+        boardArticleCounter.decrease(1L);
+
+        // then
+        Mockito.verify(boardArticleCountRepository).increase(1L, 0L);
+        Mockito.verify(boardArticleCountRepository).decrease(1L, 0L);
+    }
+
+    @Test
+    @DisplayName("게시글 수는 모든 slot 의 합이다")
+    void countTest() {
+        // given
+        BDDMockito.given(boardArticleCountRepository.sum(1L)).willReturn(42L);
+
+        // when, then
+        assertThat(boardArticleCounter.count(1L)).isEqualTo(42L);
+    }
+
+}
@@ -0,0 +1,170 @@
+package lipam.board.article.shard;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 샤드마다 H2 인메모리 DB(MySQL 모드)를 하나씩 띄워서 라우팅을 확인한다.
+class ArticleShardRouterTest {
+
+    ShardDataSources shardDataSources;
+    ArticleShardRouter articleShardRouter;
+    JdbcTemplate routingJdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        shardDataSources = ShardDataSources.of(List.of(h2("router_shard0"), h2("router_shard1")));
+        articleShardRouter = new ArticleShardRouter(shardDataSources);
+        ReflectionTestUtils.setField(articleShardRouter, "directoryCacheSize", 100);
+        routingJdbcTemplate = new JdbcTemplate(ShardRoutingDataSource.create(shardDataSources));
+
+        for (int shard = 0; shard < shardDataSources.size(); shard++) {
+            JdbcTemplate jdbcTemplate = shardDataSources.jdbcTemplate(shard);
+            jdbcTemplate.execute("create table article (article_id bigint primary key, board_id bigint not null)");
+            jdbcTemplate.execute("create table article_shard_directory (article_id bigint primary key, board_id bigint not null)");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (int shard = 0; shard < shardDataSources.size(); shard++) {
+            shardDataSources.jdbcTemplate(shard).execute("drop all objects");
+        }
+    }
+
+    @Test
+    @DisplayName("ShardContext 의 샤드에 해당하는 물리 DB 로 쿼리가 실행된다")
+    void routingTest() {
+        // when
+        for (long boardId = 1; boardId <= 4; boardId++) {
+            long articleId = boardId * 10;
+            ShardContext.run(articleShardRouter.shardOfBoard(boardId),
+                    () -> routingJdbcTemplate.update("insert into article values (?, ?)", articleId, articleId / 10));
+        }
+
+        // then
+        assertThat(articleIds(0)).containsExactly(20L, 40L);
+        assertThat(articleIds(1)).containsExactly(10L, 30L);
+        assertThat(ShardContext.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("articleId 는 디렉터리에서 게시판을 찾아 샤드를 정하고, 디렉터리에 없으면 모든 샤드에서 찾는다")
+    void shardOfArticleTest() {
+        // given
+        insertArticle(10L, 1L);
+        articleShardRouter.register(10L, 1L);
+        insertArticle(30L, 3L); // 디렉터리 도입 전 게시글
+
+        // when, then
+        assertThat(articleShardRouter.shardOfArticle(10L)).isEqualTo(1);
+        assertThat(articleShardRouter.shardOfArticle(30L)).isEqualTo(1);
+        assertThat(articleShardRouter.shardOfArticle(999L)).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("디렉터리에서 찾은 게시판은 캐시해서 다시 조회하지 않는다")
+    void shardOfArticleCacheTest() {
+        // given
+        insertArticle(10L, 1L);
+        articleShardRouter.register(10L, 1L);
+        articleShardRouter.shardOfArticle(10L);
+        shardDataSources.jdbcTemplate(0).execute("drop table article_shard_directory");
+
+        // when, then
+        assertThat(articleShardRouter.shardOfArticle(10L)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("디렉터리 기록/삭제는 트랜잭션이 커밋된 뒤에만 실행된다")
+    void registerAfterCommitTest() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            articleShardRouter.register(10L, 1L); // 롤백된 생성
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        articleShardRouter.register(30L, 3L);
+
+        // when
+        articleShardRouter.unregister(30L);
+
+        // then
+        assertThat(shardDataSources.jdbcTemplate(0).queryForObject(
+                "select count(*) from article_shard_directory", Long.class
+        )).isZero();
+    }
+
+    @Test
+    @DisplayName("scatter 는 샤드별로 나눠서 각 샤드에서 조회한 결과를 합친다")
+    void scatterTest() {
+        // given
+        for (long boardId = 1; boardId <= 4; boardId++) {
+            insertArticle(boardId * 10, boardId);
+            articleShardRouter.register(boardId * 10, boardId);
+        }
+        insertArticle(50L, 5L); // 디렉터리에 없는 게시글
+
+        // when
+        List<Long> result = articleShardRouter.scatter(
+                List.of(10L, 20L, 30L, 40L, 50L, 60L),
+                articleIds -> routingJdbcTemplate.queryForList(
+                        "select article_id from article where article_id in (%s)"
+                                .formatted(String.join(",", articleIds.stream().map(String::valueOf).toList())),
+                        Long.class
+                )
+        );
+
+        // then
+        assertThat(result).containsExactlyInAnyOrder(10L, 20L, 30L, 40L, 50L);
+    }
+
+    @Test
+    @DisplayName("scatter 는 샤드 하나라도 실패하면 일부 결과를 돌려주지 않고 예외를 던진다")
+    void scatterFailureTest() {
+        // given
+        for (long boardId = 1; boardId <= 2; boardId++) {
+            insertArticle(boardId * 10, boardId);
+            articleShardRouter.register(boardId * 10, boardId);
+        }
+        shardDataSources.jdbcTemplate(1).execute("drop table article");
+
+        // when, then
+        assertThatThrownBy(() -> articleShardRouter.scatter(
+                List.of(10L, 20L),
+                articleIds -> routingJdbcTemplate.queryForList(
+                        "select article_id from article where article_id in (%s)"
+                                .formatted(String.join(",", articleIds.stream().map(String::valueOf).toList())),
+                        Long.class
+                )
+        )).isInstanceOf(DataAccessException.class);
+    }
+
+    private void insertArticle(Long articleId, Long boardId) {
+        shardDataSources.jdbcTemplate(articleShardRouter.shardOfBoard(boardId))
+                .update("insert into article values (?, ?)", articleId, boardId);
+    }
+
+    private List<Long> articleIds(int shard) {
+        return shardDataSources.jdbcTemplate(shard)
+                .queryForList("select article_id from article order by article_id", Long.class);
+    }
+
+    static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:%s;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1".formatted(name));
+    }
+
+}
@@ -0,0 +1,82 @@
+package lipam.board.article.shard;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShardRebalancerTest {
+
+    ShardDataSources shardDataSources;
+    ShardRebalancer shardRebalancer;
+
+    @BeforeEach
+    void setUp() {
+        shardDataSources = ShardDataSources.of(List.of(
+                ArticleShardRouterTest.h2("rebalance_shard0"), ArticleShardRouterTest.h2("rebalance_shard1")
+        ));
+        shardRebalancer = new ShardRebalancer(shardDataSources, new ArticleShardRouter(shardDataSources));
+
+        for (int shard = 0; shard < shardDataSources.size(); shard++) {
+            JdbcTemplate jdbcTemplate = shardDataSources.jdbcTemplate(shard);
+            jdbcTemplate.execute("create table article (article_id bigint primary key, title varchar(100), content varchar(3000), " +
+                    "board_id bigint, writer_id bigint, created_at datetime, modified_at datetime)");
+            jdbcTemplate.execute("create table board_article_count (board_id bigint, slot bigint, article_count bigint, primary key (board_id, slot))");
+            jdbcTemplate.execute("create table article_page_anchor (board_id bigint, anchor_no bigint, article_id bigint, primary key (board_id, anchor_no))");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (int shard = 0; shard < shardDataSources.size(); shard++) {
+            shardDataSources.jdbcTemplate(shard).execute("drop all objects");
+        }
+    }
+
+    @Test
+    @DisplayName("샤드를 1 개에서 2 개로 늘리면 홀수 게시판이 1번 샤드로 옮겨진다")
+    void rebalanceTest() {
+        // given: 샤드가 하나일 때 쌓인 게시판 1, 2
+        JdbcTemplate shard0 = shardDataSources.jdbcTemplate(0);
+        JdbcTemplate shard1 = shardDataSources.jdbcTemplate(1);
+        for (long articleId = 1; articleId <= 2500; articleId++) {
+            shard0.update("insert into article values (?, 'title', 'content', ?, 1, ?, ?)",
+                    articleId, articleId % 2 + 1, LocalDateTime.now(), LocalDateTime.now());
+        }
+        shard0.update("insert into board_article_count values (1, 0, 1000), (1, 3, 250), (2, 0, 1250)");
+        shard0.update("insert into article_page_anchor values (1, 1, 1000), (2, 1, 999)");
+
+        // when
+        long copied = shardRebalancer.copy(1);
+        long copiedAgain = shardRebalancer.copy(1); // 다시 실행해도 결과가 같다.
+        long cleaned = shardRebalancer.cleanup(1);
+
+        // then
+        assertThat(copied).isEqualTo(1);
+        assertThat(copiedAgain).isEqualTo(1);
+        assertThat(cleaned).isEqualTo(1);
+
+        assertThat(shard1.queryForObject("select count(*) from article where board_id = 1", Long.class)).isEqualTo(1250L);
+        assertThat(shard1.queryForObject("select sum(article_count) from board_article_count where board_id = 1", Long.class)).isEqualTo(1250L);
+        assertThat(shard1.queryForObject("select article_id from article_page_anchor where board_id = 1", Long.class)).isEqualTo(1000L);
+
+        assertThat(shard0.queryForObject("select count(*) from article where board_id = 1", Long.class)).isZero();
+        assertThat(shard0.queryForObject("select count(*) from board_article_count where board_id = 1", Long.class)).isZero();
+        assertThat(shard0.queryForObject("select count(*) from article where board_id = 2", Long.class)).isEqualTo(1250L);
+        assertThat(shard1.queryForObject("select count(*) from article where board_id = 2", Long.class)).isZero();
+    }
+
+    @Test
+    void invalidFromShardCountTest() {
+        assertThatThrownBy(() -> shardRebalancer.copy(3)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> shardRebalancer.cleanup(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
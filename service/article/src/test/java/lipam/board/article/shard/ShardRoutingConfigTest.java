@@ -0,0 +1,43 @@
+package lipam.board.article.shard;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShardRoutingConfigTest {
+
+    @Test
+    @DisplayName("샤드마다 만드는 커넥션 풀에 spring.datasource.hikari.* 설정이 적용된다")
+    void hikariPropertiesTest() {
+        // given
+        DataSourceProperties dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl("jdbc:h2:mem:config_default"); // 샤드 url 로 바뀐다.
+        dataSourceProperties.setDriverClassName("org.h2.Driver");
+        dataSourceProperties.setUsername("sa");
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.datasource.hikari.maximum-pool-size", "3")
+                .withProperty("spring.datasource.hikari.connection-timeout", "1500");
+
+        // when
+        try (ShardDataSources shardDataSources = new ShardRoutingConfig().shardDataSources(
+                List.of("jdbc:h2:mem:config_shard0", "jdbc:h2:mem:config_shard1"), dataSourceProperties, environment
+        )) {
+            // then
+            for (int shard = 0; shard < shardDataSources.size(); shard++) {
+                HikariDataSource dataSource = (HikariDataSource) shardDataSources.get(shard);
+                assertThat(dataSource.getJdbcUrl()).isEqualTo("jdbc:h2:mem:config_shard" + shard);
+                assertThat(dataSource.getUsername()).isEqualTo("sa");
+                assertThat(dataSource.getMaximumPoolSize()).isEqualTo(3);
+                assertThat(dataSource.getConnectionTimeout()).isEqualTo(1500L);
+                assertThat(dataSource.getPoolName()).isEqualTo("article-shard-" + shard);
+            }
+        }
+    }
+
+}
@@ -5,7 +5,7 @@ import lipam.board.comment.repository.CommentRepository;
 import lipam.board.comment.service.request.CommentCreateRequest;
 import lipam.board.comment.service.response.CommentPageResponse;
 import lipam.board.comment.service.response.CommentResponse;
-import lipam.board.common.snowflake.Snowflake;
+import lipam.board.common.snowflake.LockFreeSnowflake;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,7 +19,7 @@ import static java.util.function.Predicate.not;
 public class CommentService {
 
     private final CommentRepository commentRepository;
-    private final Snowflake snowflake = new Snowflake();
+    private final LockFreeSnowflake snowflake;
 
     @Transactional
     public CommentResponse create(CommentCreateRequest request) {
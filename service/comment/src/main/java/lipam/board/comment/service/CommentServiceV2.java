@@ -12,7 +12,7 @@ import lipam.board.common.event.EventType;
 import lipam.board.common.event.payload.CommentCreatedEventPayload;
 import lipam.board.common.event.payload.CommentDeletedEventPayload;
 import lipam.board.common.outboxmessagerelay.OutboxEventPublisher;
-import lipam.board.common.snowflake.Snowflake;
+import lipam.board.common.snowflake.LockFreeSnowflake;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,7 +25,7 @@ import static java.util.function.Predicate.not;
 @RequiredArgsConstructor
 public class CommentServiceV2 {
 
-    private final Snowflake snowflake = new Snowflake();
+    private final LockFreeSnowflake snowflake;
     private final CommentRepositoryV2 commentRepository;
     private final ArticleCommentCountRepository articleCommentCountRepository;
     private final OutboxEventPublisher outboxEventPublisher;
@@ -5,10 +5,12 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Slf4j
 @Component
@@ -38,6 +40,27 @@ public class ArticleClient {
         return null;
     }
 
+    // 인기글 목록의 원본 게시글을 한 번의 요청으로 조회한다.
+    public List<ArticleResponse> readAll(List<Long> articleIds) {
+        if (articleIds.isEmpty()) {
+            return List.of();
+        }
+
+        try {
+            return restClient.get()
+                    .uri(uriBuilder -> uriBuilder.path("/v1/articles/batch")
+                            .queryParam("articleIds", articleIds)
+                            .build())
+                    .retrieve()
+                    .body(new ParameterizedTypeReference<List<ArticleResponse>>() {
+                    });
+        } catch (Exception e) {
+            log.error("[ArticleClient.readAll] articleIds={}", articleIds, e);
+        }
+
+        return List.of();
+    }
+
     @Getter
     public static class ArticleResponse {
         private Long articleId;
@@ -1,23 +1,59 @@
 package lipam.board.hotarticle.config;
 
+import lipam.board.common.event.Event;
+import lipam.board.common.event.EventPayload;
+import lipam.board.common.event.EventType;
+import lipam.board.common.event.EventTypeRecordFilterStrategy;
+import lipam.board.hotarticle.service.eventhandler.EventHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.listener.ContainerProperties;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
 @Configuration
 public class KafkaConfig {
 
     @Bean
     public ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory(
-            ConsumerFactory<String, String> consumerFactory
+            ConsumerFactory<String, String> consumerFactory,
+            EventTypeRecordFilterStrategy<String> eventTypeRecordFilterStrategy,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
     ) {
         ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory);
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL); // setAckMode() : enable-auto-commit: false 이기 때문에 해야
+        factory.setRecordFilterStrategy(eventTypeRecordFilterStrategy); // 처리할 EventHandler 가 없는 이벤트는 헤더만 보고 본문 파싱 전에 버린다.
+        factory.setAckDiscarded(true); // 버린 레코드도 커밋해서 다시 받지 않도록 한다.
+        if (virtualThreads) { // 직접 만든 컨테이너 팩토리에는 spring.threads.virtual.enabled 가 자동 적용되지 않으므로, 리스너 스레드를 가상 스레드로 지정한다.
+            SimpleAsyncTaskExecutor listenerTaskExecutor = new SimpleAsyncTaskExecutor("hot-article-listener-");
+            listenerTaskExecutor.setVirtualThreads(true);
+            factory.getContainerProperties().setListenerTaskExecutor(listenerTaskExecutor);
+        }
 
         return factory;
     }
 
+    // EventHandler 중 하나라도 지원하는 이벤트 타입만 리스너로 넘긴다.
+    @Bean
+    public EventTypeRecordFilterStrategy<String> eventTypeRecordFilterStrategy(List<EventHandler<?>> eventHandlers) {
+        return EventTypeRecordFilterStrategy.of(
+                Arrays.stream(EventType.values())
+                        .filter(type -> eventHandlers.stream().anyMatch(eventHandler -> supports(eventHandler, type)))
+                        .collect(Collectors.toSet())
+        );
+    }
+
+    // supports 는 이벤트 타입만 보므로, payload 가 없는 이벤트를 핸들러의 payload 타입으로 바꿔서 넘겨도 안전하다.
+    @SuppressWarnings("unchecked")
+    private static <T extends EventPayload> boolean supports(EventHandler<T> eventHandler, EventType type) {
+        return eventHandler.supports((Event<T>) Event.of(null, type, null));
+    }
+
 }
@@ -2,6 +2,7 @@ package lipam.board.hotarticle.service;
 
 import lipam.board.common.event.Event;
 import lipam.board.common.event.EventPayload;
+import lipam.board.common.snowflake.SnowflakeId;
 import lipam.board.hotarticle.repository.ArticleCreatedTimeRepository;
 import lipam.board.hotarticle.repository.HotArticleListRepository;
 import lipam.board.hotarticle.service.eventhandler.EventHandler;
@@ -11,6 +12,7 @@ import org.springframework.stereotype.Component;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 @Component
 @RequiredArgsConstructor
@@ -25,10 +27,16 @@ public class HotArticleScoreUpdater {
 
     public void update(Event<EventPayload> event, EventHandler<EventPayload> eventHandler) {
         Long articleId = eventHandler.findArticleId(event); // event 에 대한 payload 를 검사하고 이벤트핸들러에서 ArticleId 추출
-        LocalDateTime createdTime = articleCreatedTimeRepository.read(articleId); // 찾은 ArticleId 로 생성시간을 찾음
 
-        // 생성 시간이 오늘이 아니라면 이벤트를 처리하지 않는다.
-        if (!isArticleCreatedToday(createdTime)) {
+        // articleId 는 Snowflake ID 이므로 생성 시각이 ID 에 들어있다.
+        // 오늘 작성된 게시글이 아니라면 Redis 조회 없이 바로 이벤트를 처리하지 않는다.
+        if (!isArticleCreatedToday(SnowflakeId.createdAt(articleId, ZoneId.systemDefault()))) {
+            return;
+        }
+
+        // 오늘 작성된 게시글이라도, 아직 생성 이벤트를 받지 못했거나 삭제된 게시글이면 생성시간이 없으므로 처리하지 않는다.
+        LocalDateTime createdTime = articleCreatedTimeRepository.read(articleId);
+        if (createdTime == null) {
             return;
         }
 
@@ -48,7 +56,7 @@ public class HotArticleScoreUpdater {
     }
 
     private boolean isArticleCreatedToday(LocalDateTime createdTime) {
-        return createdTime != null && createdTime.toLocalDate().equals(LocalDate.now());
+        return createdTime.toLocalDate().equals(LocalDate.now());
     }
 
 }
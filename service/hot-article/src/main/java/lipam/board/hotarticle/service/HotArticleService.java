@@ -12,7 +12,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 // HotArticleRepository 에는 게시글 ID 만 저장, 원본 게시글의 정보는 여기서 조회한다.
 @Slf4j
@@ -53,9 +56,14 @@ public class HotArticleService {
     }
 
     public List<HotArticleResponse> readAll(String dateStr) { // yyyyMMdd
-        return hotArticleListRepository.readAll(dateStr).stream()
-                .map(articleClient::read) // 원본 데이터 반환
-                .filter(Objects::nonNull) // 조회 실패(null)한 게시글은 제외
+        List<Long> articleIds = hotArticleListRepository.readAll(dateStr);
+        // 원본 데이터를 한 번의 요청으로 가져온다.
+        Map<Long, ArticleClient.ArticleResponse> articleMap = articleClient.readAll(articleIds).stream()
+                .collect(Collectors.toMap(ArticleClient.ArticleResponse::getArticleId, Function.identity()));
+
+        return articleIds.stream() // 인기글 순위 순서 유지
+                .map(articleMap::get)
+                .filter(Objects::nonNull) // 조회 실패한 게시글은 제외
                 .map(HotArticleResponse::from) // 조회한 원본 데이터를 HotArticleResponse 로 변환
                 .toList();
     }
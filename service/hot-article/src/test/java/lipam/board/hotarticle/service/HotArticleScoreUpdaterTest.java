@@ -1,6 +1,7 @@
 package lipam.board.hotarticle.service;
 
 import lipam.board.common.event.Event;
+import lipam.board.common.snowflake.SnowflakeId;
 import lipam.board.hotarticle.repository.ArticleCreatedTimeRepository;
 import lipam.board.hotarticle.repository.HotArticleListRepository;
 import lipam.board.hotarticle.service.eventhandler.EventHandler;
@@ -11,6 +12,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
 
 import static org.mockito.BDDMockito.given;
@@ -34,29 +36,46 @@ class HotArticleScoreUpdaterTest {
     @Test
     void updateIfArticleNotCreatedTodayTest() {
         // given
-        Long articleId = 1L;
+        Long articleId = SnowflakeId.minIdAt(Instant.now().minus(Duration.ofDays(1))); // 어제 생성된 글의 ID 로 가정
         Event event = mock(Event.class);  // 이벤트 객체를 mock으로 생성(실제 구현/데이터 불필요)
         EventHandler eventHandler = mock(EventHandler.class); // 이벤트 처리기 mock(행동 검증용)
 
-        given(eventHandler.findArticleId(event)).willReturn(articleId); // 이벤트에서 articleId를 추출하면 1L이 나오도록 설정
-
-        LocalDateTime createdTime = LocalDateTime.now().minusDays(1); // 어제 생성된 글로 가정
-        given(articleCreatedTimeRepository.read(articleId)).willReturn(createdTime); // createdAt 조회 시 "어제" 시간 반환하도록 설정
+        given(eventHandler.findArticleId(event)).willReturn(articleId); // 이벤트에서 articleId를 추출하면 어제 생성된 ID 가 나오도록 설정
 
         // when
         hotArticleScoreUpdater.update(event, eventHandler); // 업데이트 로직 수행
 
         // then
         // 오늘 생성된 글이 아니면 아무 처리도 하지 않아야 함.
+        verify(articleCreatedTimeRepository, never()).read(anyLong()); // ID 만으로 판단하므로 Redis 조회도 하지 않아야 한다.
         verify(eventHandler, never()).handle(event); // 이벤트 핸들러의 실제 처리(handle)가 호출되지 않아야 한다.
         verify(hotArticleListRepository, never()) // 인기글 목록(ZSET)에도 반영(add)되지 않아야 한다.
                 .add(anyLong(), any(LocalDateTime.class), anyLong(), anyLong(), any(Duration.class));
     }
 
+    @Test
+    void updateIfArticleCreatedTimeNotExistsTest() {
+        // given
+        Long articleId = SnowflakeId.minIdAt(Instant.now()); // 오늘 생성된 글의 ID 로 가정
+        Event event = mock(Event.class);
+        EventHandler eventHandler = mock(EventHandler.class);
+
+        given(eventHandler.findArticleId(event)).willReturn(articleId);
+        given(articleCreatedTimeRepository.read(articleId)).willReturn(null); // 삭제되었거나 생성 이벤트를 아직 받지 못한 게시글
+
+        // when
+        hotArticleScoreUpdater.update(event, eventHandler);
+
+        // then
+        verify(eventHandler, never()).handle(event);
+        verify(hotArticleListRepository, never())
+                .add(anyLong(), any(LocalDateTime.class), anyLong(), anyLong(), any(Duration.class));
+    }
+
     @Test
     void updateTest() {
         // given
-        Long articleId = 1L;
+        Long articleId = SnowflakeId.minIdAt(Instant.now()); // 오늘 생성된 글의 ID 로 가정
         Event event = mock(Event.class);
         EventHandler eventHandler = mock(EventHandler.class);
 
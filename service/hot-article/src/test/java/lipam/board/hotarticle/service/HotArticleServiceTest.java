@@ -2,7 +2,10 @@ package lipam.board.hotarticle.service;
 
 import lipam.board.common.event.Event;
 import lipam.board.common.event.EventType;
+import lipam.board.hotarticle.client.ArticleClient;
+import lipam.board.hotarticle.repository.HotArticleListRepository;
 import lipam.board.hotarticle.service.eventhandler.EventHandler;
+import lipam.board.hotarticle.service.response.HotArticleResponse;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.BDDMockito;
@@ -13,6 +16,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.List;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -28,6 +32,12 @@ class HotArticleServiceTest {
     @Mock
     HotArticleScoreUpdater hotArticleScoreUpdater;
 
+    @Mock
+    ArticleClient articleClient;
+
+    @Mock
+    HotArticleListRepository hotArticleListRepository;
+
     @Test
     void handleEventIfEventHandlerNotFoundTest() {
         // given
@@ -102,4 +112,27 @@ class HotArticleServiceTest {
         verify(hotArticleScoreUpdater).update(event, eventHandler); // 점수 업데이트(update)는 호출되어야 한다.
     }
 
+    @Test
+    void readAllTest() {
+        // given
+        given(hotArticleListRepository.readAll("20260101")).willReturn(List.of(3L, 1L, 2L)); // 인기글 순위 순서
+        ArticleClient.ArticleResponse article1 = createArticle(1L);
+        ArticleClient.ArticleResponse article3 = createArticle(3L);
+        given(articleClient.readAll(List.of(3L, 1L, 2L))).willReturn(List.of(article1, article3)); // 2번 게시글은 조회 실패
+
+        // when
+        List<HotArticleResponse> result = hotArticleService.readAll("20260101");
+
+        // then
+        // 원본 게시글은 한 번의 요청으로 조회하고, 인기글 순위 순서를 유지한다.
+        assertThat(result).extracting(HotArticleResponse::getArticleId).containsExactly(3L, 1L);
+        verify(articleClient, never()).read(anyLong());
+    }
+
+    private ArticleClient.ArticleResponse createArticle(Long articleId) {
+        ArticleClient.ArticleResponse article = mock(ArticleClient.ArticleResponse.class);
+        given(article.getArticleId()).willReturn(articleId);
+        return article;
+    }
+
 }
\ No newline at end of file
@@ -4,7 +4,7 @@ import lipam.board.common.event.EventType;
 import lipam.board.common.event.payload.ArticleLikedEventPayload;
 import lipam.board.common.event.payload.ArticleUnlikedEventPayload;
 import lipam.board.common.outboxmessagerelay.OutboxEventPublisher;
-import lipam.board.common.snowflake.Snowflake;
+import lipam.board.common.snowflake.LockFreeSnowflake;
 import lipam.board.like.entity.ArticleLike;
 import lipam.board.like.entity.ArticleLikeCount;
 import lipam.board.like.repository.ArticleLikeCountRepository;
@@ -18,7 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ArticleLikeService {
 
-    private final Snowflake snowflake = new Snowflake();
+    private final LockFreeSnowflake snowflake;
     private final ArticleLikeRepository articleLikeRepository;
     private final ArticleLikeCountRepository articleLikeCountRepository;
     private final OutboxEventPublisher outboxEventPublisher;